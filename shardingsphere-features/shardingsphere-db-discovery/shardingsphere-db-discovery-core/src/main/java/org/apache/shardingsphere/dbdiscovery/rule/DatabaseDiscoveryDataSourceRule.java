@@ -19,6 +19,7 @@ package org.apache.shardingsphere.dbdiscovery.rule;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.dbdiscovery.api.config.rule.DatabaseDiscoveryDataSourceRuleConfiguration;
 import org.apache.shardingsphere.dbdiscovery.spi.DatabaseDiscoveryProviderAlgorithm;
@@ -31,7 +32,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -50,6 +53,9 @@ public final class DatabaseDiscoveryDataSourceRule {
     
     private final Collection<String> disabledDataSourceNames = new HashSet<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Long> replicationDelayMilliseconds = new ConcurrentHashMap<>();
+    
     private volatile String primaryDataSourceName;
     
     public DatabaseDiscoveryDataSourceRule(final DatabaseDiscoveryDataSourceRuleConfiguration config,
@@ -93,6 +99,26 @@ public final class DatabaseDiscoveryDataSourceRule {
         disabledDataSourceNames.remove(dataSourceName);
     }
     
+    /**
+     * Update replication delay milliseconds of data source.
+     *
+     * @param dataSourceName data source name
+     * @param delayMilliseconds replication delay milliseconds
+     */
+    public void updateReplicationDelayMilliseconds(final String dataSourceName, final long delayMilliseconds) {
+        replicationDelayMilliseconds.put(dataSourceName, delayMilliseconds);
+    }
+    
+    /**
+     * Find replication delay milliseconds of data source.
+     *
+     * @param dataSourceName data source name
+     * @return replication delay milliseconds, empty if not reported
+     */
+    public Optional<Long> findReplicationDelayMilliseconds(final String dataSourceName) {
+        return Optional.ofNullable(replicationDelayMilliseconds.get(dataSourceName));
+    }
+    
     /**
      * Change primary data source name.
      *
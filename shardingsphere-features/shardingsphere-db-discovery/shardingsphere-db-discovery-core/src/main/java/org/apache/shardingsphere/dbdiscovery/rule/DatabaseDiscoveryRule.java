@@ -196,6 +196,11 @@ public final class DatabaseDiscoveryRule implements DatabaseRule, DataSourceCont
         return dataSourceRules.get(dataSourceName).getReplicaDataSourceNames();
     }
     
+    @Override
+    public Optional<Long> findReplicationDelayMilliseconds(final String dataSourceName, final String replicaDataSourceName) {
+        return dataSourceRules.get(dataSourceName).findReplicationDelayMilliseconds(replicaDataSourceName);
+    }
+    
     @Override
     public void updateStatus(final DataSourceStatusChangedEvent event) {
         StorageNodeDataSourceChangedEvent dataSourceChangedEvent = (StorageNodeDataSourceChangedEvent) event;
@@ -206,6 +211,7 @@ public final class DatabaseDiscoveryRule implements DatabaseRule, DataSourceCont
         } else {
             dataSourceRule.enableDataSource(dataSourceChangedEvent.getQualifiedDatabase().getDataSourceName());
         }
+        dataSourceRule.updateReplicationDelayMilliseconds(dataSourceChangedEvent.getQualifiedDatabase().getDataSourceName(), dataSourceChangedEvent.getDataSource().getReplicationDelayMilliseconds());
     }
     
     @Override
@@ -26,6 +26,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -60,6 +61,13 @@ public final class DatabaseDiscoveryDataSourceRuleTest {
         assertThat(databaseDiscoveryDataSourceRule.getDataSourceNames(), is(Arrays.asList("ds_0", "ds_1")));
     }
     
+    @Test
+    public void assertFindReplicationDelayMilliseconds() {
+        assertThat(databaseDiscoveryDataSourceRule.findReplicationDelayMilliseconds("ds_1"), is(Optional.empty()));
+        databaseDiscoveryDataSourceRule.updateReplicationDelayMilliseconds("ds_1", 1000L);
+        assertThat(databaseDiscoveryDataSourceRule.findReplicationDelayMilliseconds("ds_1"), is(Optional.of(1000L)));
+    }
+    
     @Test
     public void assertGetDataSourceMapper() {
         assertThat(databaseDiscoveryDataSourceRule.getDataSourceMapper(), is(getExpectedDataSourceMapper()));
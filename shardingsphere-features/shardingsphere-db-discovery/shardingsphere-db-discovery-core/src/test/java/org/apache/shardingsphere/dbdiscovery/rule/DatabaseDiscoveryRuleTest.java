@@ -25,6 +25,11 @@ import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
 import org.apache.shardingsphere.infra.config.mode.PersistRepositoryConfiguration;
 import org.apache.shardingsphere.infra.distsql.constant.ExportableConstants;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedDatabase;
+import org.apache.shardingsphere.mode.metadata.storage.StorageNodeDataSource;
+import org.apache.shardingsphere.mode.metadata.storage.StorageNodeRole;
+import org.apache.shardingsphere.mode.metadata.storage.StorageNodeStatus;
+import org.apache.shardingsphere.mode.metadata.storage.event.StorageNodeDataSourceChangedEvent;
 import org.apache.shardingsphere.schedule.core.ScheduleContextFactory;
 import org.apache.shardingsphere.test.mock.MockedDataSource;
 import org.junit.AfterClass;
@@ -92,6 +97,16 @@ public final class DatabaseDiscoveryRuleTest {
         return result;
     }
     
+    @Test
+    public void assertUpdateStatusWithReplicationDelay() {
+        DatabaseDiscoveryRule databaseDiscoveryRule = createRule();
+        assertThat(databaseDiscoveryRule.findReplicationDelayMilliseconds("replica_ds", "replica_ds_0"), is(Optional.empty()));
+        databaseDiscoveryRule.updateStatus(new StorageNodeDataSourceChangedEvent(new QualifiedDatabase("db_discovery.replica_ds.replica_ds_0"),
+                new StorageNodeDataSource(StorageNodeRole.MEMBER, StorageNodeStatus.ENABLED, 1000L)));
+        assertThat(databaseDiscoveryRule.findReplicationDelayMilliseconds("replica_ds", "replica_ds_0"), is(Optional.of(1000L)));
+        assertThat(databaseDiscoveryRule.getReplicaDataSourceNames("replica_ds"), is(Arrays.asList("replica_ds_0", "replica_ds_1")));
+    }
+    
     @Test
     public void assertGetExportedMethods() {
         DatabaseDiscoveryRule databaseDiscoveryRule = createRule();
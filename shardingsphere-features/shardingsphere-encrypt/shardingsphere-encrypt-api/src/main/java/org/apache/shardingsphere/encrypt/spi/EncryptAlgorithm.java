@@ -20,6 +20,9 @@ package org.apache.shardingsphere.encrypt.spi;
 import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithm;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Encrypt algorithm.
  * 
@@ -45,4 +48,38 @@ public interface EncryptAlgorithm<I, O> extends ShardingSphereAlgorithm {
      * @return plain value
      */
     I decrypt(O cipherValue, EncryptContext encryptContext);
+    
+    /**
+     * Encode in batch.
+     * 
+     * <p>Plain values should belong to the same column, null values are kept as null.</p>
+     *
+     * @param plainValues plain values
+     * @param encryptContext encrypt context
+     * @return cipher values with same order of plain values
+     */
+    default List<O> encryptBatch(final List<I> plainValues, final EncryptContext encryptContext) {
+        List<O> result = new ArrayList<>(plainValues.size());
+        for (I each : plainValues) {
+            result.add(null == each ? null : encrypt(each, encryptContext));
+        }
+        return result;
+    }
+    
+    /**
+     * Decode in batch.
+     * 
+     * <p>Cipher values should belong to the same column, null values are kept as null.</p>
+     *
+     * @param cipherValues cipher values
+     * @param encryptContext encrypt context
+     * @return plain values with same order of cipher values
+     */
+    default List<I> decryptBatch(final List<O> cipherValues, final EncryptContext encryptContext) {
+        List<I> result = new ArrayList<>(cipherValues.size());
+        for (O each : cipherValues) {
+            result.add(null == each ? null : decrypt(each, encryptContext));
+        }
+        return result;
+    }
 }
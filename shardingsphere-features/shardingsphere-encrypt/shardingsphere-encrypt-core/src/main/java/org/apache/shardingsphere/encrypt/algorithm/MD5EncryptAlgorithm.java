@@ -18,10 +18,13 @@
 package org.apache.shardingsphere.encrypt.algorithm;
 
 import lombok.Getter;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Properties;
 
 /**
@@ -30,6 +33,8 @@ import java.util.Properties;
 @Getter
 public final class MD5EncryptAlgorithm implements EncryptAlgorithm<Object, String> {
     
+    private static final ThreadLocal<MessageDigest> MD5_DIGEST = ThreadLocal.withInitial(DigestUtils::getMd5Digest);
+    
     private Properties props;
     
     @Override
@@ -39,7 +44,7 @@ public final class MD5EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
     
     @Override
     public String encrypt(final Object plainValue, final EncryptContext encryptContext) {
-        return null == plainValue ? null : DigestUtils.md5Hex(String.valueOf(plainValue));
+        return null == plainValue ? null : Hex.encodeHexString(MD5_DIGEST.get().digest(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8)));
     }
     
     @Override
@@ -24,7 +24,6 @@ import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
 import java.util.Properties;
 
 /**
@@ -41,15 +40,15 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
     @Getter
     private Properties props;
     
-    private volatile byte[] key = new byte[SBOX_LENGTH - 1];
+    private byte[] key;
     
-    private volatile int[] sBox = new int[SBOX_LENGTH];
+    private int[] keyScheduledSBox;
     
     @Override
     public void init(final Properties props) {
         this.props = props;
-        reset();
         setKey(props.getProperty(RC4_KEY, "").getBytes(StandardCharsets.UTF_8));
+        keyScheduledSBox = initSBox(key);
     }
     
     private void setKey(final byte[] key) throws ShardingSphereException {
@@ -77,16 +76,11 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         return crypt(data);
     }
     
-    private void reset() {
-        Arrays.fill(key, (byte) 0);
-        Arrays.fill(sBox, 0);
-    }
-    
     /*
      * @see <a href="http://en.wikipedia.org/wiki/RC4#Pseudo-random_generation_algorithm_.28PRGA.29">Pseudo-random generation algorithm</a>
      */
     private byte[] crypt(final byte[] message) {
-        sBox = initSBox(key);
+        int[] sBox = keyScheduledSBox.clone();
         byte[] result = new byte[message.length];
         int i = 0;
         int j = 0;
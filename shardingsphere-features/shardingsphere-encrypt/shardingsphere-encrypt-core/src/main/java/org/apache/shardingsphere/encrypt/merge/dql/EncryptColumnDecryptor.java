@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Decryptor of cipher column in query result.
+ */
+@SuppressWarnings("rawtypes")
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class EncryptColumnDecryptor {
+    
+    private final EncryptAlgorithm encryptAlgorithm;
+    
+    private final EncryptContext encryptContext;
+    
+    /**
+     * Find decryptor of column.
+     *
+     * @param metaData encrypt algorithm meta data
+     * @param columnIndex column index
+     * @return decryptor of column, empty if column is not queried with cipher column
+     */
+    public static Optional<EncryptColumnDecryptor> find(final EncryptAlgorithmMetaData metaData, final int columnIndex) {
+        Optional<EncryptContext> encryptContext = metaData.findEncryptContext(columnIndex);
+        if (!encryptContext.isPresent() || !metaData.isQueryWithCipherColumn(encryptContext.get().getTableName(), encryptContext.get().getColumnName())) {
+            return Optional.empty();
+        }
+        Optional<EncryptAlgorithm> encryptAlgorithm = metaData.findEncryptor(encryptContext.get().getTableName(), encryptContext.get().getColumnName());
+        return encryptAlgorithm.map(optional -> new EncryptColumnDecryptor(optional, encryptContext.get()));
+    }
+    
+    /**
+     * Decrypt.
+     *
+     * @param cipherValue cipher value
+     * @return plain value
+     */
+    @SuppressWarnings("unchecked")
+    public Object decrypt(final Object cipherValue) {
+        return null == cipherValue ? null : encryptAlgorithm.decrypt(cipherValue, encryptContext);
+    }
+    
+    /**
+     * Decrypt in batch.
+     *
+     * @param cipherValues cipher values
+     * @return plain values with same order of cipher values
+     */
+    @SuppressWarnings("unchecked")
+    public List<Object> decrypt(final List<Object> cipherValues) {
+        return encryptAlgorithm.decryptBatch(cipherValues, encryptContext);
+    }
+}
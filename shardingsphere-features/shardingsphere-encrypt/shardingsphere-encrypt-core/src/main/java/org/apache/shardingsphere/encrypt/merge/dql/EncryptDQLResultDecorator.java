@@ -19,27 +19,79 @@ package org.apache.shardingsphere.encrypt.merge.dql;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.ProjectionsContext;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.ShorthandProjection;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.engine.decorator.ResultDecorator;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
 
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 /**
  * DQL result decorator for encrypt.
  */
 @RequiredArgsConstructor
 public final class EncryptDQLResultDecorator implements ResultDecorator<EncryptRule> {
     
+    private static final int DECRYPT_PARALLELISM = Runtime.getRuntime().availableProcessors();
+    
+    private static final ExecutorService DECRYPT_EXECUTOR_SERVICE = createDecryptExecutorService();
+    
     private final EncryptAlgorithmMetaData metaData;
     
+    private final int parallelDecryptWindowSize;
+    
+    private static ExecutorService createDecryptExecutorService() {
+        ThreadPoolExecutor result = new ThreadPoolExecutor(DECRYPT_PARALLELISM, DECRYPT_PARALLELISM, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), ExecutorThreadFactoryBuilder.build("EncryptDecrypt-%d"));
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+    
     @Override
-    public MergedResult decorate(final QueryResult queryResult, final SQLStatementContext<?> sqlStatementContext, final EncryptRule rule) {
-        return new EncryptMergedResult(metaData, new TransparentMergedResult(queryResult));
+    public MergedResult decorate(final QueryResult queryResult, final SQLStatementContext<?> sqlStatementContext, final EncryptRule rule) throws SQLException {
+        MergedResult mergedResult = new TransparentMergedResult(queryResult);
+        return parallelDecryptWindowSize > 0 ? decorateWithParallelDecrypt(mergedResult, queryResult.getMetaData().getColumnCount()) : new EncryptMergedResult(metaData, mergedResult);
     }
     
     @Override
     public MergedResult decorate(final MergedResult mergedResult, final SQLStatementContext<?> sqlStatementContext, final EncryptRule rule) {
-        return new EncryptMergedResult(metaData, mergedResult);
+        int columnCount = parallelDecryptWindowSize > 0 ? getColumnCount(sqlStatementContext) : 0;
+        return columnCount > 0 ? decorateWithParallelDecrypt(mergedResult, columnCount) : new EncryptMergedResult(metaData, mergedResult);
+    }
+    
+    private int getColumnCount(final SQLStatementContext<?> sqlStatementContext) {
+        if (!(sqlStatementContext instanceof SelectStatementContext)) {
+            return 0;
+        }
+        ProjectionsContext projectionsContext = ((SelectStatementContext) sqlStatementContext).getProjectionsContext();
+        for (Projection each : projectionsContext.getProjections()) {
+            if (each instanceof ShorthandProjection && ((ShorthandProjection) each).getActualColumns().isEmpty()) {
+                return 0;
+            }
+        }
+        return projectionsContext.getExpandProjections().size();
+    }
+    
+    private MergedResult decorateWithParallelDecrypt(final MergedResult mergedResult, final int columnCount) {
+        Map<Integer, EncryptColumnDecryptor> columnDecryptors = new LinkedHashMap<>();
+        for (int i = 1; i <= columnCount; i++) {
+            int columnIndex = i;
+            EncryptColumnDecryptor.find(metaData, columnIndex).ifPresent(optional -> columnDecryptors.put(columnIndex, optional));
+        }
+        return columnDecryptors.isEmpty()
+                ? new EncryptMergedResult(metaData, mergedResult)
+                : new EncryptParallelDecryptMergedResult(columnDecryptors, mergedResult, columnCount, parallelDecryptWindowSize, DECRYPT_EXECUTOR_SERVICE, DECRYPT_PARALLELISM);
     }
 }
@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Merged result for encrypt which reads ahead a window of rows and decrypts cipher columns of the window in parallel.
+ * 
+ * <p>Rows are returned in order of the underlying merged result. Like memory merged results, values of all columns are buffered as objects
+ * and converted to the requested types by result set, values can not be got as stream.</p>
+ */
+@Slf4j
+public final class EncryptParallelDecryptMergedResult implements MergedResult {
+    
+    private final MergedResult mergedResult;
+    
+    private final int columnCount;
+    
+    private final int windowSize;
+    
+    private final ExecutorService executorService;
+    
+    private final int parallelism;
+    
+    private final Map<Integer, EncryptColumnDecryptor> columnDecryptors;
+    
+    private final Map<Integer, LongAdder> decryptTimeNanos = new HashMap<>();
+    
+    private final List<Object[]> window;
+    
+    private int currentRowIndex;
+    
+    private Object[] currentRow;
+    
+    private boolean exhausted;
+    
+    private boolean wasNull;
+    
+    public EncryptParallelDecryptMergedResult(final Map<Integer, EncryptColumnDecryptor> columnDecryptors, final MergedResult mergedResult, final int columnCount,
+                                              final int windowSize, final ExecutorService executorService, final int parallelism) {
+        this.columnDecryptors = columnDecryptors;
+        this.mergedResult = mergedResult;
+        this.columnCount = columnCount;
+        this.windowSize = windowSize;
+        this.executorService = executorService;
+        this.parallelism = parallelism;
+        window = new ArrayList<>(windowSize);
+        for (Integer each : columnDecryptors.keySet()) {
+            decryptTimeNanos.put(each, new LongAdder());
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        currentRowIndex++;
+        if (currentRowIndex >= window.size()) {
+            loadWindow();
+            currentRowIndex = 0;
+        }
+        currentRow = currentRowIndex < window.size() ? window.get(currentRowIndex) : null;
+        return null != currentRow;
+    }
+    
+    private void loadWindow() throws SQLException {
+        window.clear();
+        while (!exhausted && window.size() < windowSize) {
+            if (!mergedResult.next()) {
+                exhausted = true;
+                logDecryptTime();
+                break;
+            }
+            window.add(readRow());
+        }
+        if (!window.isEmpty() && !columnDecryptors.isEmpty()) {
+            decryptWindow();
+        }
+    }
+    
+    private Object[] readRow() throws SQLException {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            Object value = mergedResult.getValue(i + 1, Object.class);
+            result[i] = mergedResult.wasNull() ? null : value;
+        }
+        return result;
+    }
+    
+    private void decryptWindow() throws SQLException {
+        int chunkSize = Math.max(1, (window.size() * columnDecryptors.size() + parallelism - 1) / parallelism);
+        Collection<Callable<Void>> tasks = new LinkedList<>();
+        for (Entry<Integer, EncryptColumnDecryptor> entry : columnDecryptors.entrySet()) {
+            for (int startRowIndex = 0; startRowIndex < window.size(); startRowIndex += chunkSize) {
+                int fromRowIndex = startRowIndex;
+                int toRowIndex = Math.min(startRowIndex + chunkSize, window.size());
+                tasks.add(() -> decrypt(entry.getKey(), entry.getValue(), fromRowIndex, toRowIndex));
+            }
+        }
+        if (1 == tasks.size()) {
+            call(tasks.iterator().next());
+            return;
+        }
+        try {
+            for (Future<Void> each : executorService.invokeAll(tasks)) {
+                each.get();
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } catch (final ExecutionException ex) {
+            throw toSQLException(ex.getCause());
+        }
+    }
+    
+    private void call(final Callable<Void> task) throws SQLException {
+        try {
+            task.call();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            throw toSQLException(ex);
+        }
+    }
+    
+    private SQLException toSQLException(final Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return cause instanceof SQLException ? (SQLException) cause : new SQLException(cause);
+    }
+    
+    private Void decrypt(final int columnIndex, final EncryptColumnDecryptor columnDecryptor, final int fromRowIndex, final int toRowIndex) {
+        long startNanos = System.nanoTime();
+        List<Object> cipherValues = new ArrayList<>(toRowIndex - fromRowIndex);
+        int position = columnIndex - 1;
+        for (int i = fromRowIndex; i < toRowIndex; i++) {
+            cipherValues.add(window.get(i)[position]);
+        }
+        List<Object> plainValues = columnDecryptor.decrypt(cipherValues);
+        for (int i = fromRowIndex; i < toRowIndex; i++) {
+            window.get(i)[position] = plainValues.get(i - fromRowIndex);
+        }
+        decryptTimeNanos.get(columnIndex).add(System.nanoTime() - startNanos);
+        return null;
+    }
+    
+    private void logDecryptTime() {
+        if (!log.isDebugEnabled()) {
+            return;
+        }
+        for (Entry<Integer, EncryptColumnDecryptor> entry : columnDecryptors.entrySet()) {
+            log.debug("Decrypted cipher column `{}`.`{}` in {} ns.",
+                    entry.getValue().getEncryptContext().getTableName(), entry.getValue().getEncryptContext().getColumnName(), decryptTimeNanos.get(entry.getKey()).sum());
+        }
+    }
+    
+    /**
+     * Get decrypt time of column.
+     *
+     * @param columnIndex column index
+     * @return accumulated decrypt time in nanoseconds, 0 if column is not decrypted
+     */
+    public long getDecryptTimeNanos(final int columnIndex) {
+        LongAdder result = decryptTimeNanos.get(columnIndex);
+        return null == result ? 0L : result.sum();
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (Blob.class == type || Clob.class == type || Reader.class == type || InputStream.class == type || SQLXML.class == type) {
+            throw new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName()));
+        }
+        return getBufferedValue(columnIndex);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getBufferedValue(columnIndex);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    private Object getBufferedValue(final int columnIndex) {
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.encrypt.rule.aware.EncryptRuleAware;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
+import org.apache.shardingsphere.infra.binder.segment.insert.values.InsertValueContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
@@ -33,12 +34,12 @@ import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilde
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewriter;
-import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.InsertStatementHandler;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -73,24 +74,50 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
         }
     }
     
+    @SuppressWarnings({"rawtypes", "unchecked"})
     private void encryptInsertValues(final GroupedParameterBuilder parameterBuilder, final InsertStatementContext insertStatementContext,
-                                     final EncryptAlgorithm<?, ?> encryptAlgorithm, final Optional<EncryptAlgorithm> assistEncryptAlgorithm, final EncryptContext encryptContext) {
+                                     final EncryptAlgorithm encryptAlgorithm, final Optional<EncryptAlgorithm> assistEncryptAlgorithm, final EncryptContext encryptContext) {
         int columnIndex = getColumnIndex(parameterBuilder, insertStatementContext, encryptContext.getColumnName());
+        List<Integer> insertValueIndexes = new ArrayList<>();
+        List<Object> originalValues = new ArrayList<>();
         int count = 0;
         for (List<Object> each : insertStatementContext.getGroupedParameters()) {
-            int parameterIndex = insertStatementContext.getInsertValueContexts().get(count).getParameterIndex(columnIndex);
-            if (!each.isEmpty()) {
-                StandardParameterBuilder standardParameterBuilder = parameterBuilder.getParameterBuilders().get(count);
-                ExpressionSegment expressionSegment = insertStatementContext.getInsertValueContexts().get(count).getValueExpressions().get(columnIndex);
-                if (expressionSegment instanceof ParameterMarkerExpressionSegment) {
-                    encryptInsertValue(
-                            encryptAlgorithm, assistEncryptAlgorithm, parameterIndex, insertStatementContext.getInsertValueContexts().get(count).getValue(columnIndex)
-                                    .orElseThrow(() -> new ShardingSphereException("Not support for encrypt!")),
-                            standardParameterBuilder, encryptContext);
-                }
+            InsertValueContext insertValueContext = insertStatementContext.getInsertValueContexts().get(count);
+            if (!each.isEmpty() && insertValueContext.getValueExpressions().get(columnIndex) instanceof ParameterMarkerExpressionSegment) {
+                insertValueIndexes.add(count);
+                originalValues.add(insertValueContext.getValue(columnIndex).orElseThrow(() -> new ShardingSphereException("Not support for encrypt!")));
             }
             count++;
         }
+        if (originalValues.isEmpty()) {
+            return;
+        }
+        List<Object> cipherValues = encryptAlgorithm.encryptBatch(originalValues, encryptContext);
+        List<Object> assistedQueryValues = assistEncryptAlgorithm.isPresent() ? getAssistedQueryValues(assistEncryptAlgorithm.get(), originalValues, encryptContext) : Collections.emptyList();
+        boolean isPlainColumnPresent = encryptRule.findPlainColumn(encryptContext.getTableName(), encryptContext.getColumnName()).isPresent();
+        for (int i = 0; i < insertValueIndexes.size(); i++) {
+            int insertValueIndex = insertValueIndexes.get(i);
+            int parameterIndex = insertStatementContext.getInsertValueContexts().get(insertValueIndex).getParameterIndex(columnIndex);
+            StandardParameterBuilder standardParameterBuilder = parameterBuilder.getParameterBuilders().get(insertValueIndex);
+            standardParameterBuilder.addReplacedParameters(parameterIndex, cipherValues.get(i));
+            Collection<Object> addedParameters = new LinkedList<>();
+            if (!assistedQueryValues.isEmpty()) {
+                addedParameters.add(assistedQueryValues.get(i));
+            }
+            if (isPlainColumnPresent) {
+                addedParameters.add(originalValues.get(i));
+            }
+            if (!addedParameters.isEmpty()) {
+                standardParameterBuilder.getAddedIndexAndParameters().computeIfAbsent(parameterIndex + 1, unused -> new LinkedList<>()).addAll(addedParameters);
+            }
+        }
+    }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private List<Object> getAssistedQueryValues(final EncryptAlgorithm assistEncryptAlgorithm, final List<Object> originalValues, final EncryptContext encryptContext) {
+        Optional<String> assistedColumnName = encryptRule.findAssistedQueryColumn(encryptContext.getTableName(), encryptContext.getColumnName());
+        Preconditions.checkArgument(assistedColumnName.isPresent(), "Can not find assisted query Column Name");
+        return assistEncryptAlgorithm.encryptBatch(originalValues, encryptContext);
     }
     
     private int getColumnIndex(final GroupedParameterBuilder parameterBuilder, final InsertStatementContext insertStatementContext, final String encryptLogicColumnName) {
@@ -103,25 +130,4 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
         }
         return columnNames.indexOf(encryptLogicColumnName);
     }
-    
-    @SuppressWarnings({"rawtypes", "unchecked"})
-    private void encryptInsertValue(final EncryptAlgorithm encryptAlgorithm, final Optional<EncryptAlgorithm> assistEncryptor, final int parameterIndex,
-                                    final Object originalValue, final StandardParameterBuilder parameterBuilder, final EncryptContext encryptContext) {
-        parameterBuilder.addReplacedParameters(parameterIndex, encryptAlgorithm.encrypt(originalValue, encryptContext));
-        Collection<Object> addedParameters = new LinkedList<>();
-        if (assistEncryptor.isPresent()) {
-            Optional<String> assistedColumnName = encryptRule.findAssistedQueryColumn(encryptContext.getTableName(), encryptContext.getColumnName());
-            Preconditions.checkArgument(assistedColumnName.isPresent(), "Can not find assisted query Column Name");
-            addedParameters.add(assistEncryptor.get().encrypt(originalValue, encryptContext));
-        }
-        if (encryptRule.findPlainColumn(encryptContext.getTableName(), encryptContext.getColumnName()).isPresent()) {
-            addedParameters.add(originalValue);
-        }
-        if (!addedParameters.isEmpty()) {
-            if (!parameterBuilder.getAddedIndexAndParameters().containsKey(parameterIndex + 1)) {
-                parameterBuilder.getAddedIndexAndParameters().put(parameterIndex + 1, new LinkedList<>());
-            }
-            parameterBuilder.getAddedIndexAndParameters().get(parameterIndex + 1).addAll(addedParameters);
-        }
-    }
 }
@@ -34,7 +34,6 @@ import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -136,12 +135,7 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
     
     @SuppressWarnings({"rawtypes", "unchecked"})
     private List<Object> getEncryptValues(final EncryptAlgorithm encryptor, final List<Object> originalValues, final EncryptContext encryptContext) {
-        List<Object> result = new LinkedList<>();
-        for (Object each : originalValues) {
-            Object encryptValue = null == each ? null : encryptor.encrypt(each, encryptContext);
-            result.add(encryptValue);
-        }
-        return result;
+        return encryptor.encryptBatch(originalValues, encryptContext);
     }
     
     /**
@@ -208,11 +202,7 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
     
     @SuppressWarnings({"rawtypes", "unchecked"})
     private List<Object> getEncryptAssistedQueryValues(final EncryptAlgorithm encryptor, final List<Object> originalValues, final EncryptContext encryptContext) {
-        List<Object> result = new LinkedList<>();
-        for (Object each : originalValues) {
-            result.add(null == each ? null : encryptor.encrypt(each, encryptContext));
-        }
-        return result;
+        return encryptor.encryptBatch(originalValues, encryptContext);
     }
     
     /**
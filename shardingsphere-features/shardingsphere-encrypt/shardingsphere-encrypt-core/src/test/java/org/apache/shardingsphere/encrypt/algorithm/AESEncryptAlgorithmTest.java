@@ -24,11 +24,15 @@ import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmC
 import org.junit.Before;
 import org.junit.Test;
 
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 
 public final class AESEncryptAlgorithmTest {
@@ -72,4 +76,27 @@ public final class AESEncryptAlgorithmTest {
     public void assertDecryptNullValue() {
         assertNull(encryptAlgorithm.decrypt(null, mock(EncryptContext.class)));
     }
+    
+    @Test
+    public void assertEncryptBatch() {
+        assertThat(encryptAlgorithm.encryptBatch(Arrays.asList("test", null, "test"), mock(EncryptContext.class)),
+                is(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null, "dSpPiyENQGDUXMKFMJPGWA==")));
+    }
+    
+    @Test
+    public void assertDecryptBatch() {
+        assertThat(encryptAlgorithm.decryptBatch(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null, "dSpPiyENQGDUXMKFMJPGWA=="), mock(EncryptContext.class)),
+                is(Arrays.<Object>asList("test", null, "test")));
+    }
+    
+    @Test
+    public void assertDecryptAfterDecryptFailure() {
+        try {
+            encryptAlgorithm.decrypt("dSpPiyENQGDU", mock(EncryptContext.class));
+            fail("Expected exception for invalid cipher value.");
+        } catch (final Exception ex) {
+            assertTrue(ex instanceof GeneralSecurityException);
+        }
+        assertThat(encryptAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA==", mock(EncryptContext.class)).toString(), is("test"));
+    }
 }
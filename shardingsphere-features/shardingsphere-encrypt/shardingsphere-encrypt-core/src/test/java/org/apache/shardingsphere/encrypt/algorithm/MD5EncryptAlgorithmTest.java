@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmC
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -54,4 +55,10 @@ public final class MD5EncryptAlgorithmTest {
     public void assertDecode() {
         assertThat(encryptAlgorithm.decrypt("test", mock(EncryptContext.class)).toString(), is("test"));
     }
+    
+    @Test
+    public void assertEncryptBatch() {
+        assertThat(encryptAlgorithm.encryptBatch(Arrays.asList("test", null, "test"), mock(EncryptContext.class)),
+                is(Arrays.asList("098f6bcd4621d373cade4e832627b4f6", null, "098f6bcd4621d373cade4e832627b4f6")));
+    }
 }
@@ -17,15 +17,26 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
+import org.apache.shardingsphere.encrypt.context.EncryptContextBuilder;
+import org.apache.shardingsphere.encrypt.fixture.CoreEncryptAlgorithmFixture;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.ColumnProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.ShorthandProjection;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Optional;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -35,7 +46,7 @@ public final class EncryptDQLResultDecoratorTest {
     public void assertDecorateQueryResult() throws SQLException {
         QueryResult queryResult = mock(QueryResult.class);
         when(queryResult.next()).thenReturn(true);
-        EncryptDQLResultDecorator decorator = new EncryptDQLResultDecorator(mock(EncryptAlgorithmMetaData.class));
+        EncryptDQLResultDecorator decorator = new EncryptDQLResultDecorator(mock(EncryptAlgorithmMetaData.class), 0);
         MergedResult actual = decorator.decorate(queryResult, mock(SQLStatementContext.class), mock(EncryptRule.class));
         assertTrue(actual.next());
     }
@@ -44,8 +55,48 @@ public final class EncryptDQLResultDecoratorTest {
     public void assertDecorateMergedResult() throws SQLException {
         MergedResult mergedResult = mock(MergedResult.class);
         when(mergedResult.next()).thenReturn(true);
-        EncryptDQLResultDecorator decorator = new EncryptDQLResultDecorator(mock(EncryptAlgorithmMetaData.class));
+        EncryptDQLResultDecorator decorator = new EncryptDQLResultDecorator(mock(EncryptAlgorithmMetaData.class), 0);
         MergedResult actual = decorator.decorate(mergedResult, mock(SQLStatementContext.class), mock(EncryptRule.class));
         assertTrue(actual.next());
     }
+    
+    @Test
+    public void assertDecorateQueryResultWithParallelDecrypt() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(queryResult.getMetaData().getColumnCount()).thenReturn(1);
+        EncryptDQLResultDecorator decorator = new EncryptDQLResultDecorator(mockEncryptAlgorithmMetaData(), 100);
+        assertThat(decorator.decorate(queryResult, mock(SQLStatementContext.class), mock(EncryptRule.class)), instanceOf(EncryptParallelDecryptMergedResult.class));
+    }
+    
+    @Test
+    public void assertDecorateMergedResultWithParallelDecrypt() {
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(selectStatementContext.getProjectionsContext().getExpandProjections()).thenReturn(Collections.singletonList(new ColumnProjection(null, "pwd", null)));
+        EncryptDQLResultDecorator decorator = new EncryptDQLResultDecorator(mockEncryptAlgorithmMetaData(), 100);
+        assertThat(decorator.decorate(mock(MergedResult.class), selectStatementContext, mock(EncryptRule.class)), instanceOf(EncryptParallelDecryptMergedResult.class));
+    }
+    
+    @Test
+    public void assertDecorateMergedResultWithParallelDecryptAndWithoutCipherColumn() {
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(selectStatementContext.getProjectionsContext().getExpandProjections()).thenReturn(Collections.singletonList(new ColumnProjection(null, "order_id", null)));
+        EncryptDQLResultDecorator decorator = new EncryptDQLResultDecorator(mock(EncryptAlgorithmMetaData.class), 100);
+        assertThat(decorator.decorate(mock(MergedResult.class), selectStatementContext, mock(EncryptRule.class)), instanceOf(EncryptMergedResult.class));
+    }
+    
+    @Test
+    public void assertDecorateMergedResultWithParallelDecryptAndUnexpandedShorthandProjection() {
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(selectStatementContext.getProjectionsContext().getProjections()).thenReturn(Collections.singletonList(new ShorthandProjection(null, Collections.emptyList())));
+        EncryptDQLResultDecorator decorator = new EncryptDQLResultDecorator(mock(EncryptAlgorithmMetaData.class), 100);
+        assertThat(decorator.decorate(mock(MergedResult.class), selectStatementContext, mock(EncryptRule.class)), instanceOf(EncryptMergedResult.class));
+    }
+    
+    private EncryptAlgorithmMetaData mockEncryptAlgorithmMetaData() {
+        EncryptAlgorithmMetaData result = mock(EncryptAlgorithmMetaData.class);
+        when(result.findEncryptContext(1)).thenReturn(Optional.of(EncryptContextBuilder.build(DefaultDatabase.LOGIC_NAME, DefaultDatabase.LOGIC_NAME, "t_encrypt", "pwd")));
+        when(result.isQueryWithCipherColumn("t_encrypt", "pwd")).thenReturn(true);
+        when(result.findEncryptor("t_encrypt", "pwd")).thenReturn(Optional.of(new CoreEncryptAlgorithmFixture()));
+        return result;
+    }
 }
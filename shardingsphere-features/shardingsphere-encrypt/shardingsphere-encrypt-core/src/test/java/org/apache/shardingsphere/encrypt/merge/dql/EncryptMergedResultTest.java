@@ -38,6 +38,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -92,6 +94,24 @@ public final class EncryptMergedResultTest {
         assertThat(new EncryptMergedResult(metaData, mergedResult).getValue(1, String.class), is("ORIGINAL_VALUE"));
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertGetValueWithQueryWithCipherColumnForMultipleRows() throws SQLException {
+        when(mergedResult.getValue(1, Object.class)).thenReturn("VALUE_1", "VALUE_2");
+        EncryptAlgorithm<String, String> encryptAlgorithm = mock(EncryptAlgorithm.class);
+        EncryptContext encryptContext = EncryptContextBuilder.build(DefaultDatabase.LOGIC_NAME, DefaultDatabase.LOGIC_NAME, "t_encrypt", "order_id");
+        when(encryptAlgorithm.decrypt("VALUE_1", encryptContext)).thenReturn("ORIGINAL_VALUE_1");
+        when(encryptAlgorithm.decrypt("VALUE_2", encryptContext)).thenReturn("ORIGINAL_VALUE_2");
+        when(metaData.findEncryptContext(1)).thenReturn(Optional.of(encryptContext));
+        when(metaData.isQueryWithCipherColumn("t_encrypt", "order_id")).thenReturn(true);
+        when(metaData.findEncryptor("t_encrypt", "order_id")).thenReturn(Optional.of(encryptAlgorithm));
+        EncryptMergedResult actual = new EncryptMergedResult(metaData, mergedResult);
+        assertThat(actual.getValue(1, String.class), is("ORIGINAL_VALUE_1"));
+        assertThat(actual.getValue(1, String.class), is("ORIGINAL_VALUE_2"));
+        verify(metaData, times(1)).findEncryptContext(1);
+        verify(metaData, times(1)).findEncryptor("t_encrypt", "order_id");
+    }
+    
     @SuppressWarnings("unchecked")
     @Test
     public void assertGetValueWithQueryWithCipherColumnAndMatchedEncryptorWithNullCiphertext() throws SQLException {
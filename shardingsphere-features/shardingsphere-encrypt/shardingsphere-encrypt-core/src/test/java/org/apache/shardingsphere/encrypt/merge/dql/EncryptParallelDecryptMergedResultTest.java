@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import org.apache.shardingsphere.encrypt.context.EncryptContextBuilder;
+import org.apache.shardingsphere.encrypt.fixture.CoreEncryptAlgorithmFixture;
+import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
+import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class EncryptParallelDecryptMergedResultTest {
+    
+    @Mock
+    private EncryptAlgorithmMetaData metaData;
+    
+    @Mock
+    private MergedResult mergedResult;
+    
+    private Map<Integer, EncryptColumnDecryptor> columnDecryptors;
+    
+    private ExecutorService executorService;
+    
+    @Before
+    public void setUp() {
+        EncryptContext encryptContext = EncryptContextBuilder.build(DefaultDatabase.LOGIC_NAME, DefaultDatabase.LOGIC_NAME, "t_encrypt", "pwd");
+        when(metaData.findEncryptContext(1)).thenReturn(Optional.of(encryptContext));
+        when(metaData.isQueryWithCipherColumn("t_encrypt", "pwd")).thenReturn(true);
+        when(metaData.findEncryptor("t_encrypt", "pwd")).thenReturn(Optional.of(new CoreEncryptAlgorithmFixture()));
+        columnDecryptors = Collections.singletonMap(1, EncryptColumnDecryptor.find(metaData, 1).orElseThrow(IllegalStateException::new));
+        executorService = Executors.newFixedThreadPool(2);
+    }
+    
+    @After
+    public void tearDown() {
+        executorService.shutdown();
+    }
+    
+    @Test
+    public void assertNextAndGetValue() throws SQLException {
+        when(mergedResult.next()).thenReturn(true, true, true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn("cipher_1", null, "cipher_3");
+        when(mergedResult.getValue(2, Object.class)).thenReturn(1, 2, 3);
+        EncryptParallelDecryptMergedResult actual = new EncryptParallelDecryptMergedResult(columnDecryptors, mergedResult, 2, 2, executorService, 2);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, String.class), is("decryptValue"));
+        assertFalse(actual.wasNull());
+        assertThat(actual.getValue(2, Integer.class), is(1));
+        assertTrue(actual.next());
+        assertNull(actual.getValue(1, String.class));
+        assertTrue(actual.wasNull());
+        assertThat(actual.getValue(2, Long.class), is(2));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, String.class), is("decryptValue"));
+        assertThat(actual.getCalendarValue(2, Integer.class, Calendar.getInstance()), is(3));
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+        verify(mergedResult, times(4)).next();
+        assertThat(actual.getDecryptTimeNanos(2), is(0L));
+    }
+    
+    @Test
+    public void assertGetValueWithNullValue() throws SQLException {
+        when(mergedResult.next()).thenReturn(true, true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn("cipher_1", "cipher_2");
+        when(mergedResult.getValue(2, Object.class)).thenReturn(1, 0);
+        when(mergedResult.wasNull()).thenReturn(false, false, false, true);
+        EncryptParallelDecryptMergedResult actual = new EncryptParallelDecryptMergedResult(columnDecryptors, mergedResult, 2, 3, executorService, 2);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, int.class), is(1));
+        assertFalse(actual.wasNull());
+        assertTrue(actual.next());
+        assertNull(actual.getValue(2, int.class));
+        assertTrue(actual.wasNull());
+    }
+    
+    @Test
+    public void assertNextWithEmptyResult() throws SQLException {
+        assertFalse(new EncryptParallelDecryptMergedResult(columnDecryptors, mergedResult, 2, 2, executorService, 2).next());
+    }
+    
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void assertGetValueWithInputStreamType() throws SQLException {
+        when(mergedResult.next()).thenReturn(true);
+        EncryptParallelDecryptMergedResult actual = new EncryptParallelDecryptMergedResult(columnDecryptors, mergedResult, 2, 2, executorService, 2);
+        assertTrue(actual.next());
+        actual.getValue(1, InputStream.class);
+    }
+    
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void assertGetInputStream() throws SQLException {
+        new EncryptParallelDecryptMergedResult(columnDecryptors, mergedResult, 2, 2, executorService, 2).getInputStream(1, "Ascii");
+    }
+}
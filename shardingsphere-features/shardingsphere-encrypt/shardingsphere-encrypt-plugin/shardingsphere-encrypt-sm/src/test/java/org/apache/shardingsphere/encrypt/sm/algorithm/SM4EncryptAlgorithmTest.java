@@ -23,6 +23,7 @@ import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -97,4 +98,18 @@ public final class SM4EncryptAlgorithmTest {
         result.setProperty("sm4-padding", "PKCS7Padding");
         return result;
     }
+    
+    @Test
+    public void assertEncryptBatchWithCBCMode() {
+        EncryptAlgorithm<Object, String> algorithm = EncryptAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("SM4", createCBCProperties()));
+        assertThat(algorithm.encryptBatch(Arrays.asList("test", null, "test"), mock(EncryptContext.class)),
+                is(Arrays.asList("dca2127b57ba8cac36a0914e0208dc11", null, "dca2127b57ba8cac36a0914e0208dc11")));
+    }
+    
+    @Test
+    public void assertDecryptBatchWithCBCMode() {
+        EncryptAlgorithm<Object, String> algorithm = EncryptAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("SM4", createCBCProperties()));
+        assertThat(algorithm.decryptBatch(Arrays.asList("dca2127b57ba8cac36a0914e0208dc11", null, "dca2127b57ba8cac36a0914e0208dc11"), mock(EncryptContext.class)),
+                is(Arrays.<Object>asList("test", null, "test")));
+    }
 }
@@ -36,4 +36,17 @@ public interface ReadQueryLoadBalanceAlgorithm extends ShardingSphereAlgorithm,
      * @return name of selected data source
      */
     String getDataSource(String name, String writeDataSourceName, List<String> readDataSourceNames);
+    
+    /**
+     * Get data source of database.
+     * 
+     * @param databaseName database name
+     * @param name read query logic data source name
+     * @param writeDataSourceName name of write data source
+     * @param readDataSourceNames names of read data sources
+     * @return name of selected data source
+     */
+    default String getDataSource(final String databaseName, final String name, final String writeDataSourceName, final List<String> readDataSourceNames) {
+        return getDataSource(name, writeDataSourceName, readDataSourceNames);
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import lombok.Getter;
+import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReadDataSourceStatistics;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReadDataSourceStatisticsRegistry;
+import org.apache.shardingsphere.transaction.TransactionHolder;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Least response time read query load-balance algorithm.
+ * 
+ * <p>Two replicas are picked randomly and the one with the lower cost wins, cost is the decayed moving average of response time multiplied by in-flight executions plus one.</p>
+ */
+public final class LeastResponseTimeReadQueryLoadBalanceAlgorithm implements ReadQueryLoadBalanceAlgorithm {
+    
+    private static final String DECAY_TIME_MILLISECONDS_KEY = "decay-time-milliseconds";
+    
+    private static final long DEFAULT_DECAY_TIME_MILLISECONDS = 10000L;
+    
+    @Getter
+    private Properties props;
+    
+    private long decayTimeNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_DECAY_TIME_MILLISECONDS);
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        decayTimeNanos = TimeUnit.MILLISECONDS.toNanos(getDecayTimeMilliseconds(props));
+    }
+    
+    private long getDecayTimeMilliseconds(final Properties props) {
+        String value = null == props ? null : props.getProperty(DECAY_TIME_MILLISECONDS_KEY);
+        if (null == value) {
+            return DEFAULT_DECAY_TIME_MILLISECONDS;
+        }
+        long result = Long.parseLong(value.trim());
+        if (result <= 0L) {
+            throw new IllegalArgumentException(String.format("Read query load-balance algorithm `%s` requires positive `%s`.", getType(), DECAY_TIME_MILLISECONDS_KEY));
+        }
+        return result;
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String writeDataSourceName, final List<String> readDataSourceNames) {
+        return getDataSource(null, name, writeDataSourceName, readDataSourceNames);
+    }
+    
+    @Override
+    public String getDataSource(final String databaseName, final String name, final String writeDataSourceName, final List<String> readDataSourceNames) {
+        if (TransactionHolder.isTransaction()) {
+            return writeDataSourceName;
+        }
+        int size = readDataSourceNames.size();
+        if (1 == size) {
+            return readDataSourceNames.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(size);
+        int secondIndex = (firstIndex + 1 + random.nextInt(size - 1)) % size;
+        String first = readDataSourceNames.get(firstIndex);
+        String second = readDataSourceNames.get(secondIndex);
+        long currentNanoTime = System.nanoTime();
+        return getCost(databaseName, second, currentNanoTime) < getCost(databaseName, first, currentNanoTime) ? second : first;
+    }
+    
+    private double getCost(final String databaseName, final String dataSourceName, final long currentNanoTime) {
+        Optional<ReadDataSourceStatistics> statistics = null == databaseName ? Optional.empty() : ReadDataSourceStatisticsRegistry.find(databaseName, dataSourceName);
+        if (!statistics.isPresent()) {
+            return 0D;
+        }
+        long idleNanos = Math.max(currentNanoTime - statistics.get().getLastResponseNanoTime(), 0L);
+        double decayedResponseTimeNanos = statistics.get().getResponseTimeNanos() * Math.exp((double) -idleNanos / decayTimeNanos);
+        return decayedResponseTimeNanos * (statistics.get().getInFlightCount() + 1);
+    }
+    
+    @Override
+    public String getType() {
+        return "LEAST_RESPONSE_TIME";
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.hook;
+
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReadDataSourceStatistics;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReadDataSourceStatisticsRegistry;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL execution hook to collect response statistics of read data source.
+ * 
+ * <p>Executions without database name in execution data map are not collected.</p>
+ */
+public final class ReadDataSourceStatisticsSQLExecutionHook implements SQLExecutionHook {
+    
+    private ReadDataSourceStatistics statistics;
+    
+    private long startNanoTime;
+    
+    @Override
+    public void start(final String dataSourceName, final String sql, final List<Object> parameters,
+                      final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+        Object databaseName = shardingExecuteDataMap.get(ExecuteProcessConstants.EXECUTE_DATABASE_NAME.name());
+        if (null == databaseName) {
+            return;
+        }
+        statistics = ReadDataSourceStatisticsRegistry.getOrCreate(databaseName.toString(), dataSourceName);
+        statistics.start();
+        startNanoTime = System.nanoTime();
+    }
+    
+    @Override
+    public void finishSuccess() {
+        if (null != statistics) {
+            long currentNanoTime = System.nanoTime();
+            statistics.finishSuccess(currentNanoTime - startNanoTime, currentNanoTime);
+            statistics = null;
+        }
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        if (null != statistics) {
+            long currentNanoTime = System.nanoTime();
+            statistics.finishFailure(currentNanoTime - startNanoTime, currentNanoTime);
+            statistics = null;
+        }
+    }
+}
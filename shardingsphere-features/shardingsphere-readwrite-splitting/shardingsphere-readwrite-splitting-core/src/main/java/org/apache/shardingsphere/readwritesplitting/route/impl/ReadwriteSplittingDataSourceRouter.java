@@ -17,25 +17,48 @@
 
 package org.apache.shardingsphere.readwritesplitting.route.impl;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.statement.CommonSQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.hint.HintManager;
+import org.apache.shardingsphere.infra.session.ConnectionWriteContext;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
 import org.apache.shardingsphere.readwritesplitting.strategy.type.DynamicReadwriteSplittingStrategy;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
 /**
  * Data source router for readwrite-splitting.
  */
-@RequiredArgsConstructor
 public final class ReadwriteSplittingDataSourceRouter {
     
+    private final String databaseName;
+    
     private final ReadwriteSplittingDataSourceRule rule;
     
+    private final long maxReplicationDelayMilliseconds;
+    
+    private final long readYourWritesWindowMilliseconds;
+    
+    private final ConnectionWriteContext connectionWriteContext;
+    
+    public ReadwriteSplittingDataSourceRouter(final String databaseName, final ReadwriteSplittingDataSourceRule rule,
+                                              final ConfigurationProperties props, final ConnectionWriteContext connectionWriteContext) {
+        this.databaseName = databaseName;
+        this.rule = rule;
+        this.connectionWriteContext = connectionWriteContext;
+        maxReplicationDelayMilliseconds = props.getValue(ConfigurationPropertyKey.READWRITE_SPLITTING_MAX_REPLICATION_DELAY_MILLISECONDS);
+        readYourWritesWindowMilliseconds = props.getValue(ConfigurationPropertyKey.READWRITE_SPLITTING_READ_YOUR_WRITES_WINDOW_MILLISECONDS);
+    }
+    
     /**
      * Route.
      * 
@@ -43,14 +66,21 @@ public final class ReadwriteSplittingDataSourceRouter {
      * @return data source name
      */
     public String route(final SQLStatementContext<?> sqlStatementContext) {
-        if (isPrimaryRoute(sqlStatementContext)) {
+        if (isWriteRouteStatement(sqlStatementContext)) {
+            if (readYourWritesWindowMilliseconds > 0L) {
+                connectionWriteContext.addPendingWrite(rule.getName());
+            }
             return rule.getWriteDataSource();
         }
-        return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSource(), rule.getEnabledReplicaDataSources());
-    }
-    
-    private boolean isPrimaryRoute(final SQLStatementContext<?> sqlStatementContext) {
-        return isWriteRouteStatement(sqlStatementContext) || isHintWriteRouteOnly(sqlStatementContext) || isAllowWriteDataSourceQuery();
+        if (isHintWriteRouteOnly(sqlStatementContext) || isAllowWriteDataSourceQuery()) {
+            return rule.getWriteDataSource();
+        }
+        List<String> enabledReplicaDataSources = rule.getEnabledReplicaDataSources();
+        List<String> readDataSources = getUpToDateReplicaDataSources(enabledReplicaDataSources);
+        if (readDataSources.isEmpty() && !enabledReplicaDataSources.isEmpty()) {
+            return rule.getWriteDataSource();
+        }
+        return rule.getLoadBalancer().getDataSource(databaseName, rule.getName(), rule.getWriteDataSource(), readDataSources);
     }
     
     private boolean isWriteRouteStatement(final SQLStatementContext<?> sqlStatementContext) {
@@ -70,6 +100,30 @@ public final class ReadwriteSplittingDataSourceRouter {
         return HintManager.isWriteRouteOnly() || (sqlStatementContext instanceof CommonSQLStatementContext && ((CommonSQLStatementContext<?>) sqlStatementContext).isHintWriteRouteOnly());
     }
     
+    private List<String> getUpToDateReplicaDataSources(final List<String> enabledReplicaDataSources) {
+        List<String> result = enabledReplicaDataSources;
+        if (maxReplicationDelayMilliseconds > 0L) {
+            result = result.stream().filter(each -> !rule.findReplicationDelayMilliseconds(each).filter(delay -> delay > maxReplicationDelayMilliseconds).isPresent()).collect(Collectors.toList());
+        }
+        Optional<Long> millisecondsSinceLastWrite = findMillisecondsSinceLastWrite();
+        if (millisecondsSinceLastWrite.isPresent()) {
+            result = result.stream().filter(each -> rule.findReplicationDelayMilliseconds(each).filter(delay -> delay < millisecondsSinceLastWrite.get()).isPresent()).collect(Collectors.toList());
+        }
+        return result;
+    }
+    
+    private Optional<Long> findMillisecondsSinceLastWrite() {
+        if (readYourWritesWindowMilliseconds <= 0L) {
+            return Optional.empty();
+        }
+        Optional<Long> lastWriteNanoTime = connectionWriteContext.findLastWriteNanoTime(rule.getName());
+        if (!lastWriteNanoTime.isPresent()) {
+            return Optional.empty();
+        }
+        long result = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastWriteNanoTime.get());
+        return result < readYourWritesWindowMilliseconds ? Optional.of(result) : Optional.empty();
+    }
+    
     private boolean isAllowWriteDataSourceQuery() {
         return rule.getEnabledReplicaDataSources().isEmpty() && (rule.getReadwriteSplittingStrategy() instanceof DynamicReadwriteSplittingStrategy)
                 && ((DynamicReadwriteSplittingStrategy) rule.getReadwriteSplittingStrategy()).isAllowWriteDataSourceQuery();
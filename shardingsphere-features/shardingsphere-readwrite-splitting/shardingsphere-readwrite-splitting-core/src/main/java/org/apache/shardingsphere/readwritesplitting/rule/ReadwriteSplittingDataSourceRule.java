@@ -30,6 +30,9 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Readwrite-splitting data source rule.
@@ -46,6 +49,9 @@ public final class ReadwriteSplittingDataSourceRule {
     @Getter(AccessLevel.NONE)
     private final Collection<String> disabledDataSourceNames = new HashSet<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Long> replicationDelayMilliseconds = new ConcurrentHashMap<>();
+    
     public ReadwriteSplittingDataSourceRule(final ReadwriteSplittingDataSourceRuleConfiguration config, final ReadQueryLoadBalanceAlgorithm loadBalancer,
                                             final Collection<ShardingSphereRule> builtRules) {
         name = config.getName();
@@ -76,6 +82,30 @@ public final class ReadwriteSplittingDataSourceRule {
         }
     }
     
+    /**
+     * Update replication delay milliseconds of data source.
+     *
+     * @param dataSourceName data source name
+     * @param delayMilliseconds replication delay milliseconds
+     */
+    public void updateReplicationDelayMilliseconds(final String dataSourceName, final long delayMilliseconds) {
+        replicationDelayMilliseconds.put(dataSourceName, delayMilliseconds);
+    }
+    
+    /**
+     * Find replication delay milliseconds of replica data source.
+     *
+     * @param dataSourceName replica data source name
+     * @return replication delay milliseconds, empty if not reported
+     */
+    public Optional<Long> findReplicationDelayMilliseconds(final String dataSourceName) {
+        if (readwriteSplittingStrategy instanceof DynamicReadwriteSplittingStrategy) {
+            DynamicReadwriteSplittingStrategy dynamicStrategy = (DynamicReadwriteSplittingStrategy) readwriteSplittingStrategy;
+            return dynamicStrategy.getDynamicDataSource().findReplicationDelayMilliseconds(dynamicStrategy.getAutoAwareDataSourceName(), dataSourceName);
+        }
+        return Optional.ofNullable(replicationDelayMilliseconds.get(dataSourceName));
+    }
+    
     /**
      * Get enabled replica data sources.
      *
@@ -116,6 +116,7 @@ public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceCon
         ReadwriteSplittingDataSourceRule dataSourceRule = dataSourceRules.get(qualifiedDatabase.getGroupName());
         Preconditions.checkState(null != dataSourceRule, "Can 't find readwrite-splitting data source rule in database `%s`.", qualifiedDatabase.getDatabaseName());
         dataSourceRule.updateDisabledDataSourceNames(dataSourceEvent.getQualifiedDatabase().getDataSourceName(), StorageNodeStatus.isDisable(dataSourceEvent.getDataSource().getStatus()));
+        dataSourceRule.updateReplicationDelayMilliseconds(dataSourceEvent.getQualifiedDatabase().getDataSourceName(), dataSourceEvent.getDataSource().getReplicationDelayMilliseconds());
     }
     
     @Override
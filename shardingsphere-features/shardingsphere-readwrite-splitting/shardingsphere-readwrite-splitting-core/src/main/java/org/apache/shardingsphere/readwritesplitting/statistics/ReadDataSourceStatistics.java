@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.statistics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Response statistics of read data source.
+ */
+public final class ReadDataSourceStatistics {
+    
+    private static final double SMOOTHING_FACTOR = 0.2D;
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private final AtomicLong responseTimeNanos = new AtomicLong();
+    
+    private final AtomicLong lastResponseNanoTime = new AtomicLong();
+    
+    /**
+     * Mark execution started.
+     */
+    public void start() {
+        inFlightCount.incrementAndGet();
+    }
+    
+    /**
+     * Mark execution finished successfully.
+     *
+     * @param elapsedNanos elapsed nanoseconds of execution
+     * @param currentNanoTime current nano time
+     */
+    public void finishSuccess(final long elapsedNanos, final long currentNanoTime) {
+        finish(elapsedNanos, currentNanoTime);
+    }
+    
+    /**
+     * Mark execution finished with failure.
+     * 
+     * <p>Failures are recorded as at least twice the current response time, so that a replica failing fast does not attract more reads.</p>
+     *
+     * @param elapsedNanos elapsed nanoseconds of execution
+     * @param currentNanoTime current nano time
+     */
+    public void finishFailure(final long elapsedNanos, final long currentNanoTime) {
+        finish(Math.max(elapsedNanos, responseTimeNanos.get() * 2L), currentNanoTime);
+    }
+    
+    private void finish(final long elapsedNanos, final long currentNanoTime) {
+        inFlightCount.decrementAndGet();
+        responseTimeNanos.updateAndGet(each -> 0L == each ? elapsedNanos : each + (long) (SMOOTHING_FACTOR * (elapsedNanos - each)));
+        lastResponseNanoTime.set(currentNanoTime);
+    }
+    
+    /**
+     * Get in-flight execution count.
+     *
+     * @return in-flight execution count
+     */
+    public int getInFlightCount() {
+        return Math.max(inFlightCount.get(), 0);
+    }
+    
+    /**
+     * Get exponentially weighted moving average of response time.
+     *
+     * @return response time in nanoseconds, 0 if no execution finished yet
+     */
+    public long getResponseTimeNanos() {
+        return responseTimeNanos.get();
+    }
+    
+    /**
+     * Get nano time of last finished execution.
+     *
+     * @return nano time of last finished execution
+     */
+    public long getLastResponseNanoTime() {
+        return lastResponseNanoTime.get();
+    }
+}
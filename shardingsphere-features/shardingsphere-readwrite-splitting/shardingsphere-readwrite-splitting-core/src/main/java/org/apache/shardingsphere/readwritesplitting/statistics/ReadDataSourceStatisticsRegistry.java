@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.statistics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read data source statistics registry.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReadDataSourceStatisticsRegistry {
+    
+    private static final Map<String, Map<String, ReadDataSourceStatistics>> STATISTICS = new ConcurrentHashMap<>();
+    
+    /**
+     * Get or create statistics of data source.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return statistics of data source
+     */
+    public static ReadDataSourceStatistics getOrCreate(final String databaseName, final String dataSourceName) {
+        Map<String, ReadDataSourceStatistics> databaseStatistics = STATISTICS.get(databaseName);
+        if (null == databaseStatistics) {
+            databaseStatistics = STATISTICS.computeIfAbsent(databaseName, key -> new ConcurrentHashMap<>());
+        }
+        ReadDataSourceStatistics result = databaseStatistics.get(dataSourceName);
+        return null == result ? databaseStatistics.computeIfAbsent(dataSourceName, key -> new ReadDataSourceStatistics()) : result;
+    }
+    
+    /**
+     * Find statistics of data source.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return found statistics
+     */
+    public static Optional<ReadDataSourceStatistics> find(final String databaseName, final String dataSourceName) {
+        Map<String, ReadDataSourceStatistics> databaseStatistics = STATISTICS.get(databaseName);
+        return null == databaseStatistics ? Optional.empty() : Optional.ofNullable(databaseStatistics.get(dataSourceName));
+    }
+    
+    /**
+     * Clear all statistics.
+     */
+    public static void clear() {
+        STATISTICS.clear();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import org.apache.shardingsphere.readwritesplitting.statistics.ReadDataSourceStatistics;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReadDataSourceStatisticsRegistry;
+import org.apache.shardingsphere.transaction.TransactionHolder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class LeastResponseTimeReadQueryLoadBalanceAlgorithmTest {
+    
+    private final LeastResponseTimeReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = new LeastResponseTimeReadQueryLoadBalanceAlgorithm();
+    
+    @Before
+    public void setUp() {
+        loadBalanceAlgorithm.init(new Properties());
+    }
+    
+    @After
+    public void tearDown() {
+        ReadDataSourceStatisticsRegistry.clear();
+        TransactionHolder.clear();
+    }
+    
+    @Test
+    public void assertGetDataSourceInTransaction() {
+        TransactionHolder.setInTransaction();
+        assertThat(loadBalanceAlgorithm.getDataSource("foo_db", "ds", "test_write_ds", Arrays.asList("test_replica_ds_1", "test_replica_ds_2")), is("test_write_ds"));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithSingleReplica() {
+        assertThat(loadBalanceAlgorithm.getDataSource("foo_db", "ds", "test_write_ds", Collections.singletonList("test_replica_ds_1")), is("test_replica_ds_1"));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithFasterReplica() {
+        recordResponseTime("test_replica_ds_1", TimeUnit.MILLISECONDS.toNanos(500L));
+        recordResponseTime("test_replica_ds_2", TimeUnit.MILLISECONDS.toNanos(1L));
+        List<String> readDataSourceNames = Arrays.asList("test_replica_ds_1", "test_replica_ds_2");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("foo_db", "ds", "test_write_ds", readDataSourceNames), is("test_replica_ds_2"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWithLessInFlightReplica() {
+        recordResponseTime("test_replica_ds_1", TimeUnit.MILLISECONDS.toNanos(10L));
+        recordResponseTime("test_replica_ds_2", TimeUnit.MILLISECONDS.toNanos(10L));
+        ReadDataSourceStatistics busyStatistics = ReadDataSourceStatisticsRegistry.getOrCreate("foo_db", "test_replica_ds_1");
+        for (int i = 0; i < 10; i++) {
+            busyStatistics.start();
+        }
+        List<String> readDataSourceNames = Arrays.asList("test_replica_ds_1", "test_replica_ds_2");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("foo_db", "ds", "test_write_ds", readDataSourceNames), is("test_replica_ds_2"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWithUnknownReplica() {
+        recordResponseTime("test_replica_ds_1", TimeUnit.MILLISECONDS.toNanos(10L));
+        List<String> readDataSourceNames = Arrays.asList("test_replica_ds_1", "test_replica_ds_2");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("foo_db", "ds", "test_write_ds", readDataSourceNames), is("test_replica_ds_2"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWithStatisticsOfOtherDatabase() {
+        recordResponseTime("test_replica_ds_2", TimeUnit.MILLISECONDS.toNanos(10L));
+        ReadDataSourceStatisticsRegistry.getOrCreate("bar_db", "test_replica_ds_1").start();
+        List<String> readDataSourceNames = Arrays.asList("test_replica_ds_1", "test_replica_ds_2");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("foo_db", "ds", "test_write_ds", readDataSourceNames), is("test_replica_ds_1"));
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertInitWithInvalidDecayTime() {
+        Properties props = new Properties();
+        props.setProperty("decay-time-milliseconds", "0");
+        new LeastResponseTimeReadQueryLoadBalanceAlgorithm().init(props);
+    }
+    
+    private void recordResponseTime(final String dataSourceName, final long responseTimeNanos) {
+        ReadDataSourceStatistics statistics = ReadDataSourceStatisticsRegistry.getOrCreate("foo_db", dataSourceName);
+        statistics.start();
+        statistics.finishSuccess(responseTimeNanos, System.nanoTime());
+    }
+}
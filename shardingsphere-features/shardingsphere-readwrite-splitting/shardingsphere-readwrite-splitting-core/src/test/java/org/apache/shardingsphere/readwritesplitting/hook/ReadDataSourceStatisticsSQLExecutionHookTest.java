@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.hook;
+
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReadDataSourceStatistics;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReadDataSourceStatisticsRegistry;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ReadDataSourceStatisticsSQLExecutionHookTest {
+    
+    @After
+    public void tearDown() {
+        ReadDataSourceStatisticsRegistry.clear();
+    }
+    
+    @Test
+    public void assertFinishSuccess() {
+        ReadDataSourceStatisticsSQLExecutionHook hook = new ReadDataSourceStatisticsSQLExecutionHook();
+        hook.start("read_ds", "SELECT 1", Collections.emptyList(), null, true, createDataMap());
+        ReadDataSourceStatistics statistics = ReadDataSourceStatisticsRegistry.find("foo_db", "read_ds").orElseThrow(IllegalStateException::new);
+        assertThat(statistics.getInFlightCount(), is(1));
+        hook.finishSuccess();
+        assertThat(statistics.getInFlightCount(), is(0));
+        assertTrue(statistics.getResponseTimeNanos() >= 0L);
+        hook.finishSuccess();
+        assertThat(statistics.getInFlightCount(), is(0));
+    }
+    
+    @Test
+    public void assertFinishFailure() {
+        ReadDataSourceStatisticsSQLExecutionHook hook = new ReadDataSourceStatisticsSQLExecutionHook();
+        hook.start("read_ds", "SELECT 1", Collections.emptyList(), null, true, createDataMap());
+        hook.finishFailure(new RuntimeException(""));
+        assertThat(ReadDataSourceStatisticsRegistry.find("foo_db", "read_ds").orElseThrow(IllegalStateException::new).getInFlightCount(), is(0));
+    }
+    
+    @Test
+    public void assertStartWithoutDatabaseName() {
+        ReadDataSourceStatisticsSQLExecutionHook hook = new ReadDataSourceStatisticsSQLExecutionHook();
+        hook.start("read_ds", "SELECT 1", Collections.emptyList(), null, true, Collections.emptyMap());
+        hook.finishSuccess();
+        assertFalse(ReadDataSourceStatisticsRegistry.find("foo_db", "read_ds").isPresent());
+    }
+    
+    private Map<String, Object> createDataMap() {
+        return Collections.singletonMap(ExecuteProcessConstants.EXECUTE_DATABASE_NAME.name(), "foo_db");
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.binder.statement.CommonSQLStatementContex
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -32,6 +33,7 @@ import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.rule.identifier.type.DynamicDataSourceContainedRule;
+import org.apache.shardingsphere.infra.session.ConnectionWriteContext;
 import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.strategy.DynamicReadwriteSplittingStrategyConfiguration;
@@ -53,6 +55,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -221,6 +224,40 @@ public final class ReadwriteSplittingSQLRouterTest {
         assertThat(routedDataSourceNames.next(), is(READ_DATASOURCE));
     }
     
+    @Test
+    public void assertCreateRouteContextToPrimaryDataSourceWithReplicationDelayExceeded() {
+        rule.getSingleDataSourceRule().updateReplicationDelayMilliseconds(READ_DATASOURCE, 2000L);
+        assertThat(routeSelectStatement(createProperties(ConfigurationPropertyKey.READWRITE_SPLITTING_MAX_REPLICATION_DELAY_MILLISECONDS, "1000")), is(WRITE_DATASOURCE));
+        rule.getSingleDataSourceRule().updateReplicationDelayMilliseconds(READ_DATASOURCE, 500L);
+        assertThat(routeSelectStatement(createProperties(ConfigurationPropertyKey.READWRITE_SPLITTING_MAX_REPLICATION_DELAY_MILLISECONDS, "1000")), is(READ_DATASOURCE));
+    }
+    
+    @Test
+    public void assertCreateRouteContextWithReadYourWrites() {
+        Properties props = createProperties(ConfigurationPropertyKey.READWRITE_SPLITTING_READ_YOUR_WRITES_WINDOW_MILLISECONDS, "60000");
+        ConnectionWriteContext writeContext = new ConnectionWriteContext();
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(MySQLInsertStatement.class));
+        sqlRouter.createRouteContext(new LogicSQL(sqlStatementContext, "", Collections.emptyList(), writeContext), mockDatabase(), rule, new ConfigurationProperties(props));
+        assertThat(routeSelectStatement(props, writeContext), is(READ_DATASOURCE));
+        writeContext.commitPendingWrites();
+        assertThat(routeSelectStatement(props, writeContext), is(WRITE_DATASOURCE));
+        assertThat(routeSelectStatement(props, new ConnectionWriteContext()), is(READ_DATASOURCE));
+    }
+    
+    @Test
+    public void assertCreateRouteContextWithReadYourWritesAfterLastWrite() {
+        Properties props = createProperties(ConfigurationPropertyKey.READWRITE_SPLITTING_READ_YOUR_WRITES_WINDOW_MILLISECONDS, "60000");
+        ConnectionWriteContext writeContext = mock(ConnectionWriteContext.class);
+        when(writeContext.findLastWriteNanoTime(DATASOURCE_NAME)).thenReturn(Optional.of(System.nanoTime() - TimeUnit.SECONDS.toNanos(10L)));
+        rule.getSingleDataSourceRule().updateReplicationDelayMilliseconds(READ_DATASOURCE, 20000L);
+        assertThat(routeSelectStatement(props, writeContext), is(WRITE_DATASOURCE));
+        rule.getSingleDataSourceRule().updateReplicationDelayMilliseconds(READ_DATASOURCE, 1000L);
+        assertThat(routeSelectStatement(props, writeContext), is(READ_DATASOURCE));
+        when(writeContext.findLastWriteNanoTime(DATASOURCE_NAME)).thenReturn(Optional.of(System.nanoTime() - TimeUnit.SECONDS.toNanos(120L)));
+        rule.getSingleDataSourceRule().updateReplicationDelayMilliseconds(READ_DATASOURCE, 20000L);
+        assertThat(routeSelectStatement(props, writeContext), is(READ_DATASOURCE));
+    }
+    
     @Test
     public void assertSqlHintRouteWriteOnly() {
         SelectStatement statement = mock(SelectStatement.class);
@@ -265,6 +302,30 @@ public final class ReadwriteSplittingSQLRouterTest {
         assertThat(routedDataSourceNames.next(), is(WRITE_DATASOURCE));
     }
     
+    private String routeSelectStatement(final Properties props) {
+        return routeSelectStatement(props, new ConnectionWriteContext());
+    }
+    
+    private String routeSelectStatement(final Properties props, final ConnectionWriteContext writeContext) {
+        MySQLSelectStatement selectStatement = mock(MySQLSelectStatement.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(selectStatement);
+        when(selectStatement.getLock()).thenReturn(Optional.empty());
+        LogicSQL logicSQL = new LogicSQL(sqlStatementContext, "", Collections.emptyList(), writeContext);
+        RouteContext actual = sqlRouter.createRouteContext(logicSQL, mockDatabase(), rule, new ConfigurationProperties(props));
+        return actual.getActualDataSourceNames().iterator().next();
+    }
+    
+    private ShardingSphereDatabase mockDatabase() {
+        return new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME, mock(DatabaseType.class), mock(ShardingSphereResource.class, RETURNS_DEEP_STUBS),
+                new ShardingSphereRuleMetaData(Collections.singleton(rule)), Collections.emptyMap());
+    }
+    
+    private Properties createProperties(final ConfigurationPropertyKey key, final String value) {
+        Properties result = new Properties();
+        result.setProperty(key.getKey(), value);
+        return result;
+    }
+    
     private RouteContext mockRouteContext() {
         RouteContext result = new RouteContext();
         RouteUnit routeUnit = new RouteUnit(new RouteMapper(DATASOURCE_NAME, DATASOURCE_NAME), Collections.singletonList(new RouteMapper("table", "table_0")));
@@ -25,6 +25,7 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -76,4 +77,11 @@ public final class ReadwriteSplittingDataSourceRuleTest {
         readwriteSplittingDataSourceRule.updateDisabledDataSourceNames("read_ds_0", true);
         assertThat(readwriteSplittingDataSourceRule.getEnabledReplicaDataSources(), is(Collections.singletonList("read_ds_1")));
     }
+    
+    @Test
+    public void assertFindReplicationDelayMilliseconds() {
+        assertThat(readwriteSplittingDataSourceRule.findReplicationDelayMilliseconds("read_ds_0"), is(Optional.empty()));
+        readwriteSplittingDataSourceRule.updateReplicationDelayMilliseconds("read_ds_0", 1000L);
+        assertThat(readwriteSplittingDataSourceRule.findReplicationDelayMilliseconds("read_ds_0"), is(Optional.of(1000L)));
+    }
 }
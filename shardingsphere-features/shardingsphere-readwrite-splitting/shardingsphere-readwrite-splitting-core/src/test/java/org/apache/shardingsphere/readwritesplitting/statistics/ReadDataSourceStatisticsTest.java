@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.statistics;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ReadDataSourceStatisticsTest {
+    
+    @Test
+    public void assertFinishSuccess() {
+        ReadDataSourceStatistics statistics = new ReadDataSourceStatistics();
+        statistics.start();
+        statistics.start();
+        assertThat(statistics.getInFlightCount(), is(2));
+        statistics.finishSuccess(1000L, 10L);
+        assertThat(statistics.getInFlightCount(), is(1));
+        assertThat(statistics.getResponseTimeNanos(), is(1000L));
+        assertThat(statistics.getLastResponseNanoTime(), is(10L));
+        statistics.finishSuccess(2000L, 20L);
+        assertThat(statistics.getInFlightCount(), is(0));
+        assertThat(statistics.getResponseTimeNanos(), is(1200L));
+        assertThat(statistics.getLastResponseNanoTime(), is(20L));
+    }
+    
+    @Test
+    public void assertFinishFailure() {
+        ReadDataSourceStatistics statistics = new ReadDataSourceStatistics();
+        statistics.start();
+        statistics.finishSuccess(1000L, 10L);
+        statistics.start();
+        statistics.finishFailure(10L, 20L);
+        assertThat(statistics.getInFlightCount(), is(0));
+        assertThat(statistics.getResponseTimeNanos(), is(1200L));
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.keygen;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.config.algorithm.InstanceAwareAlgorithm;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock free snowflake key generate algorithm.
+ * 
+ * <p>
+ *     Generates keys with the same layout as {@link SnowflakeKeyGenerateAlgorithm}, but keeps timestamp offset and sequence packed in one word updated by CAS instead of a monitor.
+ *     When the sequence of current millisecond is exhausted, it borrows the next millisecond instead of spinning,
+ *     as long as the borrowed time stays within {@code max-tolerate-time-difference-milliseconds} ahead of the system clock.
+ *     Bulk generation reserves keys millisecond by millisecond, so the last key of a reservation is checked against the tolerance too.
+ * </p>
+ */
+public final class LockFreeSnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm, InstanceAwareAlgorithm {
+    
+    private static final String MAX_VIBRATION_OFFSET_KEY = "max-vibration-offset";
+    
+    private static final String MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS_KEY = "max-tolerate-time-difference-milliseconds";
+    
+    private static final long SEQUENCE_BITS = 12L;
+    
+    private static final long WORKER_ID_BITS = 10L;
+    
+    private static final long SEQUENCE_MASK = (1 << SEQUENCE_BITS) - 1;
+    
+    private static final long WORKER_ID_LEFT_SHIFT_BITS = SEQUENCE_BITS;
+    
+    private static final long TIMESTAMP_LEFT_SHIFT_BITS = WORKER_ID_LEFT_SHIFT_BITS + WORKER_ID_BITS;
+    
+    private static final int DEFAULT_VIBRATION_VALUE = 1;
+    
+    private static final int MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS = 10;
+    
+    private static final long DEFAULT_WORKER_ID = 0;
+    
+    @Setter
+    private static TimeService timeService = new TimeService();
+    
+    private final AtomicLong lastTimestampSequence = new AtomicLong();
+    
+    private final AtomicLong lastObservedMilliseconds = new AtomicLong();
+    
+    @Getter
+    private Properties props;
+    
+    private int maxVibrationOffset;
+    
+    private int maxTolerateTimeDifferenceMilliseconds;
+    
+    private volatile InstanceContext instanceContext;
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        maxVibrationOffset = getMaxVibrationOffset(props);
+        maxTolerateTimeDifferenceMilliseconds = getMaxTolerateTimeDifferenceMilliseconds(props);
+    }
+    
+    @Override
+    public void setInstanceContext(final InstanceContext instanceContext) {
+        this.instanceContext = instanceContext;
+        if (null != instanceContext) {
+            instanceContext.generateWorkerId(props);
+        }
+    }
+    
+    private int getMaxVibrationOffset(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(MAX_VIBRATION_OFFSET_KEY, DEFAULT_VIBRATION_VALUE).toString());
+        Preconditions.checkArgument(result >= 0 && result <= SEQUENCE_MASK, "Illegal max vibration offset.");
+        return result;
+    }
+    
+    private int getMaxTolerateTimeDifferenceMilliseconds(final Properties props) {
+        return Integer.parseInt(props.getOrDefault(MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS_KEY, MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS).toString());
+    }
+    
+    @Override
+    public Long generateKey() {
+        return toKey(reserve(1), getWorkerId());
+    }
+    
+    @Override
+    public Collection<Comparable<?>> generateKeys(final int keyGenerateCount) {
+        if (keyGenerateCount <= 0) {
+            return Collections.emptyList();
+        }
+        long workerId = getWorkerId();
+        Collection<Comparable<?>> result = new ArrayList<>(keyGenerateCount);
+        int remainingCount = keyGenerateCount;
+        while (remainingCount > 0) {
+            long first = reserve(remainingCount);
+            int reservedCount = getReservedCount(first, remainingCount);
+            for (int i = 0; i < reservedCount; i++) {
+                result.add(toKey(first + i, workerId));
+            }
+            remainingCount -= reservedCount;
+        }
+        return result;
+    }
+    
+    private long reserve(final int keyGenerateCount) {
+        while (true) {
+            long currentMilliseconds = timeService.getCurrentMillis() - SnowflakeKeyGenerateAlgorithm.EPOCH;
+            checkClockMovingBackwards(currentMilliseconds);
+            long last = lastTimestampSequence.get();
+            long first = currentMilliseconds > (last >>> SEQUENCE_BITS) ? (currentMilliseconds << SEQUENCE_BITS) | getSequenceOffset(currentMilliseconds) : last + 1;
+            if ((first >>> SEQUENCE_BITS) - currentMilliseconds > maxTolerateTimeDifferenceMilliseconds) {
+                Thread.yield();
+                continue;
+            }
+            if (lastTimestampSequence.compareAndSet(last, first + getReservedCount(first, keyGenerateCount) - 1)) {
+                return first;
+            }
+        }
+    }
+    
+    private int getReservedCount(final long first, final int keyGenerateCount) {
+        return (int) Math.min(keyGenerateCount, SEQUENCE_MASK + 1 - (first & SEQUENCE_MASK));
+    }
+    
+    private void checkClockMovingBackwards(final long currentMilliseconds) {
+        long lastMilliseconds = lastObservedMilliseconds.get();
+        if (currentMilliseconds > lastMilliseconds) {
+            lastObservedMilliseconds.compareAndSet(lastMilliseconds, currentMilliseconds);
+        } else if (currentMilliseconds < lastMilliseconds) {
+            Preconditions.checkState(lastMilliseconds - currentMilliseconds < maxTolerateTimeDifferenceMilliseconds,
+                    "Clock is moving backwards, last time is %s milliseconds, current time is %s milliseconds",
+                    lastMilliseconds + SnowflakeKeyGenerateAlgorithm.EPOCH, currentMilliseconds + SnowflakeKeyGenerateAlgorithm.EPOCH);
+        }
+    }
+    
+    private long getSequenceOffset(final long currentMilliseconds) {
+        return currentMilliseconds % (maxVibrationOffset + 1);
+    }
+    
+    private long toKey(final long timestampSequence, final long workerId) {
+        return ((timestampSequence >>> SEQUENCE_BITS) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | (timestampSequence & SEQUENCE_MASK);
+    }
+    
+    private long getWorkerId() {
+        return null == instanceContext ? DEFAULT_WORKER_ID : instanceContext.getWorkerId();
+    }
+    
+    @Override
+    public String getType() {
+        return "LOCK_FREE_SNOWFLAKE";
+    }
+}
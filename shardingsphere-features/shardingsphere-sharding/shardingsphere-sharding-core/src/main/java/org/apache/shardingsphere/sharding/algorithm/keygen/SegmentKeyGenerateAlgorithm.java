@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.keygen;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.algorithm.InstanceAwareAlgorithm;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Segment key generate algorithm.
+ * 
+ * <p>
+ *     Leases contiguous key segments from the persist repository of current mode, and hands out keys of the leased segment locally.
+ *     The first segment is leased on the first key generation, so rebuilding the rule does not burn a segment.
+ *     The next segment is allocated asynchronously once remaining keys of current segment drop to the prefetch threshold.
+ * </p>
+ */
+public final class SegmentKeyGenerateAlgorithm implements KeyGenerateAlgorithm, InstanceAwareAlgorithm {
+    
+    private static final String SEGMENT_NAME_KEY = "segment-name";
+    
+    private static final String SEGMENT_SIZE_KEY = "segment-size";
+    
+    private static final String PREFETCH_THRESHOLD_PERCENT_KEY = "prefetch-threshold-percent";
+    
+    private static final String DEFAULT_SEGMENT_NAME = "default";
+    
+    private static final int DEFAULT_SEGMENT_SIZE = 10000;
+    
+    private static final int DEFAULT_PREFETCH_THRESHOLD_PERCENT = 20;
+    
+    private static final int MAX_PREFETCH_THREADS = 2;
+    
+    private static final ExecutorService PREFETCH_EXECUTOR = createPrefetchExecutor();
+    
+    @Getter
+    private Properties props;
+    
+    private String segmentName;
+    
+    private int segmentSize;
+    
+    private long prefetchThreshold;
+    
+    private volatile InstanceContext instanceContext;
+    
+    private volatile KeySegment currentSegment;
+    
+    private CompletableFuture<KeySegment> nextSegment;
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        segmentName = props.getProperty(SEGMENT_NAME_KEY, DEFAULT_SEGMENT_NAME);
+        segmentSize = getSegmentSize(props);
+        prefetchThreshold = (long) segmentSize * getPrefetchThresholdPercent(props) / 100;
+    }
+    
+    private static ExecutorService createPrefetchExecutor() {
+        ThreadPoolExecutor result = new ThreadPoolExecutor(MAX_PREFETCH_THREADS, MAX_PREFETCH_THREADS, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                ExecutorThreadFactoryBuilder.build("KeySegment-Prefetch-%d"));
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+    
+    private int getSegmentSize(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(SEGMENT_SIZE_KEY, DEFAULT_SEGMENT_SIZE).toString());
+        Preconditions.checkArgument(result > 0, "Segment size must be positive.");
+        return result;
+    }
+    
+    private int getPrefetchThresholdPercent(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(PREFETCH_THRESHOLD_PERCENT_KEY, DEFAULT_PREFETCH_THRESHOLD_PERCENT).toString());
+        Preconditions.checkArgument(result >= 0 && result < 100, "Prefetch threshold percent must be in range [0, 100).");
+        return result;
+    }
+    
+    @Override
+    public void setInstanceContext(final InstanceContext instanceContext) {
+        this.instanceContext = instanceContext;
+    }
+    
+    @Override
+    public Long generateKey() {
+        while (true) {
+            KeySegment segment = currentSegment;
+            if (null != segment) {
+                long result = segment.getNextKey().getAndIncrement();
+                if (result < segment.getEndKey()) {
+                    if (segment.getEndKey() - prefetchThreshold == result) {
+                        prefetchNextSegment();
+                    }
+                    return result;
+                }
+            }
+            switchSegment(segment);
+        }
+    }
+    
+    @Override
+    public Collection<Comparable<?>> generateKeys(final int keyGenerateCount) {
+        Collection<Comparable<?>> result = new ArrayList<>(keyGenerateCount);
+        while (result.size() < keyGenerateCount) {
+            KeySegment segment = currentSegment;
+            if (null != segment) {
+                int requiredCount = keyGenerateCount - result.size();
+                long firstKey = segment.getNextKey().getAndAdd(requiredCount);
+                long endKey = Math.min(firstKey + requiredCount, segment.getEndKey());
+                for (long each = firstKey; each < endKey; each++) {
+                    result.add(each);
+                }
+                long prefetchKey = segment.getEndKey() - prefetchThreshold;
+                if (firstKey <= prefetchKey && prefetchKey < endKey) {
+                    prefetchNextSegment();
+                }
+                if (result.size() == keyGenerateCount) {
+                    break;
+                }
+            }
+            switchSegment(segment);
+        }
+        return result;
+    }
+    
+    private synchronized void prefetchNextSegment() {
+        if (null == nextSegment) {
+            nextSegment = CompletableFuture.supplyAsync(this::allocateSegment, PREFETCH_EXECUTOR);
+        }
+    }
+    
+    private synchronized void switchSegment(final KeySegment exhaustedSegment) {
+        if (currentSegment != exhaustedSegment) {
+            return;
+        }
+        if (null == nextSegment) {
+            currentSegment = allocateSegment();
+            return;
+        }
+        try {
+            currentSegment = nextSegment.join();
+        } finally {
+            nextSegment = null;
+        }
+    }
+    
+    private KeySegment allocateSegment() {
+        Preconditions.checkState(null != instanceContext, "Instance context is required by segment key generate algorithm.");
+        long firstKey = instanceContext.allocateKeySegment(segmentName, segmentSize);
+        return new KeySegment(new AtomicLong(firstKey), firstKey + segmentSize);
+    }
+    
+    @Override
+    public String getType() {
+        return "SEGMENT";
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class KeySegment {
+        
+        private final AtomicLong nextKey;
+        
+        private final long endKey;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.infra.util.expr.InlineExpressionParser;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Inline sharding expression evaluator.
+ *
+ * <p>
+ * Expressions of the common forms {@code prefix${column}suffix}, {@code prefix${column % n}suffix} and {@code prefix${column.hashCode() % n}suffix}
+ * (and their {@code $->{...}} forms) are compiled into java functions once, other expressions are evaluated by groovy closure which is cached per thread.
+ * </p>
+ */
+public final class InlineShardingExpressionEvaluator {
+    
+    private static final Pattern COMPILABLE_EXPRESSION_PATTERN = Pattern.compile(
+            "([^$\"'\\\\{}]*)\\$(?:->)?\\{\\s*([A-Za-z_][A-Za-z0-9_]*)\\s*(\\.\\s*hashCode\\s*\\(\\s*\\))?\\s*(?:%\\s*([1-9][0-9]{0,17})\\s*)?}([^$\"'\\\\{}]*)");
+    
+    private static final String CLOSURE_PARAMETER_NAME = "it";
+    
+    private final String algorithmExpression;
+    
+    private final String compiledVariableName;
+    
+    private final Function<Object, String> compiledFunction;
+    
+    private final ThreadLocal<Closure<?>> closures = ThreadLocal.withInitial(this::createClosure);
+    
+    public InlineShardingExpressionEvaluator(final String algorithmExpression) {
+        this.algorithmExpression = algorithmExpression;
+        Matcher matcher = COMPILABLE_EXPRESSION_PATTERN.matcher(algorithmExpression);
+        if (matcher.matches() && !CLOSURE_PARAMETER_NAME.equals(matcher.group(2))) {
+            compiledVariableName = matcher.group(2);
+            compiledFunction = compile(matcher.group(1), null != matcher.group(3), null == matcher.group(4) ? 0L : Long.parseLong(matcher.group(4)), matcher.group(5));
+        } else {
+            compiledVariableName = null;
+            compiledFunction = null;
+        }
+    }
+    
+    private Function<Object, String> compile(final String prefix, final boolean hashCode, final long modulus, final String suffix) {
+        if (hashCode) {
+            return 0L == modulus ? value -> prefix + value.hashCode() + suffix : value -> prefix + value.hashCode() % modulus + suffix;
+        }
+        if (0L == modulus) {
+            return value -> isIntegral(value) || value instanceof String ? prefix + value + suffix : null;
+        }
+        return value -> isIntegral(value) ? prefix + ((Number) value).longValue() % modulus + suffix : null;
+    }
+    
+    private boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    /**
+     * Judge whether expression is compiled.
+     *
+     * @return expression is compiled or not
+     */
+    public boolean isCompiled() {
+        return null != compiledFunction;
+    }
+    
+    /**
+     * Evaluate expression with single variable.
+     *
+     * @param variableName variable name
+     * @param value variable value
+     * @return evaluated result
+     */
+    public String evaluate(final String variableName, final Comparable<?> value) {
+        return evaluate(Collections.singletonMap(variableName, value));
+    }
+    
+    /**
+     * Evaluate expression with variables.
+     *
+     * @param variables variable names and values
+     * @return evaluated result
+     */
+    public String evaluate(final Map<String, ? extends Comparable<?>> variables) {
+        if (null != compiledFunction) {
+            Object value = variables.get(compiledVariableName);
+            String result = null == value ? null : compiledFunction.apply(value);
+            if (null != result) {
+                return result;
+            }
+        }
+        return evaluateClosure(variables);
+    }
+    
+    private String evaluateClosure(final Map<String, ? extends Comparable<?>> variables) {
+        Closure<?> closure = closures.get();
+        ((Expando) closure.getDelegate()).getProperties().clear();
+        for (Entry<String, ? extends Comparable<?>> entry : variables.entrySet()) {
+            closure.setProperty(entry.getKey(), entry.getValue());
+        }
+        return closure.call().toString();
+    }
+    
+    private Closure<?> createClosure() {
+        Closure<?> result = new InlineExpressionParser(algorithmExpression).evaluateClosure().rehydrate(new Expando(), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        return result;
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Serializable;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Spillable merged result for group by.
+ * 
+ * <p>
+ * Groups are aggregated in memory until the max memory rows is reached, rows of other groups are spilled into hash partitioned local temporary files.
+ * Each partition is aggregated and sorted independently, a partition which still has too many groups is partitioned again by the next bits of hash code.
+ * All sorted runs are merged by order by or group by items at last.
+ * Groups are aggregated in memory only if any value to be spilled is not serializable.
+ * </p>
+ */
+@Slf4j
+public final class GroupBySpillableMergedResult implements MergedResult {
+    
+    private static final int PARTITION_BITS = 4;
+    
+    private static final int PARTITION_COUNT = 1 << PARTITION_BITS;
+    
+    private static final int MAX_PARTITION_DEPTH = Integer.SIZE / PARTITION_BITS;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final int maxMemoryRows;
+    
+    private final GroupByRowComparator rowComparator;
+    
+    private final Queue<GroupBySpilledQueryResult> sortedRuns;
+    
+    private final Collection<GroupBySpilledQueryResult> spilledQueryResults = new LinkedList<>();
+    
+    private boolean spillDisabled;
+    
+    private Iterator<MemoryQueryResultRow> memoryRows;
+    
+    private GroupBySpilledQueryResult currentRun;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean wasNull;
+    
+    public GroupBySpillableMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                        final ShardingSphereSchema schema, final int maxMemoryRows) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.maxMemoryRows = maxMemoryRows;
+        rowComparator = new GroupByRowComparator(selectStatementContext, queryResults, schema);
+        sortedRuns = new PriorityQueue<>(PARTITION_COUNT + 1, (o1, o2) -> rowComparator.compare(o1.getCurrentRow(), o2.getCurrentRow()));
+        try {
+            init(queryResults);
+        } catch (final SQLException | RuntimeException ex) {
+            close();
+            throw ex;
+        }
+    }
+    
+    private void init(final List<QueryResult> queryResults) throws SQLException {
+        GroupByAggregator aggregator = new GroupByAggregator(selectStatementContext);
+        GroupBySpilledQueryResult[] partitions = new GroupBySpilledQueryResult[PARTITION_COUNT];
+        for (QueryResult each : queryResults) {
+            aggregateOrSpill(aggregator, each, partitions, 0);
+        }
+        List<GroupBySpilledQueryResult> spilledPartitions = getSpilledPartitions(partitions);
+        if (spilledPartitions.isEmpty()) {
+            memoryRows = aggregator.getSortedRows(rowComparator).iterator();
+            return;
+        }
+        QueryResultMetaData metaData = queryResults.get(0).getMetaData();
+        addSortedRun(aggregator, metaData);
+        for (GroupBySpilledQueryResult each : spilledPartitions) {
+            mergePartition(aggregator, each, metaData, 1);
+        }
+    }
+    
+    private void aggregateOrSpill(final GroupByAggregator aggregator, final QueryResult queryResult, final GroupBySpilledQueryResult[] partitions, final int depth) throws SQLException {
+        while (queryResult.next()) {
+            GroupByValue groupByValue = new GroupByValue(queryResult, selectStatementContext.getGroupByContext().getItems());
+            if (spillDisabled || MAX_PARTITION_DEPTH == depth || aggregator.contains(groupByValue) || aggregator.getGroupCount() < maxMemoryRows) {
+                aggregator.aggregate(queryResult, groupByValue);
+            } else {
+                Object[] row = loadRow(queryResult);
+                Optional<Object> notSerializableValue = findNotSerializableValue(row);
+                if (notSerializableValue.isPresent()) {
+                    disableSpill(aggregator, partitions, notSerializableValue.get());
+                    aggregator.aggregate(queryResult, groupByValue);
+                } else {
+                    getPartition(partitions, groupByValue, queryResult.getMetaData(), depth).write(row);
+                }
+            }
+        }
+    }
+    
+    private Object[] loadRow(final QueryResult queryResult) throws SQLException {
+        Object[] result = new Object[queryResult.getMetaData().getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    private Optional<Object> findNotSerializableValue(final Object[] row) {
+        for (Object each : row) {
+            if (null != each && !(each instanceof Serializable)) {
+                return Optional.of(each);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private void disableSpill(final GroupByAggregator aggregator, final GroupBySpilledQueryResult[] partitions, final Object notSerializableValue) throws SQLException {
+        log.warn("Can not spill value of `{}` which is not serializable, all groups of group by merging are aggregated in memory.", notSerializableValue.getClass().getName());
+        for (int i = 0; i < partitions.length; i++) {
+            if (null != partitions[i]) {
+                aggregate(aggregator, partitions[i]);
+                partitions[i] = null;
+            }
+        }
+        spillDisabled = true;
+    }
+    
+    private GroupBySpilledQueryResult getPartition(final GroupBySpilledQueryResult[] partitions, final GroupByValue groupByValue,
+                                                   final QueryResultMetaData metaData, final int depth) throws SQLException {
+        int index = (groupByValue.hashCode() >>> (depth * PARTITION_BITS)) & (PARTITION_COUNT - 1);
+        if (null == partitions[index]) {
+            partitions[index] = createSpilledQueryResult(metaData);
+        }
+        return partitions[index];
+    }
+    
+    private GroupBySpilledQueryResult createSpilledQueryResult(final QueryResultMetaData metaData) throws SQLException {
+        GroupBySpilledQueryResult result = new GroupBySpilledQueryResult(metaData);
+        spilledQueryResults.add(result);
+        return result;
+    }
+    
+    private List<GroupBySpilledQueryResult> getSpilledPartitions(final GroupBySpilledQueryResult[] partitions) {
+        List<GroupBySpilledQueryResult> result = new LinkedList<>();
+        for (GroupBySpilledQueryResult each : partitions) {
+            if (null != each) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private void aggregate(final GroupByAggregator aggregator, final GroupBySpilledQueryResult partition) throws SQLException {
+        try {
+            while (partition.next()) {
+                aggregator.aggregate(partition, new GroupByValue(partition, selectStatementContext.getGroupByContext().getItems()));
+            }
+        } finally {
+            partition.close();
+        }
+    }
+    
+    private void mergePartition(final GroupByAggregator aggregator, final GroupBySpilledQueryResult partition, final QueryResultMetaData metaData, final int depth) throws SQLException {
+        GroupBySpilledQueryResult[] subPartitions = new GroupBySpilledQueryResult[PARTITION_COUNT];
+        try {
+            aggregateOrSpill(aggregator, partition, subPartitions, depth);
+        } finally {
+            partition.close();
+        }
+        addSortedRun(aggregator, metaData);
+        for (GroupBySpilledQueryResult each : getSpilledPartitions(subPartitions)) {
+            mergePartition(aggregator, each, metaData, depth + 1);
+        }
+    }
+    
+    private void addSortedRun(final GroupByAggregator aggregator, final QueryResultMetaData metaData) throws SQLException {
+        GroupBySpilledQueryResult sortedRun = createSpilledQueryResult(metaData);
+        for (MemoryQueryResultRow each : aggregator.getSortedRows(rowComparator)) {
+            sortedRun.write(each);
+        }
+        aggregator.clear();
+        if (sortedRun.next()) {
+            sortedRuns.offer(sortedRun);
+        } else {
+            sortedRun.close();
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (null != memoryRows) {
+            if (memoryRows.hasNext()) {
+                currentRow = memoryRows.next();
+                return true;
+            }
+            return false;
+        }
+        if (null != currentRun) {
+            if (currentRun.next()) {
+                sortedRuns.offer(currentRun);
+            } else {
+                currentRun.close();
+            }
+        }
+        currentRun = sortedRuns.poll();
+        if (null == currentRun) {
+            return false;
+        }
+        currentRow = currentRun.getCurrentRow();
+        return true;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (Blob.class == type || Clob.class == type || Reader.class == type || InputStream.class == type || SQLXML.class == type) {
+            throw new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName()));
+        }
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        SQLException result = null;
+        for (GroupBySpilledQueryResult each : spilledQueryResults) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                if (null == result) {
+                    result = ex;
+                } else {
+                    result.setNextException(ex);
+                }
+            }
+        }
+        spilledQueryResults.clear();
+        sortedRuns.clear();
+        currentRun = null;
+        if (null != result) {
+            throw result;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Calendar;
+
+/**
+ * Group by spilled query result, rows are written to local temporary file first and then read back in written order.
+ */
+public final class GroupBySpilledQueryResult implements QueryResult {
+    
+    private static final int OUTPUT_RESET_INTERVAL = 1024;
+    
+    @Getter
+    private final QueryResultMetaData metaData;
+    
+    private final int columnCount;
+    
+    private final Path file;
+    
+    private ObjectOutputStream outputStream;
+    
+    private ObjectInputStream inputStream;
+    
+    private int writtenRowCount;
+    
+    private int remainingRowCount;
+    
+    @Getter
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean wasNull;
+    
+    public GroupBySpilledQueryResult(final QueryResultMetaData metaData) throws SQLException {
+        this.metaData = metaData;
+        columnCount = metaData.getColumnCount();
+        file = createTemporaryFile();
+        outputStream = createOutputStream(file);
+    }
+    
+    private Path createTemporaryFile() throws SQLException {
+        try {
+            return Files.createTempFile("shardingsphere-group-by-", ".spill");
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    private ObjectOutputStream createOutputStream(final Path file) throws SQLException {
+        try {
+            return new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    /**
+     * Write memory query result row.
+     *
+     * @param row memory query result row
+     * @throws SQLException SQL exception
+     */
+    public void write(final MemoryQueryResultRow row) throws SQLException {
+        Object[] data = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            data[i] = row.getCell(i + 1);
+        }
+        write(data);
+    }
+    
+    /**
+     * Write row data, all values must be serializable.
+     *
+     * @param data row data
+     * @throws SQLException SQL exception
+     */
+    public void write(final Object[] data) throws SQLException {
+        Preconditions.checkState(null != outputStream, "Can not write rows after spilled query result is read.");
+        try {
+            for (Object each : data) {
+                outputStream.writeObject(each);
+            }
+            writtenRowCount++;
+            if (0 == writtenRowCount % OUTPUT_RESET_INTERVAL) {
+                outputStream.reset();
+            }
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (null == inputStream) {
+            openInputStream();
+        }
+        if (0 == remainingRowCount) {
+            currentRow = null;
+            return false;
+        }
+        Object[] data = new Object[columnCount];
+        try {
+            for (int i = 0; i < columnCount; i++) {
+                data[i] = inputStream.readObject();
+            }
+        } catch (final IOException | ClassNotFoundException ex) {
+            throw new SQLException(ex);
+        }
+        remainingRowCount--;
+        currentRow = new MemoryQueryResultRow(data);
+        return true;
+    }
+    
+    private void openInputStream() throws SQLException {
+        try {
+            outputStream.close();
+            outputStream = null;
+            inputStream = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file)));
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+        remainingRowCount = writtenRowCount;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (null != outputStream) {
+                outputStream.close();
+            }
+            if (null != inputStream) {
+                inputStream.close();
+            }
+            Files.deleteIfExists(file);
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+}
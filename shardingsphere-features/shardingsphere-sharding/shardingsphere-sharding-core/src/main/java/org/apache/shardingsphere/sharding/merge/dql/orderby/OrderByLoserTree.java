@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ *
+ * <p>
+ * Each internal node keeps the loser of its sub tree, so replacing the winner only replays the path from its leaf to the root,
+ * which costs one comparison per tree level.
+ * </p>
+ */
+public final class OrderByLoserTree {
+    
+    private static final int MIN_SENTINEL = -1;
+    
+    private final List<OrderByValue> orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] tree;
+    
+    private int remaining;
+    
+    public OrderByLoserTree(final List<OrderByValue> orderByValues) {
+        this.orderByValues = orderByValues;
+        exhausted = new boolean[orderByValues.size()];
+        tree = new int[orderByValues.size()];
+        remaining = orderByValues.size();
+        Arrays.fill(tree, MIN_SENTINEL);
+        for (int i = orderByValues.size() - 1; i >= 0; i--) {
+            adjust(i);
+        }
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == remaining;
+    }
+    
+    /**
+     * Get order by value of the winner.
+     *
+     * @return order by value of the winner, null if empty
+     */
+    public OrderByValue peek() {
+        return isEmpty() ? null : orderByValues.get(tree[0]);
+    }
+    
+    /**
+     * Iterate winner to next data and replay the tree.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void next() throws SQLException {
+        if (isEmpty()) {
+            return;
+        }
+        int winner = tree[0];
+        if (!orderByValues.get(winner).next()) {
+            exhausted[winner] = true;
+            remaining--;
+        }
+        adjust(winner);
+    }
+    
+    private void adjust(final int leaf) {
+        int winner = leaf;
+        for (int node = (leaf + tree.length) / 2; node > 0; node /= 2) {
+            if (isBefore(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    private boolean isBefore(final int index, final int otherIndex) {
+        if (MIN_SENTINEL == index) {
+            return true;
+        }
+        if (MIN_SENTINEL == otherIndex || exhausted[index]) {
+            return false;
+        }
+        if (exhausted[otherIndex]) {
+            return true;
+        }
+        return orderByValues.get(index).compareTo(orderByValues.get(otherIndex)) < 0;
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rule;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+
+import java.util.AbstractList;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
+
+/**
+ * Compact data nodes.
+ * 
+ * <p>Data source names and table names are interned, and each data node is encoded as indexes of them in primitive arrays.
+ * Data node instances are created only when they are accessed from views.</p>
+ */
+final class CompactDataNodes {
+    
+    private final String[] dataSourceNames;
+    
+    private final String[] tableNames;
+    
+    private final String[] sortedTableNames;
+    
+    private final int[] dataSourceIndexes;
+    
+    private final int[] tableIndexes;
+    
+    private final int[][] dataSourceNodeIndexes;
+    
+    private final int[][] dataSourceNodeIndexesOrderByTable;
+    
+    private final Collection<String> dataSourceNameSet;
+    
+    CompactDataNodes(final Collection<DataNode> dataNodes) {
+        Map<String, Integer> dataSourceNameIndexes = new LinkedHashMap<>();
+        Map<String, Integer> tableNameIndexes = new LinkedHashMap<>();
+        dataSourceIndexes = new int[dataNodes.size()];
+        tableIndexes = new int[dataNodes.size()];
+        int index = 0;
+        for (DataNode each : dataNodes) {
+            dataSourceIndexes[index] = dataSourceNameIndexes.computeIfAbsent(each.getDataSourceName(), key -> dataSourceNameIndexes.size());
+            tableIndexes[index] = tableNameIndexes.computeIfAbsent(each.getTableName(), key -> tableNameIndexes.size());
+            index++;
+        }
+        dataSourceNames = dataSourceNameIndexes.keySet().toArray(new String[0]);
+        tableNames = tableNameIndexes.keySet().toArray(new String[0]);
+        sortedTableNames = tableNames.clone();
+        Arrays.sort(sortedTableNames, String.CASE_INSENSITIVE_ORDER);
+        dataSourceNodeIndexes = createDataSourceNodeIndexes();
+        dataSourceNodeIndexesOrderByTable = createDataSourceNodeIndexesOrderByTable();
+        dataSourceNameSet = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(dataSourceNames)));
+    }
+    
+    private int[][] createDataSourceNodeIndexes() {
+        int[] counts = new int[dataSourceNames.length];
+        for (int each : dataSourceIndexes) {
+            counts[each]++;
+        }
+        int[][] result = new int[dataSourceNames.length][];
+        for (int i = 0; i < dataSourceNames.length; i++) {
+            result[i] = new int[counts[i]];
+            counts[i] = 0;
+        }
+        for (int i = 0; i < dataSourceIndexes.length; i++) {
+            result[dataSourceIndexes[i]][counts[dataSourceIndexes[i]]++] = i;
+        }
+        return result;
+    }
+    
+    private int[][] createDataSourceNodeIndexesOrderByTable() {
+        int[][] result = new int[dataSourceNodeIndexes.length][];
+        for (int i = 0; i < dataSourceNodeIndexes.length; i++) {
+            result[i] = IntStream.of(dataSourceNodeIndexes[i]).boxed()
+                    .sorted((o1, o2) -> String.CASE_INSENSITIVE_ORDER.compare(tableNames[tableIndexes[o1]], tableNames[tableIndexes[o2]])).mapToInt(Integer::intValue).toArray();
+        }
+        return result;
+    }
+    
+    /**
+     * Get count of data nodes.
+     * 
+     * @return count of data nodes
+     */
+    int size() {
+        return dataSourceIndexes.length;
+    }
+    
+    /**
+     * Get data nodes.
+     * 
+     * @return view of data nodes
+     */
+    List<DataNode> getDataNodes() {
+        return new DataNodeList(null);
+    }
+    
+    /**
+     * Get data node groups.
+     * 
+     * @return data node groups, key is data source name, values are views of data nodes belong to this data source
+     */
+    Map<String, List<DataNode>> getDataNodeGroups() {
+        Map<String, List<DataNode>> result = new LinkedHashMap<>(dataSourceNames.length, 1);
+        for (int i = 0; i < dataSourceNames.length; i++) {
+            result.put(dataSourceNames[i], new DataNodeList(dataSourceNodeIndexes[i]));
+        }
+        return result;
+    }
+    
+    /**
+     * Get data source names.
+     * 
+     * @return data source names
+     */
+    Collection<String> getDataSourceNames() {
+        return dataSourceNameSet;
+    }
+    
+    /**
+     * Get table names of data source.
+     * 
+     * @param dataSourceName data source name
+     * @return view of table names
+     */
+    Collection<String> getTableNames(final String dataSourceName) {
+        for (int i = 0; i < dataSourceNames.length; i++) {
+            if (dataSourceNames[i].equals(dataSourceName)) {
+                return new TableNameSet(dataSourceNodeIndexes[i], dataSourceNodeIndexesOrderByTable[i]);
+            }
+        }
+        return Collections.emptySet();
+    }
+    
+    /**
+     * Get table names of all data sources.
+     * 
+     * @return table names of all data sources
+     */
+    Map<String, Collection<String>> getDataSourceToTableNames() {
+        Map<String, Collection<String>> result = new LinkedHashMap<>(dataSourceNames.length, 1);
+        for (int i = 0; i < dataSourceNames.length; i++) {
+            result.put(dataSourceNames[i], new TableNameSet(dataSourceNodeIndexes[i], dataSourceNodeIndexesOrderByTable[i]));
+        }
+        return result;
+    }
+    
+    /**
+     * Find index of data node, data source name and table name are case insensitive.
+     * 
+     * @param dataSourceName data source name
+     * @param tableName table name
+     * @return index of data node, {@code -1} if not found
+     */
+    int findIndex(final String dataSourceName, final String tableName) {
+        for (int i = 0; i < dataSourceNames.length; i++) {
+            if (dataSourceNames[i].equalsIgnoreCase(dataSourceName)) {
+                int result = findIndex(dataSourceNodeIndexesOrderByTable[i], tableName);
+                if (-1 != result) {
+                    return result;
+                }
+            }
+        }
+        return -1;
+    }
+    
+    private int findIndex(final int[] nodeIndexesOrderByTable, final String tableName) {
+        int low = 0;
+        int high = nodeIndexesOrderByTable.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int compareResult = String.CASE_INSENSITIVE_ORDER.compare(tableNames[tableIndexes[nodeIndexesOrderByTable[middle]]], tableName);
+            if (compareResult < 0) {
+                low = middle + 1;
+            } else if (compareResult > 0) {
+                high = middle - 1;
+            } else {
+                return nodeIndexesOrderByTable[middle];
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Judge whether contains table name, table name is case insensitive.
+     * 
+     * @param tableName table name
+     * @return contains table name or not
+     */
+    boolean containsTable(final String tableName) {
+        return Arrays.binarySearch(sortedTableNames, tableName, String.CASE_INSENSITIVE_ORDER) >= 0;
+    }
+    
+    @Override
+    public String toString() {
+        return getDataNodes().toString();
+    }
+    
+    private final class DataNodeList extends AbstractList<DataNode> implements RandomAccess {
+        
+        private final int[] nodeIndexes;
+        
+        DataNodeList(final int[] nodeIndexes) {
+            this.nodeIndexes = nodeIndexes;
+        }
+        
+        @Override
+        public DataNode get(final int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException(String.valueOf(index));
+            }
+            int nodeIndex = null == nodeIndexes ? index : nodeIndexes[index];
+            return new DataNode(dataSourceNames[dataSourceIndexes[nodeIndex]], tableNames[tableIndexes[nodeIndex]]);
+        }
+        
+        @Override
+        public int size() {
+            return null == nodeIndexes ? dataSourceIndexes.length : nodeIndexes.length;
+        }
+    }
+    
+    private final class TableNameSet extends AbstractSet<String> {
+        
+        private final int[] nodeIndexes;
+        
+        private final int[] nodeIndexesOrderByTable;
+        
+        TableNameSet(final int[] nodeIndexes, final int[] nodeIndexesOrderByTable) {
+            this.nodeIndexes = nodeIndexes;
+            this.nodeIndexesOrderByTable = nodeIndexesOrderByTable;
+        }
+        
+        @Override
+        public boolean contains(final Object o) {
+            if (!(o instanceof String)) {
+                return false;
+            }
+            int index = findIndex(nodeIndexesOrderByTable, (String) o);
+            return -1 != index && tableNames[tableIndexes[index]].equals(o);
+        }
+        
+        @Override
+        public Iterator<String> iterator() {
+            return new Iterator<String>() {
+                
+                private int position;
+                
+                @Override
+                public boolean hasNext() {
+                    return position < nodeIndexes.length;
+                }
+                
+                @Override
+                public String next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return tableNames[tableIndexes[nodeIndexes[position++]]];
+                }
+            };
+        }
+        
+        @Override
+        public int size() {
+            return nodeIndexes.length;
+        }
+    }
+}
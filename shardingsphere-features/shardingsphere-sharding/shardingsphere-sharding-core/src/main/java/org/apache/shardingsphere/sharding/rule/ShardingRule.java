@@ -598,6 +598,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @param logicTableName logic table name
      * @return column name of generated key
      */
+    @Override
     public Optional<String> findGenerateKeyColumnName(final String logicTableName) {
         return Optional.ofNullable(tableRules.get(logicTableName.toLowerCase())).filter(each -> each.getGenerateKeyColumn().isPresent()).flatMap(TableRule::getGenerateKeyColumn);
     }
@@ -609,12 +610,26 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @return generated key
      */
     public Comparable<?> generateKey(final String logicTableName) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKey();
+    }
+    
+    /**
+     * Generate keys of logic table.
+     *
+     * @param logicTableName logic table name
+     * @param keyGenerateCount key generate count
+     * @return generated keys
+     */
+    public Collection<Comparable<?>> generateKeys(final String logicTableName, final int keyGenerateCount) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKeys(keyGenerateCount);
+    }
+    
+    private KeyGenerateAlgorithm getKeyGenerateAlgorithm(final String logicTableName) {
         Optional<TableRule> tableRule = findTableRule(logicTableName);
         if (!tableRule.isPresent()) {
             throw new ShardingSphereConfigurationException("Cannot find strategy for generate keys.");
         }
-        KeyGenerateAlgorithm keyGenerator = null != tableRule.get().getKeyGeneratorName() ? keyGenerators.get(tableRule.get().getKeyGeneratorName()) : defaultKeyGenerateAlgorithm;
-        return keyGenerator.generateKey();
+        return null != tableRule.get().getKeyGeneratorName() ? keyGenerators.get(tableRule.get().getKeyGeneratorName()) : defaultKeyGenerateAlgorithm;
     }
     
     /**
@@ -35,25 +35,20 @@ import org.apache.shardingsphere.sharding.api.config.strategy.sharding.NoneShard
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.TreeSet;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * Table rule.
  */
 @Getter
-@ToString(exclude = {"dataNodeIndexMap", "actualTables", "actualTablePrefix", "actualDataSourceNames", "dataSourceDataNode", "tableDataNode"})
+@ToString(exclude = {"actualTablePrefix", "dataSourceDataNode", "tableDataNode"})
 public final class TableRule {
     
     private static final Pattern DATA_NODE_SUFFIX_PATTERN = Pattern.compile("\\d+$");
@@ -62,15 +57,10 @@ public final class TableRule {
     
     private final String logicTable;
     
-    private final List<DataNode> actualDataNodes;
-    
-    private final String actualTablePrefix;
-    
     @Getter(AccessLevel.NONE)
-    private final Set<String> actualTables;
+    private final CompactDataNodes actualDataNodes;
     
-    @Getter(AccessLevel.NONE)
-    private final Map<DataNode, Integer> dataNodeIndexMap;
+    private final String actualTablePrefix;
     
     private final ShardingStrategyConfiguration databaseShardingStrategyConfig;
     
@@ -83,45 +73,37 @@ public final class TableRule {
     
     private final String keyGeneratorName;
     
-    private final Collection<String> actualDataSourceNames = new LinkedHashSet<>();
-    
-    private final Map<String, Collection<String>> dataSourceToTablesMap = new HashMap<>();
-    
     private final DataNodeInfo dataSourceDataNode;
     
     private final DataNodeInfo tableDataNode;
     
     public TableRule(final Collection<String> dataSourceNames, final String logicTableName) {
         logicTable = logicTableName;
-        dataNodeIndexMap = new HashMap<>(dataSourceNames.size(), 1);
         actualTablePrefix = null;
-        actualDataNodes = generateDataNodes(logicTableName, dataSourceNames, null);
-        actualTables = getActualTables();
+        actualDataNodes = new CompactDataNodes(generateDataNodes(logicTableName, dataSourceNames, null));
         databaseShardingStrategyConfig = null;
         tableShardingStrategyConfig = null;
         auditStrategyConfig = null;
         generateKeyColumn = null;
         keyGeneratorName = null;
-        dataSourceDataNode = actualDataNodes.isEmpty() ? null : createDataSourceDataNode(actualDataNodes);
-        tableDataNode = actualDataNodes.isEmpty() ? null : createTableDataNode(actualDataNodes);
+        dataSourceDataNode = 0 == actualDataNodes.size() ? null : createDataSourceDataNode(actualDataNodes.getDataNodes());
+        tableDataNode = 0 == actualDataNodes.size() ? null : createTableDataNode(actualDataNodes.getDataNodes());
     }
     
     public TableRule(final ShardingTableRuleConfiguration tableRuleConfig, final Collection<String> dataSourceNames, final String defaultGenerateKeyColumn) {
         logicTable = tableRuleConfig.getLogicTable();
         List<String> dataNodes = new InlineExpressionParser(tableRuleConfig.getActualDataNodes()).splitAndEvaluate();
-        dataNodeIndexMap = new HashMap<>(dataNodes.size(), 1);
         actualTablePrefix = tableRuleConfig.getActualTablePrefix();
-        actualDataNodes = isEmptyDataNodes(dataNodes) ? generateDataNodes(tableRuleConfig.getLogicTable(), dataSourceNames, actualTablePrefix)
-                : generateDataNodes(dataNodes, dataSourceNames, actualTablePrefix);
-        actualTables = getActualTables();
+        actualDataNodes = new CompactDataNodes(isEmptyDataNodes(dataNodes) ? generateDataNodes(tableRuleConfig.getLogicTable(), dataSourceNames, actualTablePrefix)
+                : generateDataNodes(dataNodes, dataSourceNames, actualTablePrefix));
         databaseShardingStrategyConfig = tableRuleConfig.getDatabaseShardingStrategy();
         tableShardingStrategyConfig = tableRuleConfig.getTableShardingStrategy();
         auditStrategyConfig = tableRuleConfig.getAuditStrategy();
         KeyGenerateStrategyConfiguration keyGeneratorConfig = tableRuleConfig.getKeyGenerateStrategy();
         generateKeyColumn = null != keyGeneratorConfig && !Strings.isNullOrEmpty(keyGeneratorConfig.getColumn()) ? keyGeneratorConfig.getColumn() : defaultGenerateKeyColumn;
         keyGeneratorName = null == keyGeneratorConfig ? null : keyGeneratorConfig.getKeyGeneratorName();
-        dataSourceDataNode = actualDataNodes.isEmpty() ? null : createDataSourceDataNode(actualDataNodes);
-        tableDataNode = actualDataNodes.isEmpty() ? null : createTableDataNode(actualDataNodes);
+        dataSourceDataNode = 0 == actualDataNodes.size() ? null : createDataSourceDataNode(actualDataNodes.getDataNodes());
+        tableDataNode = 0 == actualDataNodes.size() ? null : createTableDataNode(actualDataNodes.getDataNodes());
         checkRule(dataNodes);
     }
     
@@ -132,16 +114,14 @@ public final class TableRule {
         tableShardingStrategyConfig = tableRuleConfig.getShardingStrategy();
         auditStrategyConfig = tableRuleConfig.getAuditStrategy();
         List<String> dataNodes = getDataNodes(tableRuleConfig, shardingAutoTableAlgorithm, dataSourceNames);
-        dataNodeIndexMap = new HashMap<>(dataNodes.size(), 1);
         actualTablePrefix = tableRuleConfig.getActualTablePrefix();
-        actualDataNodes = isEmptyDataNodes(dataNodes) ? generateDataNodes(tableRuleConfig.getLogicTable(), dataSourceNames, actualTablePrefix)
-                : generateDataNodes(dataNodes, dataSourceNames, actualTablePrefix);
-        actualTables = getActualTables();
+        actualDataNodes = new CompactDataNodes(isEmptyDataNodes(dataNodes) ? generateDataNodes(tableRuleConfig.getLogicTable(), dataSourceNames, actualTablePrefix)
+                : generateDataNodes(dataNodes, dataSourceNames, actualTablePrefix));
         KeyGenerateStrategyConfiguration keyGeneratorConfig = tableRuleConfig.getKeyGenerateStrategy();
         generateKeyColumn = null != keyGeneratorConfig && !Strings.isNullOrEmpty(keyGeneratorConfig.getColumn()) ? keyGeneratorConfig.getColumn() : defaultGenerateKeyColumn;
         keyGeneratorName = null == keyGeneratorConfig ? null : keyGeneratorConfig.getKeyGeneratorName();
-        dataSourceDataNode = actualDataNodes.isEmpty() ? null : createDataSourceDataNode(actualDataNodes);
-        tableDataNode = actualDataNodes.isEmpty() ? null : createTableDataNode(actualDataNodes);
+        dataSourceDataNode = 0 == actualDataNodes.size() ? null : createDataSourceDataNode(actualDataNodes.getDataNodes());
+        tableDataNode = 0 == actualDataNodes.size() ? null : createTableDataNode(actualDataNodes.getDataNodes());
         checkRule(dataNodes);
     }
     
@@ -169,46 +149,27 @@ public final class TableRule {
         return DataNodeUtil.getFormatDataNodes(shardingAlgorithm.getAutoTablesAmount(), logicTable, dataSources);
     }
     
-    private Set<String> getActualTables() {
-        return actualDataNodes.stream().map(DataNode::getTableName).collect(Collectors.toCollection(() -> new TreeSet<>(String.CASE_INSENSITIVE_ORDER)));
-    }
-    
-    private void addActualTable(final String datasourceName, final String tableName) {
-        dataSourceToTablesMap.computeIfAbsent(datasourceName, key -> new LinkedHashSet<>()).add(tableName);
-    }
-    
     private boolean isEmptyDataNodes(final List<String> dataNodes) {
         return null == dataNodes || dataNodes.isEmpty();
     }
     
     private List<DataNode> generateDataNodes(final String logicTable, final Collection<String> dataSourceNames, final String actualTablePrefix) {
-        List<DataNode> result = new LinkedList<>();
-        int index = 0;
+        List<DataNode> result = new ArrayList<>(dataSourceNames.size());
+        String actualTable = Strings.isNullOrEmpty(actualTablePrefix) ? logicTable : actualTablePrefix + logicTable;
         for (String each : dataSourceNames) {
-            String actualTable = Strings.isNullOrEmpty(actualTablePrefix) ? logicTable : actualTablePrefix + logicTable;
-            DataNode dataNode = new DataNode(each, actualTable);
-            result.add(dataNode);
-            dataNodeIndexMap.put(dataNode, index);
-            actualDataSourceNames.add(each);
-            addActualTable(dataNode.getDataSourceName(), dataNode.getTableName());
-            index++;
+            result.add(new DataNode(each, actualTable));
         }
         return result;
     }
     
     private List<DataNode> generateDataNodes(final List<String> actualDataNodes, final Collection<String> dataSourceNames, final String actualTablePrefix) {
-        List<DataNode> result = new LinkedList<>();
-        int index = 0;
+        List<DataNode> result = new ArrayList<>(actualDataNodes.size());
         for (String each : actualDataNodes) {
             DataNode dataNode = generateDataNode(each, actualTablePrefix);
             if (!dataSourceNames.contains(dataNode.getDataSourceName())) {
                 throw new ShardingSphereException("Cannot find data source in sharding rule, invalid actual data node is: '%s'", each);
             }
             result.add(dataNode);
-            dataNodeIndexMap.put(dataNode, index);
-            actualDataSourceNames.add(dataNode.getDataSourceName());
-            addActualTable(dataNode.getDataSourceName(), dataNode.getTableName());
-            index++;
         }
         return result;
     }
@@ -221,13 +182,22 @@ public final class TableRule {
         return new DataNode(result.getDataSourceName(), actualTablePrefix + result.getTableName());
     }
     
+    /**
+     * Get actual data nodes.
+     *
+     * @return actual data nodes
+     */
+    public List<DataNode> getActualDataNodes() {
+        return actualDataNodes.getDataNodes();
+    }
+    
     /**
      * Get data node groups.
      *
      * @return data node groups, key is data source name, values are data nodes belong to this data source
      */
     public Map<String, List<DataNode>> getDataNodeGroups() {
-        return DataNodeUtil.getDataNodeGroups(actualDataNodes);
+        return actualDataNodes.getDataNodeGroups();
     }
     
     /**
@@ -236,7 +206,16 @@ public final class TableRule {
      * @return actual data source names
      */
     public Collection<String> getActualDataSourceNames() {
-        return actualDataSourceNames;
+        return actualDataNodes.getDataSourceNames();
+    }
+    
+    /**
+     * Get data source to actual tables map.
+     *
+     * @return data source to actual tables map
+     */
+    public Map<String, Collection<String>> getDataSourceToTablesMap() {
+        return actualDataNodes.getDataSourceToTableNames();
     }
     
     /**
@@ -246,15 +225,15 @@ public final class TableRule {
      * @return names of actual tables
      */
     public Collection<String> getActualTableNames(final String targetDataSource) {
-        return dataSourceToTablesMap.getOrDefault(targetDataSource, Collections.emptySet());
+        return actualDataNodes.getTableNames(targetDataSource);
     }
     
     int findActualTableIndex(final String dataSourceName, final String actualTableName) {
-        return dataNodeIndexMap.getOrDefault(new DataNode(dataSourceName, actualTableName), -1);
+        return actualDataNodes.findIndex(dataSourceName, actualTableName);
     }
     
     boolean isExisted(final String actualTableName) {
-        return actualTables.contains(actualTableName);
+        return actualDataNodes.containsTable(actualTableName);
     }
     
     private void checkRule(final List<String> dataNodes) {
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.keygen;
+
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.sharding.algorithm.keygen.fixture.FixedTimeService;
+import org.apache.shardingsphere.sharding.factory.KeyGenerateAlgorithmFactory;
+import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LockFreeSnowflakeKeyGenerateAlgorithmTest {
+    
+    private static final int DEFAULT_KEY_AMOUNT = 10;
+    
+    @After
+    public void tearDown() {
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+    }
+    
+    @Test
+    public void assertNewInstance() {
+        assertThat(createKeyGenerateAlgorithm(new Properties()), instanceOf(LockFreeSnowflakeKeyGenerateAlgorithm.class));
+    }
+    
+    @Test
+    public void assertGenerateKeyWithSingleThread() {
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        KeyGenerateAlgorithm algorithm = createKeyGenerateAlgorithm(new Properties());
+        List<Comparable<?>> expected = Arrays.asList(0L, 4194305L, 4194306L, 8388608L, 8388609L, 12582913L, 12582914L, 16777216L, 16777217L, 20971521L);
+        List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
+        for (int i = 0; i < DEFAULT_KEY_AMOUNT; i++) {
+            actual.add(algorithm.generateKey());
+        }
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    public void assertGenerateKeys() {
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(Integer.MAX_VALUE));
+        KeyGenerateAlgorithm algorithm = createKeyGenerateAlgorithm(new Properties());
+        assertThat(algorithm.generateKeys(3), is(Arrays.<Comparable<?>>asList(0L, 1L, 2L)));
+        assertThat(algorithm.generateKey(), is(3L));
+        assertTrue(algorithm.generateKeys(0).isEmpty());
+    }
+    
+    @Test
+    public void assertGenerateKeyBeyondMaxSequencePerMilliSecond() {
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(Integer.MAX_VALUE));
+        KeyGenerateAlgorithm algorithm = createKeyGenerateAlgorithm(new Properties());
+        Collection<Comparable<?>> actual = algorithm.generateKeys(4097);
+        assertIncreasing(actual);
+        assertThat(new LinkedList<>(actual).getLast(), is(4194304L));
+    }
+    
+    @Test
+    public void assertGenerateKeysWithinMaxTolerateTimeDifference() {
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(new SequenceTimeService(0L, 0L, 0L, 3L));
+        Properties props = new Properties();
+        props.setProperty("max-tolerate-time-difference-milliseconds", "1");
+        KeyGenerateAlgorithm algorithm = createKeyGenerateAlgorithm(props);
+        Collection<Comparable<?>> actual = algorithm.generateKeys(4096 * 2 + 1);
+        assertIncreasing(actual);
+        List<Comparable<?>> keys = new ArrayList<>(actual);
+        assertThat(keys.get(4095), is(4095L));
+        assertThat(keys.get(4096), is(1L << 22));
+        assertThat(keys.get(8191), is((1L << 22) + 4095L));
+        assertThat(keys.get(8192), is((3L << 22) + 1L));
+    }
+    
+    @Test
+    public void assertGenerateKeyWithClockCallBack() {
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(new SequenceTimeService(20L, 15L));
+        KeyGenerateAlgorithm algorithm = createKeyGenerateAlgorithm(new Properties());
+        assertThat(algorithm.generateKey(), is(20L << 22));
+        assertThat(algorithm.generateKey(), is((20L << 22) + 1L));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGenerateKeyWithClockCallBackBeyondTolerateTime() {
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(new SequenceTimeService(20L, 5L));
+        KeyGenerateAlgorithm algorithm = createKeyGenerateAlgorithm(new Properties());
+        algorithm.generateKey();
+        algorithm.generateKey();
+    }
+    
+    @Test
+    public void assertGenerateKeyWithMultipleThreads() throws ExecutionException, InterruptedException {
+        int threadNumber = Runtime.getRuntime().availableProcessors() * 2;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        KeyGenerateAlgorithm algorithm = createKeyGenerateAlgorithm(new Properties());
+        int keyAmountPerTask = 10000;
+        Collection<Future<Collection<Comparable<?>>>> futures = new LinkedList<>();
+        for (int i = 0; i < threadNumber; i++) {
+            boolean bulk = 0 == i % 2;
+            futures.add(executor.submit((Callable<Collection<Comparable<?>>>) () -> bulk ? generateKeysInBulk(algorithm, keyAmountPerTask) : generateKeysOneByOne(algorithm, keyAmountPerTask)));
+        }
+        Set<Comparable<?>> actual = new HashSet<>(threadNumber * keyAmountPerTask, 1);
+        for (Future<Collection<Comparable<?>>> each : futures) {
+            Collection<Comparable<?>> keys = each.get();
+            assertIncreasing(keys);
+            actual.addAll(keys);
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(threadNumber * keyAmountPerTask));
+    }
+    
+    private Collection<Comparable<?>> generateKeysInBulk(final KeyGenerateAlgorithm algorithm, final int keyAmount) {
+        Collection<Comparable<?>> result = new ArrayList<>(keyAmount);
+        for (int i = 0; i < keyAmount / 100; i++) {
+            result.addAll(algorithm.generateKeys(100));
+        }
+        return result;
+    }
+    
+    private Collection<Comparable<?>> generateKeysOneByOne(final KeyGenerateAlgorithm algorithm, final int keyAmount) {
+        Collection<Comparable<?>> result = new ArrayList<>(keyAmount);
+        for (int i = 0; i < keyAmount; i++) {
+            result.add(algorithm.generateKey());
+        }
+        return result;
+    }
+    
+    private void assertIncreasing(final Collection<Comparable<?>> keys) {
+        Iterator<Comparable<?>> iterator = keys.iterator();
+        long previous = (Long) iterator.next();
+        while (iterator.hasNext()) {
+            long current = (Long) iterator.next();
+            assertTrue(current > previous);
+            previous = current;
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertSetMaxVibrationOffsetFailureWhenOutOfRange() {
+        Properties props = new Properties();
+        props.setProperty("max-vibration-offset", String.valueOf(4096));
+        createKeyGenerateAlgorithm(props);
+    }
+    
+    private KeyGenerateAlgorithm createKeyGenerateAlgorithm(final Properties props) {
+        return KeyGenerateAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("LOCK_FREE_SNOWFLAKE", props));
+    }
+    
+    private static final class SequenceTimeService extends TimeService {
+        
+        private final long[] offsets;
+        
+        private int index;
+        
+        SequenceTimeService(final long... offsets) {
+            this.offsets = offsets;
+        }
+        
+        @Override
+        public long getCurrentMillis() {
+            long result = SnowflakeKeyGenerateAlgorithm.EPOCH + offsets[Math.min(index, offsets.length - 1)];
+            index++;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.keygen;
+
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.sharding.factory.KeyGenerateAlgorithmFactory;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class SegmentKeyGenerateAlgorithmTest {
+    
+    @Test
+    public void assertGenerateKey() {
+        InstanceContext instanceContext = createInstanceContext();
+        SegmentKeyGenerateAlgorithm algorithm = createAlgorithm(createProperties(5, 20), instanceContext);
+        Collection<Comparable<?>> actual = new LinkedList<>();
+        for (int i = 0; i < 12; i++) {
+            actual.add(algorithm.generateKey());
+        }
+        assertThat(actual, is(Arrays.<Comparable<?>>asList(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L)));
+        verify(instanceContext, times(3)).allocateKeySegment("foo_segment", 5);
+    }
+    
+    @Test
+    public void assertSetInstanceContextWithoutLeasingSegment() {
+        InstanceContext instanceContext = createInstanceContext();
+        createAlgorithm(createProperties(5, 20), instanceContext);
+        verify(instanceContext, never()).allocateKeySegment(anyString(), anyInt());
+    }
+    
+    @Test
+    public void assertGenerateKeys() {
+        SegmentKeyGenerateAlgorithm algorithm = createAlgorithm(createProperties(5, 20), createInstanceContext());
+        assertThat(algorithm.generateKeys(3), is(Arrays.<Comparable<?>>asList(1L, 2L, 3L)));
+        assertThat(algorithm.generateKeys(4), is(Arrays.<Comparable<?>>asList(4L, 5L, 6L, 7L)));
+        assertThat(algorithm.generateKey(), is(8L));
+    }
+    
+    @Test
+    public void assertGenerateKeyWithoutPrefetch() {
+        InstanceContext instanceContext = createInstanceContext();
+        SegmentKeyGenerateAlgorithm algorithm = createAlgorithm(createProperties(2, 0), instanceContext);
+        for (int i = 0; i < 6; i++) {
+            algorithm.generateKey();
+        }
+        verify(instanceContext, times(3)).allocateKeySegment("foo_segment", 2);
+    }
+    
+    @Test
+    public void assertGenerateKeyWithMultipleThreads() throws ExecutionException, InterruptedException {
+        SegmentKeyGenerateAlgorithm algorithm = createAlgorithm(createProperties(100, 20), createInstanceContext());
+        int threadNumber = Runtime.getRuntime().availableProcessors() * 2;
+        int keyAmountPerTask = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        Collection<Future<Collection<Comparable<?>>>> futures = new LinkedList<>();
+        for (int i = 0; i < threadNumber; i++) {
+            futures.add(executor.submit((Callable<Collection<Comparable<?>>>) () -> {
+                Collection<Comparable<?>> result = new LinkedList<>();
+                for (int j = 0; j < keyAmountPerTask / 10; j++) {
+                    result.add(algorithm.generateKey());
+                    result.addAll(algorithm.generateKeys(9));
+                }
+                return result;
+            }));
+        }
+        Set<Comparable<?>> actual = new HashSet<>(threadNumber * keyAmountPerTask, 1);
+        for (Future<Collection<Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(threadNumber * keyAmountPerTask));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGenerateKeyWithoutInstanceContext() {
+        createAlgorithm(createProperties(5, 20), null).generateKey();
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertInitFailureWhenSegmentSizeIsNotPositive() {
+        createAlgorithm(createProperties(0, 20), null);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertInitFailureWhenPrefetchThresholdPercentOutOfRange() {
+        createAlgorithm(createProperties(5, 100), null);
+    }
+    
+    private SegmentKeyGenerateAlgorithm createAlgorithm(final Properties props, final InstanceContext instanceContext) {
+        SegmentKeyGenerateAlgorithm result = (SegmentKeyGenerateAlgorithm) KeyGenerateAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("SEGMENT", props));
+        result.setInstanceContext(instanceContext);
+        return result;
+    }
+    
+    private Properties createProperties(final int segmentSize, final int prefetchThresholdPercent) {
+        Properties result = new Properties();
+        result.setProperty("segment-name", "foo_segment");
+        result.setProperty("segment-size", String.valueOf(segmentSize));
+        result.setProperty("prefetch-threshold-percent", String.valueOf(prefetchThresholdPercent));
+        return result;
+    }
+    
+    private InstanceContext createInstanceContext() {
+        InstanceContext result = mock(InstanceContext.class);
+        AtomicLong nextKey = new AtomicLong(1L);
+        when(result.allocateKeySegment(eq("foo_segment"), anyInt())).thenAnswer(invocation -> nextKey.getAndAdd(invocation.getArgument(1, Integer.class)));
+        return result;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class InlineShardingExpressionEvaluatorTest {
+    
+    @Test
+    public void assertEvaluateWithModExpression() {
+        InlineShardingExpressionEvaluator evaluator = new InlineShardingExpressionEvaluator("t_order_${order_id % 16}");
+        assertTrue(evaluator.isCompiled());
+        assertThat(evaluator.evaluate("order_id", 17), is("t_order_1"));
+        assertThat(evaluator.evaluate("order_id", 35L), is("t_order_3"));
+        assertThat(evaluator.evaluate("order_id", -17), is("t_order_-1"));
+    }
+    
+    @Test
+    public void assertEvaluateWithModExpressionInArrowForm() {
+        InlineShardingExpressionEvaluator evaluator = new InlineShardingExpressionEvaluator("t_order_$->{order_id % 16}");
+        assertTrue(evaluator.isCompiled());
+        assertThat(evaluator.evaluate("order_id", 17), is("t_order_1"));
+        assertThat(evaluator.evaluate("order_id", 35L), is("t_order_3"));
+    }
+    
+    @Test
+    public void assertEvaluateWithHashCodeExpression() {
+        InlineShardingExpressionEvaluator evaluator = new InlineShardingExpressionEvaluator("ds_${user_id.hashCode() % 4}");
+        assertTrue(evaluator.isCompiled());
+        assertThat(evaluator.evaluate("user_id", "foo"), is("ds_" + "foo".hashCode() % 4));
+        assertThat(evaluator.evaluate("user_id", 6), is("ds_2"));
+    }
+    
+    @Test
+    public void assertEvaluateWithPlainVariableExpression() {
+        InlineShardingExpressionEvaluator evaluator = new InlineShardingExpressionEvaluator("${value}");
+        assertTrue(evaluator.isCompiled());
+        assertThat(evaluator.evaluate("value", "t_order_0"), is("t_order_0"));
+        assertThat(evaluator.evaluate("value", 1), is("1"));
+    }
+    
+    @Test
+    public void assertEvaluateWithCompiledExpressionFallbackToClosure() {
+        InlineShardingExpressionEvaluator evaluator = new InlineShardingExpressionEvaluator("t_order_${order_id % 2}");
+        assertThat(evaluator.evaluate("order_id", BigInteger.valueOf(3L)), is("t_order_1"));
+    }
+    
+    @Test
+    public void assertEvaluateWithClosureExpression() {
+        InlineShardingExpressionEvaluator evaluator = new InlineShardingExpressionEvaluator("t_order_${(order_id + user_id) % 4}");
+        assertFalse(evaluator.isCompiled());
+        Map<String, Comparable<?>> variables = new HashMap<>(2, 1);
+        variables.put("order_id", 1);
+        variables.put("user_id", 2);
+        assertThat(evaluator.evaluate(variables), is("t_order_3"));
+        variables.put("user_id", 3);
+        assertThat(evaluator.evaluate(variables), is("t_order_0"));
+    }
+    
+    @Test
+    public void assertEvaluateWithMultipleVariablesOnCompiledExpression() {
+        InlineShardingExpressionEvaluator evaluator = new InlineShardingExpressionEvaluator("t_order_${order_id % 4}");
+        Map<String, Comparable<?>> variables = new HashMap<>(2, 1);
+        variables.put("order_id", 6);
+        variables.put("user_id", 1);
+        assertThat(evaluator.evaluate(variables), is("t_order_2"));
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupBySpillableMergedResultTest {
+    
+    @Test
+    public void assertNextWithSpilledGroups() throws SQLException {
+        QueryResult queryResult1 = createQueryResult(Collections.singletonList(Arrays.asList(20, 0, 2, 2, 20)));
+        QueryResult queryResult2 = createQueryResult(Collections.emptyList());
+        QueryResult queryResult3 = createQueryResult(Arrays.asList(Arrays.asList(20, 0, 2, 2, 20), Arrays.asList(30, 0, 3, 3, 30), Arrays.asList(10, 0, 1, 1, 10)));
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeFactory.getInstance("MySQL"), createConfigurationProperties());
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(), createDatabase());
+        assertThat(actual, instanceOf(GroupBySpillableMergedResult.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat(actual.getValue(3, Object.class), is(3));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat(actual.getValue(3, Object.class), is(2));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(10)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat(actual.getValue(3, Object.class), is(1));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithoutSpilledGroups() throws SQLException {
+        QueryResult queryResult = createQueryResult(Collections.singletonList(Arrays.asList(20, 0, 2, 2, 20)));
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeFactory.getInstance("MySQL"), createConfigurationProperties());
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult, createQueryResult(Collections.emptyList())), createSelectStatementContext(), createDatabase());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(20)));
+        assertThat(actual.getValue(3, Object.class), is(2));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithRepartitionedGroups() throws SQLException {
+        List<List<Object>> rows = new LinkedList<>();
+        for (int i = 1; i <= 64; i++) {
+            rows.add(Arrays.asList(1, i, i, 1, i));
+        }
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeFactory.getInstance("MySQL"), createConfigurationProperties());
+        MergedResult actual = resultMerger.merge(Arrays.asList(createQueryResult(rows), createQueryResult(rows)), createSelectStatementContext(), createDatabase());
+        for (int i = 64; i >= 1; i--) {
+            assertTrue(actual.next());
+            assertThat(((BigDecimal) actual.getValue(1, Object.class)).intValue(), is(2));
+            assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(i));
+            assertThat(actual.getValue(3, Object.class), is(i));
+        }
+        assertFalse(actual.next());
+        actual.close();
+    }
+    
+    @Test
+    public void assertNextWithNotSerializableValue() throws SQLException {
+        QueryResult queryResult1 = createQueryResult(Arrays.asList(
+                Arrays.asList(1, 0, new SerializableGroupValue(1), 1, 0), Arrays.asList(1, 0, new SerializableGroupValue(2), 1, 0), Arrays.asList(1, 0, new SerializableGroupValue(3), 1, 0)));
+        QueryResult queryResult2 = createQueryResult(Arrays.asList(Arrays.asList(1, 0, new NotSerializableGroupValue(4), 1, 0), Arrays.asList(1, 0, new SerializableGroupValue(2), 1, 0)));
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeFactory.getInstance("MySQL"), createConfigurationProperties());
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), createDatabase());
+        int[] expectedCounts = {1, 1, 2, 1};
+        for (int i = 4; i >= 1; i--) {
+            assertTrue(actual.next());
+            assertThat(((BigDecimal) actual.getValue(1, Object.class)).intValue(), is(expectedCounts[4 - i]));
+            assertThat(((GroupValue) actual.getValue(3, Object.class)).getValue(), is(i));
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertCloseWithSpilledGroups() throws SQLException, IOException {
+        Collection<Path> originalSpilledFiles = getSpilledFiles();
+        QueryResult queryResult = createQueryResult(Arrays.asList(Arrays.asList(20, 0, 2, 2, 20), Arrays.asList(30, 0, 3, 3, 30), Arrays.asList(10, 0, 1, 1, 10)));
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeFactory.getInstance("MySQL"), createConfigurationProperties());
+        MergedResult actual = resultMerger.merge(Collections.singletonList(queryResult), createSelectStatementContext(), createDatabase());
+        assertTrue(actual.next());
+        assertThat(getSpilledFiles().size() > originalSpilledFiles.size(), is(true));
+        actual.close();
+        assertThat(getSpilledFiles(), is(originalSpilledFiles));
+    }
+    
+    private Collection<Path> getSpilledFiles() throws IOException {
+        try (Stream<Path> files = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return files.filter(each -> each.getFileName().toString().startsWith("shardingsphere-group-by-")).collect(Collectors.toSet());
+        }
+    }
+    
+    private ConfigurationProperties createConfigurationProperties() {
+        Properties result = new Properties();
+        result.setProperty(ConfigurationPropertyKey.GROUP_BY_MERGE_MAX_MEMORY_ROWS.getKey(), "1");
+        return new ConfigurationProperties(result);
+    }
+    
+    private ShardingSphereDatabase createDatabase() {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getName()).thenReturn("db_schema");
+        return result;
+    }
+    
+    private QueryResult createQueryResult(final List<List<Object>> rows) throws SQLException {
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(5);
+        when(metaData.getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(metaData.getColumnLabel(2)).thenReturn("AVG(num)");
+        when(metaData.getColumnLabel(3)).thenReturn("id");
+        when(metaData.getColumnLabel(4)).thenReturn("AVG_DERIVED_COUNT_0");
+        when(metaData.getColumnLabel(5)).thenReturn("AVG_DERIVED_SUM_0");
+        List<MemoryQueryResultDataRow> dataRows = new LinkedList<>();
+        for (List<Object> each : rows) {
+            dataRows.add(new MemoryQueryResultDataRow(each));
+        }
+        return new RawMemoryQueryResult(metaData, dataRows);
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "(*)"));
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.AVG, "(num)"));
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, OrderDirection.ASC))));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getSchema(DefaultDatabase.LOGIC_NAME)).thenReturn(mock(ShardingSphereSchema.class));
+        return new SelectStatementContext(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, database), Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+    }
+    
+    private abstract static class GroupValue implements Comparable<GroupValue> {
+        
+        abstract int getValue();
+        
+        @Override
+        public final int compareTo(final GroupValue other) {
+            return Integer.compare(getValue(), other.getValue());
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    @EqualsAndHashCode(callSuper = false)
+    private static final class SerializableGroupValue extends GroupValue implements Serializable {
+        
+        private static final long serialVersionUID = 1L;
+        
+        private final int value;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    @EqualsAndHashCode(callSuper = false)
+    private static final class NotSerializableGroupValue extends GroupValue {
+        
+        private final int value;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupBySpilledQueryResultTest {
+    
+    @Test
+    public void assertWriteAndRead() throws SQLException {
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(2);
+        GroupBySpilledQueryResult actual = new GroupBySpilledQueryResult(metaData);
+        try {
+            actual.write(new MemoryQueryResultRow(new Object[]{1, "foo"}));
+            actual.write(new MemoryQueryResultRow(new Object[]{new BigDecimal("2.5"), null}));
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(1));
+            assertThat(actual.getValue(2, Object.class), is("foo"));
+            assertFalse(actual.wasNull());
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal("2.5")));
+            assertNull(actual.getValue(2, Object.class));
+            assertTrue(actual.wasNull());
+            assertFalse(actual.next());
+        } finally {
+            actual.close();
+        }
+    }
+}
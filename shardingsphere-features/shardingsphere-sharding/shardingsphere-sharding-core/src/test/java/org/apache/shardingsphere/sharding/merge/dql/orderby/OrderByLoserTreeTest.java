@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class OrderByLoserTreeTest {
+    
+    @Test
+    public void assertNextWithoutOrderByValues() throws SQLException {
+        OrderByLoserTree actual = new OrderByLoserTree(Collections.emptyList());
+        assertTrue(actual.isEmpty());
+        assertNull(actual.peek());
+        actual.next();
+        assertTrue(actual.isEmpty());
+    }
+    
+    @Test
+    public void assertNextWithMultipleOrderByValues() throws SQLException {
+        int sourceCount = 7;
+        List<OrderByValue> orderByValues = new ArrayList<>(sourceCount);
+        int expectedCount = 0;
+        for (int i = 0; i < sourceCount; i++) {
+            List<Integer> values = new LinkedList<>();
+            for (int value = i; value < 50; value += i + 1) {
+                values.add(value);
+            }
+            expectedCount += values.size();
+            OrderByValue orderByValue = createOrderByValue(values);
+            assertTrue(orderByValue.next());
+            orderByValues.add(orderByValue);
+        }
+        OrderByLoserTree actual = new OrderByLoserTree(orderByValues);
+        int actualCount = 0;
+        int previous = Integer.MIN_VALUE;
+        while (!actual.isEmpty()) {
+            int current = (int) actual.peek().getQueryResult().getValue(1, Object.class);
+            assertTrue(current >= previous);
+            previous = current;
+            actualCount++;
+            actual.next();
+        }
+        assertThat(actualCount, is(expectedCount));
+        assertNull(actual.peek());
+    }
+    
+    private OrderByValue createOrderByValue(final List<Integer> values) throws SQLException {
+        List<MemoryQueryResultDataRow> rows = new LinkedList<>();
+        for (Integer each : values) {
+            rows.add(new MemoryQueryResultDataRow(Collections.singletonList(each)));
+        }
+        OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC));
+        orderByItem.setIndex(1);
+        Collection<OrderByItem> orderByItems = Collections.singletonList(orderByItem);
+        return new OrderByValue(new RawMemoryQueryResult(mock(QueryResultMetaData.class), rows), orderByItems, mock(SelectStatementContext.class), mock(ShardingSphereSchema.class));
+    }
+}
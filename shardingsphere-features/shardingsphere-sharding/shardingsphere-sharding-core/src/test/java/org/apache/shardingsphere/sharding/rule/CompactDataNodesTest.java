@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rule;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.datanode.DataNodeUtil;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CompactDataNodesTest {
+    
+    private final List<DataNode> dataNodes = Arrays.asList(
+            new DataNode("ds0", "t_order_1"), new DataNode("ds0", "t_order_0"), new DataNode("ds1", "t_order_0"), new DataNode("ds1", "t_order_1"));
+    
+    @Test
+    public void assertGetDataNodes() {
+        CompactDataNodes actual = new CompactDataNodes(dataNodes);
+        assertThat(actual.size(), is(4));
+        assertThat(actual.getDataNodes(), is(dataNodes));
+        assertThat(actual.getDataNodes().get(2), is(new DataNode("ds1", "t_order_0")));
+    }
+    
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void assertGetDataNodeOutOfBounds() {
+        new CompactDataNodes(dataNodes).getDataNodes().get(4);
+    }
+    
+    @Test
+    public void assertGetDataNodeGroups() {
+        assertThat(new CompactDataNodes(dataNodes).getDataNodeGroups(), is(DataNodeUtil.getDataNodeGroups(dataNodes)));
+    }
+    
+    @Test
+    public void assertGetDataSourceNames() {
+        assertThat(new CompactDataNodes(dataNodes).getDataSourceNames(), is(new LinkedHashSet<>(Arrays.asList("ds0", "ds1"))));
+    }
+    
+    @Test
+    public void assertGetTableNames() {
+        CompactDataNodes actual = new CompactDataNodes(dataNodes);
+        assertThat(actual.getTableNames("ds0"), is(new LinkedHashSet<>(Arrays.asList("t_order_1", "t_order_0"))));
+        assertTrue(actual.getTableNames("ds0").contains("t_order_0"));
+        assertFalse(actual.getTableNames("ds0").contains("t_order_2"));
+        assertThat(actual.getTableNames("ds2"), is(Collections.emptySet()));
+    }
+    
+    @Test
+    public void assertGetDataSourceToTableNames() {
+        CompactDataNodes actual = new CompactDataNodes(dataNodes);
+        assertThat(actual.getDataSourceToTableNames().size(), is(2));
+        assertThat(actual.getDataSourceToTableNames().get("ds1"), is(new LinkedHashSet<>(Arrays.asList("t_order_0", "t_order_1"))));
+    }
+    
+    @Test
+    public void assertFindIndex() {
+        CompactDataNodes actual = new CompactDataNodes(dataNodes);
+        assertThat(actual.findIndex("ds0", "t_order_1"), is(0));
+        assertThat(actual.findIndex("ds1", "T_ORDER_1"), is(3));
+        assertThat(actual.findIndex("ds1", "t_order_2"), is(-1));
+        assertThat(actual.findIndex("ds2", "t_order_0"), is(-1));
+    }
+    
+    @Test
+    public void assertContainsTable() {
+        CompactDataNodes actual = new CompactDataNodes(dataNodes);
+        assertTrue(actual.containsTable("t_order_0"));
+        assertTrue(actual.containsTable("T_ORDER_1"));
+        assertFalse(actual.containsTable("t_order_2"));
+    }
+    
+    @Test
+    public void assertEmptyDataNodes() {
+        CompactDataNodes actual = new CompactDataNodes(Collections.emptyList());
+        assertThat(actual.size(), is(0));
+        assertTrue(actual.getDataNodes().isEmpty());
+        assertTrue(actual.getDataNodeGroups().isEmpty());
+        assertFalse(actual.containsTable("t_order_0"));
+    }
+}
@@ -57,6 +57,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Map;
@@ -384,6 +385,18 @@ public final class ShardingRuleTest {
         assertThat(createMaximumShardingRule().generateKey("logic_table"), instanceOf(String.class));
     }
     
+    @Test
+    public void assertGenerateKeysWithDefaultKeyGenerator() {
+        Collection<Comparable<?>> actual = createMinimumShardingRule().generateKeys("logic_table", 3);
+        assertThat(actual.size(), is(3));
+        assertThat(new HashSet<>(actual).size(), is(3));
+    }
+    
+    @Test(expected = ShardingSphereConfigurationException.class)
+    public void assertGenerateKeysFailure() {
+        createMaximumShardingRule().generateKeys("table_0", 3);
+    }
+    
     @Test
     public void assertGetDataNodeByLogicTable() {
         assertThat(createMaximumShardingRule().getDataNode("logic_table"), is(new DataNode("ds_0.table_0")));
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.binder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.session.ConnectionWriteContext;
 
 import java.util.List;
 
@@ -35,4 +36,10 @@ public final class LogicSQL {
     private final String sql;
     
     private final List<Object> parameters;
+    
+    private final ConnectionWriteContext connectionWriteContext;
+    
+    public LogicSQL(final SQLStatementContext<?> sqlStatementContext, final String sql, final List<Object> parameters) {
+        this(sqlStatementContext, sql, parameters, new ConnectionWriteContext());
+    }
 }
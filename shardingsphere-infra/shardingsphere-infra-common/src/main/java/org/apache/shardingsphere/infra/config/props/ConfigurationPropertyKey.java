@@ -47,6 +47,12 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Available options of kernel executor type: PLATFORM(default), VIRTUAL. The VIRTUAL option runs SQL execution and proxy command tasks on virtual threads,
+     * it falls back to PLATFORM if virtual thread is not supported by current JDK.
+     */
+    KERNEL_EXECUTOR_TYPE("kernel-executor-type", "PLATFORM", String.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -57,11 +63,59 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     CHECK_TABLE_METADATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Whether build database meta data from meta data snapshot persisted in repository when application startup.
+     * The snapshot is used only if configuration of rules is unchanged since it was persisted, and meta data of data sources whose configuration changed is reloaded from storage nodes in background afterwards.
+     */
+    METADATA_SNAPSHOT_ENABLED("metadata-snapshot-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
+    /**
+     * Whether load table meta data on first reference instead of loading all tables when application startup.
+     */
+    LAZY_TABLE_METADATA_ENABLED("lazy-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
+    /**
+     * Max count of single tables whose meta data are cached when lazy table meta data loading enabled, least recently used ones are evicted and reloaded on next reference.
+     */
+    LAZY_TABLE_METADATA_CACHE_SIZE("lazy-table-metadata-cache-size", String.valueOf(1024), int.class, true),
+    
     /**
      * Whether enable SQL federation.
      */
     SQL_FEDERATION_ENABLED("sql-federation-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Max group count kept in memory when merging group by results which can not be merged by stream, groups exceed will be spilled to local temporary files.
+     * Less than or equal to 0 means no limitation.
+     */
+    GROUP_BY_MERGE_MAX_MEMORY_ROWS("group-by-merge-max-memory-rows", String.valueOf(0), int.class, false),
+    
+    /**
+     * Max values count of each multi-values INSERT statement which batched single-values INSERT statements of JDBC driver are rewritten to.
+     * It is reduced to keep parameters of each statement within the limit of database.
+     * Less than or equal to 1 means batched INSERT statements are not rewritten.
+     */
+    BATCH_INSERT_VALUES_SIZE("batch-insert-values-size", String.valueOf(0), int.class, false),
+    
+    /**
+     * Row count of each window which encrypted query result reads ahead and decrypts in parallel, rows are still returned in order.
+     * Less than or equal to 0 means decrypt cipher values one by one when rows are consumed.
+     */
+    ENCRYPT_PARALLEL_DECRYPT_WINDOW_SIZE("encrypt-parallel-decrypt-window-size", String.valueOf(0), int.class, false),
+    
+    /**
+     * Max replication delay milliseconds of replica which readwrite-splitting routes read query to, replicas with greater reported delay are excluded.
+     * Less than or equal to 0 means replication delay is not considered.
+     */
+    READWRITE_SPLITTING_MAX_REPLICATION_DELAY_MILLISECONDS("readwrite-splitting-max-replication-delay-milliseconds", String.valueOf(0), long.class, false),
+    
+    /**
+     * Window milliseconds after a write committed by a connection in which readwrite-splitting only routes read query of the same connection to replicas
+     * whose replication delay sampled by heartbeat is less than the time elapsed since the commit, or to primary if there is no such replica.
+     * It bounds staleness by the sampled delay and does not guarantee read-your-writes. Less than or equal to 0 means disable it.
+     */
+    READWRITE_SPLITTING_READ_YOUR_WRITES_WINDOW_MILLISECONDS("readwrite-splitting-read-your-writes-window-milliseconds", String.valueOf(0), long.class, false),
+    
     /**
      * Frontend database protocol type for ShardingSphere-Proxy.
      */
@@ -83,6 +137,25 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_BACKEND_QUERY_FETCH_SIZE("proxy-backend-query-fetch-size", String.valueOf(-1), int.class, false),
     
+    /**
+     * Whether relay query rows from storage node to client as raw bytes for ShardingSphere-Proxy.
+     * It only takes effect on text protocol queries which are streamed from single data node of same database type without result merging or decorating,
+     * and requires character set configured in JDBC URL of storage node is same as character set of client.
+     */
+    PROXY_BACKEND_QUERY_RELAY_ENABLED("proxy-backend-query-relay-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Proxy backend query prefetch size. Rows of stream query result are prefetched into a buffer of this size by background thread in MEMORY_STRICTLY connection mode,
+     * which overlaps network latency of different data nodes during stream merging. The default value is 0, which means disable prefetch.
+     */
+    PROXY_BACKEND_QUERY_PREFETCH_SIZE("proxy-backend-query-prefetch-size", String.valueOf(0), int.class, false),
+    
+    /**
+     * Proxy backend prepared statement cache size of each backend connection held by client connection, such as connections held in transaction.
+     * Cached prepared statements are reused by same SQL until the backend connection is released. The default value is 0, which means disable cache.
+     */
+    PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE("proxy-backend-prepared-statement-cache-size", String.valueOf(0), int.class, false),
+    
     /**
      * Proxy frontend executor size. The default value is 0, which means let Netty decide.
      */
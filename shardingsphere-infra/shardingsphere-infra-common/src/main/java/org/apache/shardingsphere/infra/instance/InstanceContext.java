@@ -17,10 +17,12 @@
 
 package org.apache.shardingsphere.infra.instance;
 
+import com.google.common.base.Preconditions;
 import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
+import org.apache.shardingsphere.infra.instance.keysegment.KeySegmentAllocator;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceMetaData;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceType;
 import org.apache.shardingsphere.infra.instance.workerid.WorkerIdGenerator;
@@ -44,6 +46,9 @@ public final class InstanceContext {
     @Getter(AccessLevel.NONE)
     private final WorkerIdGenerator workerIdGenerator;
     
+    @Getter(AccessLevel.NONE)
+    private final KeySegmentAllocator keySegmentAllocator;
+    
     private final ModeConfiguration modeConfiguration;
     
     private final LockContext lockContext;
@@ -54,8 +59,14 @@ public final class InstanceContext {
     
     public InstanceContext(final ComputeNodeInstance instance, final WorkerIdGenerator workerIdGenerator,
                            final ModeConfiguration modeConfiguration, final LockContext lockContext, final EventBusContext eventBusContext) {
+        this(instance, workerIdGenerator, null, modeConfiguration, lockContext, eventBusContext);
+    }
+    
+    public InstanceContext(final ComputeNodeInstance instance, final WorkerIdGenerator workerIdGenerator, final KeySegmentAllocator keySegmentAllocator,
+                           final ModeConfiguration modeConfiguration, final LockContext lockContext, final EventBusContext eventBusContext) {
         this.instance = instance;
         this.workerIdGenerator = workerIdGenerator;
+        this.keySegmentAllocator = keySegmentAllocator;
         this.modeConfiguration = modeConfiguration;
         this.lockContext = lockContext;
         this.eventBusContext = eventBusContext;
@@ -117,6 +128,18 @@ public final class InstanceContext {
         return getWorkerId();
     }
     
+    /**
+     * Allocate key segment.
+     *
+     * @param segmentName segment name
+     * @param segmentSize segment size
+     * @return first key of allocated segment
+     */
+    public long allocateKeySegment(final String segmentName, final int segmentSize) {
+        Preconditions.checkState(null != keySegmentAllocator, "Key segment allocator is not available in current mode.");
+        return keySegmentAllocator.allocate(segmentName, segmentSize);
+    }
+    
     /**
      * Add compute node instance.
      * 
@@ -21,6 +21,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
@@ -31,15 +32,20 @@ import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericS
 import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterials;
 import org.apache.shardingsphere.infra.metadata.database.schema.builder.SystemSchemaBuilder;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.database.schema.util.RuleAlteredTableUtil;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.builder.database.DatabaseRulesBuilder;
+import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
@@ -91,6 +97,82 @@ public final class ShardingSphereDatabase {
         return create(name, protocolType, databaseConfig, databaseRules, schemas);
     }
     
+    /**
+     * Create database meta data with loaded schemas.
+     * 
+     * @param name database name
+     * @param protocolType database protocol type
+     * @param databaseConfig database configuration
+     * @param loadedSchemas schemas loaded from meta data snapshot
+     * @param instanceContext instance context
+     * @return database meta data
+     */
+    public static ShardingSphereDatabase create(final String name, final DatabaseType protocolType, final DatabaseConfiguration databaseConfig,
+                                                final Map<String, ShardingSphereSchema> loadedSchemas, final InstanceContext instanceContext) {
+        Collection<ShardingSphereRule> databaseRules = DatabaseRulesBuilder.build(name, databaseConfig, instanceContext);
+        Map<String, ShardingSphereSchema> schemas = new ConcurrentHashMap<>();
+        schemas.putAll(loadedSchemas);
+        schemas.putAll(SystemSchemaBuilder.build(name, protocolType));
+        return create(name, protocolType, databaseConfig, databaseRules, schemas);
+    }
+    
+    /**
+     * Create database meta data with altered rule configurations.
+     * 
+     * <p>Resource and meta data of tables which are not affected by altered rules are carried forward from original database.</p>
+     * 
+     * @param name database name
+     * @param originalDatabase original database
+     * @param ruleConfigs altered rule configurations
+     * @param props configuration properties
+     * @param instanceContext instance context
+     * @return database meta data
+     * @throws SQLException SQL exception
+     */
+    public static ShardingSphereDatabase create(final String name, final ShardingSphereDatabase originalDatabase, final Collection<RuleConfiguration> ruleConfigs,
+                                                final ConfigurationProperties props, final InstanceContext instanceContext) throws SQLException {
+        DatabaseConfiguration databaseConfig = new DataSourceProvidedDatabaseConfiguration(originalDatabase.getResource().getDataSources(), ruleConfigs);
+        Collection<ShardingSphereRule> databaseRules = DatabaseRulesBuilder.build(name, databaseConfig, instanceContext);
+        DatabaseType storageType = originalDatabase.getResource().getDatabaseType();
+        GenericSchemaBuilderMaterials materials = new GenericSchemaBuilderMaterials(originalDatabase.getProtocolType(), storageType, databaseConfig.getDataSources(), databaseRules, props,
+                DatabaseTypeEngine.getDefaultSchemaName(storageType, name));
+        Map<String, ShardingSphereSchema> schemas = new ConcurrentHashMap<>();
+        if (props.<Boolean>getValue(ConfigurationPropertyKey.LAZY_TABLE_METADATA_ENABLED)) {
+            schemas.putAll(GenericSchemaBuilder.build(materials));
+        } else {
+            Collection<String> alteredTableNames = RuleAlteredTableUtil.getAlteredTableNames(originalDatabase.getRuleMetaData().getRules(), databaseRules);
+            schemas.putAll(getUnalteredSchemas(originalDatabase.getSchemas(), alteredTableNames));
+            putAlteredTables(schemas, getToBeLoadedTableNames(databaseRules, alteredTableNames), materials);
+        }
+        schemas.putAll(SystemSchemaBuilder.build(name, originalDatabase.getProtocolType()));
+        return new ShardingSphereDatabase(name, originalDatabase.getProtocolType(), originalDatabase.getResource(), new ShardingSphereRuleMetaData(databaseRules), schemas);
+    }
+    
+    private static Map<String, ShardingSphereSchema> getUnalteredSchemas(final Map<String, ShardingSphereSchema> originalSchemas, final Collection<String> alteredTableNames) {
+        Map<String, ShardingSphereSchema> result = new LinkedHashMap<>(originalSchemas.size(), 1);
+        for (Entry<String, ShardingSphereSchema> entry : originalSchemas.entrySet()) {
+            Map<String, ShardingSphereTable> tables = entry.getValue().getTables().entrySet().stream().filter(each -> !alteredTableNames.contains(each.getKey()))
+                    .collect(Collectors.toMap(Entry::getKey, Entry::getValue, (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
+            result.put(entry.getKey(), new ShardingSphereSchema(tables));
+        }
+        return result;
+    }
+    
+    private static Collection<String> getToBeLoadedTableNames(final Collection<ShardingSphereRule> rules, final Collection<String> alteredTableNames) {
+        return rules.stream().filter(each -> each instanceof TableContainedRule).flatMap(each -> ((TableContainedRule) each).getTables().stream())
+                .filter(each -> alteredTableNames.contains(each.toLowerCase())).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+    
+    private static void putAlteredTables(final Map<String, ShardingSphereSchema> schemas, final Collection<String> toBeLoadedTableNames,
+                                         final GenericSchemaBuilderMaterials materials) throws SQLException {
+        if (toBeLoadedTableNames.isEmpty()) {
+            return;
+        }
+        for (Entry<String, ShardingSphereSchema> entry : GenericSchemaBuilder.build(toBeLoadedTableNames, materials).entrySet()) {
+            schemas.computeIfAbsent(entry.getKey().toLowerCase(), key -> new ShardingSphereSchema()).putAll(entry.getValue().getTables());
+        }
+    }
+    
     /**
      * Create system database meta data.
      * 
@@ -22,8 +22,10 @@ import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 
 import java.sql.SQLException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -62,22 +64,40 @@ public final class ShardingSphereDatabasesFactory {
      */
     public static Map<String, ShardingSphereDatabase> create(final Map<String, DatabaseConfiguration> databaseConfigMap,
                                                              final ConfigurationProperties props, final InstanceContext instanceContext) throws SQLException {
+        return create(databaseConfigMap, Collections.emptyMap(), props, instanceContext);
+    }
+    
+    /**
+     * Create databases with loaded schemas.
+     * 
+     * @param databaseConfigMap database configuration map
+     * @param loadedSchemasMap schemas loaded from meta data snapshot, key is database name
+     * @param props properties
+     * @param instanceContext instance context
+     * @return databases
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, ShardingSphereDatabase> create(final Map<String, DatabaseConfiguration> databaseConfigMap, final Map<String, Map<String, ShardingSphereSchema>> loadedSchemasMap,
+                                                             final ConfigurationProperties props, final InstanceContext instanceContext) throws SQLException {
         DatabaseType protocolType = DatabaseTypeEngine.getProtocolType(databaseConfigMap, props);
         DatabaseType storageType = DatabaseTypeEngine.getStorageType(databaseConfigMap);
         Map<String, ShardingSphereDatabase> result = new ConcurrentHashMap<>(databaseConfigMap.size() + protocolType.getSystemDatabaseSchemaMap().size(), 1);
-        result.putAll(createGenericDatabases(databaseConfigMap, protocolType, storageType, props, instanceContext));
+        result.putAll(createGenericDatabases(databaseConfigMap, loadedSchemasMap, protocolType, storageType, props, instanceContext));
         result.putAll(createSystemDatabases(databaseConfigMap, protocolType));
         return result;
     }
     
-    private static Map<String, ShardingSphereDatabase> createGenericDatabases(final Map<String, DatabaseConfiguration> databaseConfigMap, final DatabaseType protocolType,
+    private static Map<String, ShardingSphereDatabase> createGenericDatabases(final Map<String, DatabaseConfiguration> databaseConfigMap,
+                                                                              final Map<String, Map<String, ShardingSphereSchema>> loadedSchemasMap, final DatabaseType protocolType,
                                                                               final DatabaseType storageType, final ConfigurationProperties props,
                                                                               final InstanceContext instanceContext) throws SQLException {
         Map<String, ShardingSphereDatabase> result = new HashMap<>(databaseConfigMap.size(), 1);
         for (Entry<String, DatabaseConfiguration> entry : databaseConfigMap.entrySet()) {
             String databaseName = entry.getKey();
             if (!entry.getValue().getDataSources().isEmpty() || !protocolType.getSystemSchemas().contains(databaseName)) {
-                result.put(databaseName.toLowerCase(), ShardingSphereDatabase.create(databaseName, protocolType, storageType, entry.getValue(), props, instanceContext));
+                result.put(databaseName.toLowerCase(), loadedSchemasMap.containsKey(databaseName)
+                        ? ShardingSphereDatabase.create(databaseName, protocolType, entry.getValue(), loadedSchemasMap.get(databaseName), instanceContext)
+                        : ShardingSphereDatabase.create(databaseName, protocolType, storageType, entry.getValue(), props, instanceContext));
             }
         }
         return result;
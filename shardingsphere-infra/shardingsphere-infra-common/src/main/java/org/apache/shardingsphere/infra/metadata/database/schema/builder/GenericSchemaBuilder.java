@@ -35,6 +35,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.Sch
 import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.TableMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.util.SchemaMetaDataUtil;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.MutableDataNodeRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
 
 import java.sql.SQLException;
@@ -61,6 +62,9 @@ public final class GenericSchemaBuilder {
      * @throws SQLException SQL exception
      */
     public static Map<String, ShardingSphereSchema> build(final GenericSchemaBuilderMaterials materials) throws SQLException {
+        if (materials.getProps().<Boolean>getValue(ConfigurationPropertyKey.LAZY_TABLE_METADATA_ENABLED)) {
+            return buildLazily(materials);
+        }
         return build(getAllTableNames(materials.getRules()), materials);
     }
     
@@ -80,6 +84,15 @@ public final class GenericSchemaBuilder {
         return decorate(result, materials);
     }
     
+    private static Map<String, ShardingSphereSchema> buildLazily(final GenericSchemaBuilderMaterials materials) {
+        Collection<String> pinnedTableNames = getAllTableNames(materials.getRules().stream().filter(each -> !(each instanceof MutableDataNodeRule)).collect(Collectors.toList()));
+        Collection<String> evictableTableNames = getAllTableNames(materials.getRules().stream().filter(each -> each instanceof MutableDataNodeRule).collect(Collectors.toList()));
+        LazyTableMetaDataLoader loader = new LazyTableMetaDataLoader(
+                materials, pinnedTableNames, evictableTableNames, materials.getProps().getValue(ConfigurationPropertyKey.LAZY_TABLE_METADATA_CACHE_SIZE));
+        String schemaName = DatabaseTypeEngine.getDefaultSchemaName(materials.getProtocolType(), materials.getDefaultSchemaName());
+        return Collections.singletonMap(schemaName, new ShardingSphereSchema(Collections.emptyMap(), loader));
+    }
+    
     private static Collection<String> getAllTableNames(final Collection<ShardingSphereRule> rules) {
         return rules.stream().filter(each -> each instanceof TableContainedRule).flatMap(each -> ((TableContainedRule) each).getTables().stream()).collect(Collectors.toSet());
     }
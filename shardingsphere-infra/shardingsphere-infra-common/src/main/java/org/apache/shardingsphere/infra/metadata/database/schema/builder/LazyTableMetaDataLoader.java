@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.builder;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lazy table meta data loader.
+ * 
+ * <p>Table meta data is loaded on first reference, and concurrent references of same table share one loading.
+ * Tables only contained by mutable data node rule are cached with size bounded eviction, others are kept in schema once loaded.</p>
+ */
+@Slf4j
+public final class LazyTableMetaDataLoader {
+    
+    private final GenericSchemaBuilderMaterials materials;
+    
+    private final Map<String, String> tableNames;
+    
+    private final Collection<String> evictableTableNames;
+    
+    private final Cache<String, ShardingSphereTable> evictableTables;
+    
+    private final Map<String, FutureTask<Optional<ShardingSphereTable>>> loadingTasks = new ConcurrentHashMap<>();
+    
+    private final LongAdder loadCount = new LongAdder();
+    
+    private final LongAdder totalLoadNanos = new LongAdder();
+    
+    private final AtomicLong maxLoadNanos = new AtomicLong();
+    
+    public LazyTableMetaDataLoader(final GenericSchemaBuilderMaterials materials, final Collection<String> pinnedTableNames, final Collection<String> evictableTableNames,
+                                   final int maxCachedTableSize) {
+        this.materials = materials;
+        tableNames = new ConcurrentHashMap<>(pinnedTableNames.size() + evictableTableNames.size(), 1);
+        this.evictableTableNames = ConcurrentHashMap.newKeySet(evictableTableNames.size());
+        for (String each : evictableTableNames) {
+            tableNames.put(each.toLowerCase(), each);
+            this.evictableTableNames.add(each.toLowerCase());
+        }
+        for (String each : pinnedTableNames) {
+            tableNames.put(each.toLowerCase(), each);
+            this.evictableTableNames.remove(each.toLowerCase());
+        }
+        evictableTables = CacheBuilder.newBuilder().maximumSize(maxCachedTableSize).build();
+    }
+    
+    /**
+     * Get names of tables which can be loaded.
+     *
+     * @return table names
+     */
+    public Collection<String> getTableNames() {
+        return tableNames.keySet();
+    }
+    
+    /**
+     * Judge whether table can be loaded.
+     *
+     * @param tableName table name
+     * @return table can be loaded or not
+     */
+    public boolean containsTable(final String tableName) {
+        return tableNames.containsKey(tableName.toLowerCase());
+    }
+    
+    /**
+     * Load table meta data.
+     *
+     * @param tableName table name
+     * @param loadedTables loaded tables of schema, table not evictable is put into it after loaded
+     * @return loaded table meta data
+     */
+    public Optional<ShardingSphereTable> load(final String tableName, final Map<String, ShardingSphereTable> loadedTables) {
+        String lowerCaseTableName = tableName.toLowerCase();
+        if (!tableNames.containsKey(lowerCaseTableName)) {
+            return Optional.empty();
+        }
+        ShardingSphereTable cachedTable = evictableTables.getIfPresent(lowerCaseTableName);
+        if (null != cachedTable) {
+            return Optional.of(cachedTable);
+        }
+        FutureTask<Optional<ShardingSphereTable>> task = new FutureTask<>(() -> load0(lowerCaseTableName, loadedTables));
+        FutureTask<Optional<ShardingSphereTable>> loadingTask = loadingTasks.putIfAbsent(lowerCaseTableName, task);
+        if (null == loadingTask) {
+            loadingTask = task;
+            task.run();
+        }
+        try {
+            return loadingTask.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ShardingSphereException(ex);
+        } catch (final ExecutionException ex) {
+            throw new ShardingSphereException(ex);
+        }
+    }
+    
+    private Optional<ShardingSphereTable> load0(final String lowerCaseTableName, final Map<String, ShardingSphereTable> loadedTables) throws Exception {
+        long startNanos = System.nanoTime();
+        try {
+            String actualTableName = tableNames.get(lowerCaseTableName);
+            Optional<ShardingSphereTable> result = null == actualTableName ? Optional.empty()
+                    : GenericSchemaBuilder.build(Collections.singleton(actualTableName), materials).values().stream().map(each -> each.get(lowerCaseTableName)).filter(Objects::nonNull).findFirst();
+            if (!result.isPresent()) {
+                tableNames.remove(lowerCaseTableName);
+            } else if (evictableTableNames.contains(lowerCaseTableName)) {
+                evictableTables.put(lowerCaseTableName, result.get());
+            } else {
+                loadedTables.put(lowerCaseTableName, result.get());
+            }
+            return result;
+        } finally {
+            recordLoadNanos(lowerCaseTableName, System.nanoTime() - startNanos);
+            loadingTasks.remove(lowerCaseTableName);
+        }
+    }
+    
+    private void recordLoadNanos(final String lowerCaseTableName, final long loadNanos) {
+        loadCount.increment();
+        totalLoadNanos.add(loadNanos);
+        maxLoadNanos.accumulateAndGet(loadNanos, Math::max);
+        log.debug("Load meta data of table `{}` cost {} ms.", lowerCaseTableName, TimeUnit.NANOSECONDS.toMillis(loadNanos));
+    }
+    
+    /**
+     * Evict cached table meta data, table is reloaded on next reference.
+     *
+     * @param tableName table name
+     */
+    public void evict(final String tableName) {
+        evictableTables.invalidate(tableName.toLowerCase());
+    }
+    
+    /**
+     * Get count of table meta data loadings.
+     *
+     * @return count of table meta data loadings
+     */
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+    
+    /**
+     * Get total nanoseconds of table meta data loadings.
+     *
+     * @return total nanoseconds of table meta data loadings
+     */
+    public long getTotalLoadNanos() {
+        return totalLoadNanos.sum();
+    }
+    
+    /**
+     * Get max nanoseconds of single table meta data loading.
+     *
+     * @return max nanoseconds of single table meta data loading
+     */
+    public long getMaxLoadNanos() {
+        return maxLoadNanos.get();
+    }
+    
+    /**
+     * Get count of cached evictable tables.
+     *
+     * @return count of cached evictable tables
+     */
+    public long getCachedTableCount() {
+        return evictableTables.size();
+    }
+}
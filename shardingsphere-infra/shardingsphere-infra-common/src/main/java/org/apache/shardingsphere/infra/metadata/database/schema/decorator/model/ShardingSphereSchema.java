@@ -17,13 +17,17 @@
 
 package org.apache.shardingsphere.infra.metadata.database.schema.decorator.model;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.LazyTableMetaDataLoader;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -34,14 +38,32 @@ public final class ShardingSphereSchema {
     
     private final Map<String, ShardingSphereTable> tables;
     
+    @Getter(AccessLevel.NONE)
+    private final LazyTableMetaDataLoader lazyTableMetaDataLoader;
+    
     @SuppressWarnings("CollectionWithoutInitialCapacity")
     public ShardingSphereSchema() {
         tables = new ConcurrentHashMap<>();
+        lazyTableMetaDataLoader = null;
     }
     
     public ShardingSphereSchema(final Map<String, ShardingSphereTable> tables) {
+        this(tables, null);
+    }
+    
+    public ShardingSphereSchema(final Map<String, ShardingSphereTable> tables, final LazyTableMetaDataLoader lazyTableMetaDataLoader) {
         this.tables = new ConcurrentHashMap<>(tables.size(), 1);
         tables.forEach((key, value) -> this.tables.put(key.toLowerCase(), value));
+        this.lazyTableMetaDataLoader = lazyTableMetaDataLoader;
+    }
+    
+    /**
+     * Get lazy table meta data loader.
+     *
+     * @return lazy table meta data loader
+     */
+    public Optional<LazyTableMetaDataLoader> getLazyTableMetaDataLoader() {
+        return Optional.ofNullable(lazyTableMetaDataLoader);
     }
     
     /**
@@ -50,17 +72,28 @@ public final class ShardingSphereSchema {
      * @return all table names
      */
     public Collection<String> getAllTableNames() {
-        return tables.keySet();
+        if (null == lazyTableMetaDataLoader) {
+            return tables.keySet();
+        }
+        Collection<String> result = new LinkedHashSet<>(tables.keySet());
+        result.addAll(lazyTableMetaDataLoader.getTableNames());
+        return result;
     }
     
     /**
      * Get table meta data via table name.
      * 
+     * <p>Table meta data is loaded if it is not loaded yet and lazy table meta data loading enabled.</p>
+     * 
      * @param tableName tableName table name
      * @return table meta data
      */
     public ShardingSphereTable get(final String tableName) {
-        return tables.get(tableName.toLowerCase());
+        ShardingSphereTable result = tables.get(tableName.toLowerCase());
+        if (null != result || null == lazyTableMetaDataLoader) {
+            return result;
+        }
+        return lazyTableMetaDataLoader.load(tableName, tables).orElse(null);
     }
     
     /**
@@ -91,6 +124,9 @@ public final class ShardingSphereSchema {
      */
     public void remove(final String tableName) {
         tables.remove(tableName.toLowerCase());
+        if (null != lazyTableMetaDataLoader) {
+            lazyTableMetaDataLoader.evict(tableName);
+        }
     }
     
     /**
@@ -100,7 +136,10 @@ public final class ShardingSphereSchema {
      * @return contains table from table meta data or not
      */
     public boolean containsTable(final String tableName) {
-        return tables.containsKey(tableName.toLowerCase());
+        if (tables.containsKey(tableName.toLowerCase())) {
+            return true;
+        }
+        return null != lazyTableMetaDataLoader && lazyTableMetaDataLoader.containsTable(tableName) && null != get(tableName);
     }
     
     /**
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.config.pojo.YamlRuleConfiguration;
+import org.apache.shardingsphere.infra.yaml.config.swapper.YamlRuleConfigurationSwapperEngine;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Rule altered table utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RuleAlteredTableUtil {
+    
+    /**
+     * Get altered table names.
+     * 
+     * <p>Tables of data node contained rules are compared by data nodes and generate key column, tables of other table contained rules are compared by YAML rule configuration.</p>
+     *
+     * @param originalRules original rules
+     * @param alteredRules altered rules
+     * @return altered table names in lower case
+     */
+    public static Collection<String> getAlteredTableNames(final Collection<ShardingSphereRule> originalRules, final Collection<ShardingSphereRule> alteredRules) {
+        Collection<String> result = new LinkedHashSet<>();
+        Map<String, Collection<Object>> originalTableSignatures = getTableSignatures(originalRules, result);
+        Map<String, Collection<Object>> alteredTableSignatures = getTableSignatures(alteredRules, result);
+        for (Entry<String, Collection<Object>> entry : originalTableSignatures.entrySet()) {
+            if (!entry.getValue().equals(alteredTableSignatures.get(entry.getKey()))) {
+                result.add(entry.getKey());
+            }
+        }
+        for (String each : alteredTableSignatures.keySet()) {
+            if (!originalTableSignatures.containsKey(each)) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private static Map<String, Collection<Object>> getTableSignatures(final Collection<ShardingSphereRule> rules, final Collection<String> unknownTableNames) {
+        Map<String, Collection<Object>> result = new HashMap<>();
+        for (ShardingSphereRule each : rules) {
+            if (!(each instanceof TableContainedRule)) {
+                continue;
+            }
+            Optional<String> configSignature = each instanceof DataNodeContainedRule ? Optional.of("") : getConfigurationSignature(each);
+            for (String tableName : ((TableContainedRule) each).getTables()) {
+                if (!configSignature.isPresent()) {
+                    unknownTableNames.add(tableName.toLowerCase());
+                    continue;
+                }
+                Collection<Object> signature = result.computeIfAbsent(tableName.toLowerCase(), key -> new LinkedList<>());
+                signature.add(each.getType());
+                if (each instanceof DataNodeContainedRule) {
+                    signature.add(((DataNodeContainedRule) each).getDataNodesByTableName(tableName));
+                    signature.add(((DataNodeContainedRule) each).findGenerateKeyColumnName(tableName).map(String::toLowerCase));
+                } else {
+                    signature.add(configSignature.get());
+                }
+            }
+        }
+        return result;
+    }
+    
+    private static Optional<String> getConfigurationSignature(final ShardingSphereRule rule) {
+        Collection<YamlRuleConfiguration> yamlRuleConfigs = new YamlRuleConfigurationSwapperEngine().swapToYamlRuleConfigurations(Collections.singleton(rule.getConfiguration()));
+        return yamlRuleConfigs.isEmpty() ? Optional.empty() : Optional.of(YamlEngine.marshal(yamlRuleConfigs.iterator().next()));
+    }
+}
@@ -77,6 +77,14 @@ public interface DataNodeContainedRule extends ShardingSphereRule {
      */
     Optional<String> findActualTableByCatalog(String catalog, String logicTable);
     
+    /**
+     * Find column name of generated key.
+     *
+     * @param logicTableName logic table name
+     * @return column name of generated key
+     */
+    Optional<String> findGenerateKeyColumnName(String logicTableName);
+    
     /**
      * Get all tables.
      *
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.event.DataSourceStatusChangedEvent;
 
 import java.util.Collection;
+import java.util.Optional;
 
 /**
  * Dynamic data source contained rule.
@@ -43,6 +44,15 @@ public interface DynamicDataSourceContainedRule extends ShardingSphereRule {
      */
     Collection<String> getReplicaDataSourceNames(String dataSourceName);
     
+    /**
+     * Find replication delay milliseconds of replica data source.
+     *
+     * @param dataSourceName data source name
+     * @param replicaDataSourceName replica data source name
+     * @return replication delay milliseconds, empty if not reported
+     */
+    Optional<Long> findReplicationDelayMilliseconds(String dataSourceName, String replicaDataSourceName);
+    
     /**
      * Update data source status.
      *
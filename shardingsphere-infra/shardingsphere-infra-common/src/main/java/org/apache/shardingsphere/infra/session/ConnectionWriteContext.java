@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.session;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Connection write context.
+ * 
+ * <p>
+ * Holds writes of one client connection, which is shared by all threads executing statements of the connection.
+ * Data sources which writes are routed to are pending until the writes are committed or executed in auto commit,
+ * then nano time of commit is recorded as last write nano time of the data sources.
+ * </p>
+ */
+public final class ConnectionWriteContext {
+    
+    private final Collection<String> pendingWriteDataSourceNames = ConcurrentHashMap.newKeySet();
+    
+    private final Map<String, Long> lastWriteNanoTimes = new ConcurrentHashMap<>();
+    
+    /**
+     * Add pending write.
+     *
+     * @param dataSourceName name of data source which write is routed to
+     */
+    public void addPendingWrite(final String dataSourceName) {
+        pendingWriteDataSourceNames.add(dataSourceName);
+    }
+    
+    /**
+     * Commit pending writes.
+     */
+    public void commitPendingWrites() {
+        if (pendingWriteDataSourceNames.isEmpty()) {
+            return;
+        }
+        long nanoTime = System.nanoTime();
+        for (String each : pendingWriteDataSourceNames) {
+            lastWriteNanoTimes.put(each, nanoTime);
+        }
+        pendingWriteDataSourceNames.clear();
+    }
+    
+    /**
+     * Clear pending writes.
+     */
+    public void clearPendingWrites() {
+        pendingWriteDataSourceNames.clear();
+    }
+    
+    /**
+     * Find nano time of last committed write.
+     *
+     * @param dataSourceName data source name
+     * @return nano time of last committed write
+     */
+    public Optional<Long> findLastWriteNanoTime(final String dataSourceName) {
+        return Optional.ofNullable(lastWriteNanoTimes.get(dataSourceName));
+    }
+}
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceMetaData;
 import org.apache.shardingsphere.infra.instance.fixture.WorkerIdGeneratorFixture;
+import org.apache.shardingsphere.infra.instance.keysegment.KeySegmentAllocator;
 import org.apache.shardingsphere.infra.lock.LockContext;
 import org.apache.shardingsphere.infra.state.StateContext;
 import org.apache.shardingsphere.infra.state.StateType;
@@ -72,6 +73,21 @@ public final class InstanceContextTest {
         assertThat(context.getWorkerId(), is(0L));
     }
     
+    @Test
+    public void assertAllocateKeySegment() {
+        KeySegmentAllocator keySegmentAllocator = mock(KeySegmentAllocator.class);
+        when(keySegmentAllocator.allocate("foo_segment", 100)).thenReturn(101L);
+        InstanceContext context = new InstanceContext(new ComputeNodeInstance(mock(InstanceMetaData.class)), new WorkerIdGeneratorFixture(Long.MIN_VALUE),
+                keySegmentAllocator, modeConfig, lockContext, eventBusContext);
+        assertThat(context.allocateKeySegment("foo_segment", 100), is(101L));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertAllocateKeySegmentWithoutAllocator() {
+        InstanceContext context = new InstanceContext(new ComputeNodeInstance(mock(InstanceMetaData.class)), new WorkerIdGeneratorFixture(Long.MIN_VALUE), modeConfig, lockContext, eventBusContext);
+        context.allocateKeySegment("foo_segment", 100);
+    }
+    
     @Test
     public void assertGenerateWorkerId() {
         InstanceContext context = new InstanceContext(new ComputeNodeInstance(mock(InstanceMetaData.class)), new WorkerIdGeneratorFixture(Long.MIN_VALUE), modeConfig, lockContext, eventBusContext);
@@ -22,6 +22,8 @@ import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDa
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.fixture.FixtureRuleConfiguration;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.builder.fixture.FixtureDatabaseRule;
 import org.junit.Test;
@@ -70,4 +72,14 @@ public final class ShardingSphereDatabasesFactoryTest {
         assertThat(rules.iterator().next(), instanceOf(FixtureDatabaseRule.class));
         assertTrue(actual.get("foo_db").getResource().getDataSources().isEmpty());
     }
+    
+    @Test
+    public void assertCreateDatabaseMapWithLoadedSchemas() throws SQLException {
+        DatabaseConfiguration databaseConfig = new DataSourceProvidedDatabaseConfiguration(Collections.emptyMap(), Collections.singleton(new FixtureRuleConfiguration()));
+        ShardingSphereSchema loadedSchema = new ShardingSphereSchema(Collections.singletonMap("foo_tbl", new ShardingSphereTable("foo_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList())));
+        Map<String, ShardingSphereDatabase> actual = ShardingSphereDatabasesFactory.create(Collections.singletonMap("foo_db", databaseConfig),
+                Collections.singletonMap("foo_db", Collections.singletonMap("foo_schema", loadedSchema)), new ConfigurationProperties(new Properties()), mock(InstanceContext.class));
+        assertThat(actual.get("foo_db").getSchema("foo_schema"), is(loadedSchema));
+        assertThat(actual.get("foo_db").getRuleMetaData().getRules().iterator().next(), instanceOf(FixtureDatabaseRule.class));
+    }
 }
@@ -17,20 +17,29 @@
 
 package org.apache.shardingsphere.infra.metadata.database.schema;
 
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.LazyTableMetaDataLoader;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereIndex;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public final class ShardingSphereSchemaTest {
     
@@ -91,4 +100,38 @@ public final class ShardingSphereSchemaTest {
         ShardingSphereTable table = new ShardingSphereTable("tbl", Collections.emptyList(), Collections.singletonList(new ShardingSphereIndex("col_idx")), Collections.emptyList());
         assertTrue(new ShardingSphereSchema(Collections.singletonMap("tbl", table)).containsIndex("tbl", "col_idx"));
     }
+    
+    @Test
+    public void assertGetWithLazyTableMetaDataLoader() {
+        ShardingSphereTable table = mock(ShardingSphereTable.class);
+        LazyTableMetaDataLoader loader = mock(LazyTableMetaDataLoader.class);
+        when(loader.load(eq("tbl"), any())).thenReturn(Optional.of(table));
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.emptyMap(), loader);
+        assertThat(actual.get("tbl"), is(table));
+        assertNull(actual.get("tbl1"));
+    }
+    
+    @Test
+    public void assertContainsTableWithLazyTableMetaDataLoader() {
+        LazyTableMetaDataLoader loader = mock(LazyTableMetaDataLoader.class);
+        when(loader.containsTable("tbl")).thenReturn(true);
+        when(loader.load(eq("tbl"), any())).thenReturn(Optional.of(mock(ShardingSphereTable.class)));
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.emptyMap(), loader);
+        assertTrue(actual.containsTable("tbl"));
+        assertFalse(actual.containsTable("tbl1"));
+    }
+    
+    @Test
+    public void assertGetAllTableNamesWithLazyTableMetaDataLoader() {
+        LazyTableMetaDataLoader loader = mock(LazyTableMetaDataLoader.class);
+        when(loader.getTableNames()).thenReturn(Collections.singleton("lazy_tbl"));
+        assertThat(new ShardingSphereSchema(Collections.singletonMap("tbl", mock(ShardingSphereTable.class)), loader).getAllTableNames(), is(new LinkedHashSet<>(Arrays.asList("tbl", "lazy_tbl"))));
+    }
+    
+    @Test
+    public void assertRemoveWithLazyTableMetaDataLoader() {
+        LazyTableMetaDataLoader loader = mock(LazyTableMetaDataLoader.class);
+        new ShardingSphereSchema(Collections.emptyMap(), loader).remove("tbl");
+        verify(loader).evict("tbl");
+    }
 }
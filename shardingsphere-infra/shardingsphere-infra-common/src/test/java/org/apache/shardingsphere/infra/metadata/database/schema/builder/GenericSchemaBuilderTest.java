@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.metadata.database.schema.builder;
 
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
@@ -90,6 +91,19 @@ public final class GenericSchemaBuilderTest {
         assertTables(new ShardingSphereSchema(actual.values().iterator().next().getTables()).getTables());
     }
     
+    @Test
+    public void assertBuildLazily() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.LAZY_TABLE_METADATA_ENABLED.getKey(), Boolean.TRUE.toString());
+        GenericSchemaBuilderMaterials lazyMaterials = new GenericSchemaBuilderMaterials(materials.getProtocolType(), materials.getStorageType(), materials.getDataSourceMap(),
+                materials.getRules(), new ConfigurationProperties(props), DefaultDatabase.LOGIC_NAME);
+        Map<String, ShardingSphereSchema> actual = GenericSchemaBuilder.build(lazyMaterials);
+        assertThat(actual.size(), is(1));
+        assertTrue(actual.get(DefaultDatabase.LOGIC_NAME).getTables().isEmpty());
+        assertTrue(actual.get(DefaultDatabase.LOGIC_NAME).getLazyTableMetaDataLoader().isPresent());
+        engine.verifyNoInteractions();
+    }
+    
     private Map<String, SchemaMetaData> createSchemaMetaDataMap(final Collection<String> tableNames, final GenericSchemaBuilderMaterials materials) {
         if (!tableNames.isEmpty() && (tableNames.contains("data_node_routed_table1") || tableNames.contains("data_node_routed_table2"))) {
             Collection<TableMetaData> tableMetaDataList = tableNames.stream()
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.builder;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.database.schema.fixture.rule.TableContainedFixtureRule;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.SchemaMetaDataLoaderEngine;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.SchemaMetaDataLoaderMaterials;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.SchemaMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.TableMetaData;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+
+public final class LazyTableMetaDataLoaderTest {
+    
+    private GenericSchemaBuilderMaterials materials;
+    
+    private MockedStatic<SchemaMetaDataLoaderEngine> engine;
+    
+    @Before
+    public void setUp() {
+        DatabaseType databaseType = mock(DatabaseType.class);
+        materials = new GenericSchemaBuilderMaterials(databaseType, databaseType, Collections.singletonMap(DefaultDatabase.LOGIC_NAME, mock(DataSource.class)),
+                Collections.singleton(new TableContainedFixtureRule()), new ConfigurationProperties(new Properties()), DefaultDatabase.LOGIC_NAME);
+        engine = mockStatic(SchemaMetaDataLoaderEngine.class);
+        engine.when(() -> SchemaMetaDataLoaderEngine.load(any(), any())).thenAnswer(invocation -> createSchemaMetaDataMap(invocation.getArgument(0)));
+    }
+    
+    private Map<String, SchemaMetaData> createSchemaMetaDataMap(final Collection<SchemaMetaDataLoaderMaterials> loaderMaterials) {
+        Collection<String> tableNames = loaderMaterials.stream().flatMap(each -> each.getActualTableNames().stream()).filter(each -> each.startsWith("t_")).collect(Collectors.toList());
+        if (tableNames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return Collections.singletonMap(DefaultDatabase.LOGIC_NAME, new SchemaMetaData(DefaultDatabase.LOGIC_NAME, Collections.singletonList(
+                new TableMetaData(tableNames.iterator().next(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList()))));
+    }
+    
+    @After
+    public void cleanUp() {
+        engine.close();
+    }
+    
+    @Test
+    public void assertLoadPinnedTable() {
+        LazyTableMetaDataLoader loader = new LazyTableMetaDataLoader(materials, Collections.singleton("t_order"), Collections.emptyList(), 1);
+        Map<String, ShardingSphereTable> loadedTables = new ConcurrentHashMap<>();
+        Optional<ShardingSphereTable> actual = loader.load("T_ORDER", loadedTables);
+        assertTrue(actual.isPresent());
+        assertThat(loadedTables.get("t_order"), is(actual.get()));
+        assertThat(loader.getLoadCount(), is(1L));
+        assertThat(loader.getCachedTableCount(), is(0L));
+    }
+    
+    @Test
+    public void assertLoadEvictableTable() {
+        LazyTableMetaDataLoader loader = new LazyTableMetaDataLoader(materials, Collections.emptyList(), Arrays.asList("t_order", "t_user"), 1);
+        Map<String, ShardingSphereTable> loadedTables = new ConcurrentHashMap<>();
+        assertTrue(loader.load("t_order", loadedTables).isPresent());
+        assertTrue(loader.load("t_order", loadedTables).isPresent());
+        assertThat(loader.getLoadCount(), is(1L));
+        assertTrue(loader.load("t_user", loadedTables).isPresent());
+        assertTrue(loadedTables.isEmpty());
+        assertThat(loader.getLoadCount(), is(2L));
+        assertThat(loader.getCachedTableCount(), is(1L));
+    }
+    
+    @Test
+    public void assertEvict() {
+        LazyTableMetaDataLoader loader = new LazyTableMetaDataLoader(materials, Collections.emptyList(), Collections.singleton("t_order"), 1);
+        Map<String, ShardingSphereTable> loadedTables = new ConcurrentHashMap<>();
+        assertTrue(loader.load("t_order", loadedTables).isPresent());
+        loader.evict("t_order");
+        assertTrue(loader.load("t_order", loadedTables).isPresent());
+        assertThat(loader.getLoadCount(), is(2L));
+    }
+    
+    @Test
+    public void assertLoadNotExistedTable() {
+        LazyTableMetaDataLoader loader = new LazyTableMetaDataLoader(materials, Collections.singleton("invalid_table"), Collections.emptyList(), 1);
+        assertTrue(loader.containsTable("invalid_table"));
+        assertFalse(loader.load("invalid_table", new ConcurrentHashMap<>()).isPresent());
+        assertFalse(loader.containsTable("invalid_table"));
+        assertThat(loader.getLoadCount(), is(1L));
+    }
+    
+    @Test
+    public void assertLoadNotContainedTable() {
+        LazyTableMetaDataLoader loader = new LazyTableMetaDataLoader(materials, Collections.singleton("t_order"), Collections.emptyList(), 1);
+        assertFalse(loader.load("t_user", new ConcurrentHashMap<>()).isPresent());
+        assertThat(loader.getLoadCount(), is(0L));
+    }
+}
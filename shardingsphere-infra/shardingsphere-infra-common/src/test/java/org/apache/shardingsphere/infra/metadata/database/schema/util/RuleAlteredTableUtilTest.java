@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.util;
+
+import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+public final class RuleAlteredTableUtilTest {
+    
+    @Test
+    public void assertGetAlteredTableNamesWithSameDataNodes() {
+        ShardingSphereRule originalRule = mockDataNodeContainedRule(new DataNode("ds_0", "t_order_0"), new DataNode("ds_0", "t_user"));
+        ShardingSphereRule alteredRule = mockDataNodeContainedRule(new DataNode("ds_0", "t_order_0"), new DataNode("ds_0", "t_user"));
+        assertTrue(RuleAlteredTableUtil.getAlteredTableNames(Collections.singleton(originalRule), Collections.singleton(alteredRule)).isEmpty());
+    }
+    
+    @Test
+    public void assertGetAlteredTableNamesWithChangedDataNodes() {
+        ShardingSphereRule originalRule = mockDataNodeContainedRule(new DataNode("ds_0", "t_order_0"), new DataNode("ds_0", "t_user"));
+        ShardingSphereRule alteredRule = mockDataNodeContainedRule(new DataNode("ds_1", "t_order_0"), new DataNode("ds_0", "t_user"));
+        assertThat(RuleAlteredTableUtil.getAlteredTableNames(Collections.singleton(originalRule), Collections.singleton(alteredRule)), is(Collections.singleton("t_order")));
+    }
+    
+    @Test
+    public void assertGetAlteredTableNamesWithChangedGenerateKeyColumn() {
+        DataNodeContainedRule originalRule = mockDataNodeContainedRule(new DataNode("ds_0", "t_order_0"), new DataNode("ds_0", "t_user"));
+        when(originalRule.findGenerateKeyColumnName("t_order")).thenReturn(Optional.of("order_id"));
+        DataNodeContainedRule alteredRule = mockDataNodeContainedRule(new DataNode("ds_0", "t_order_0"), new DataNode("ds_0", "t_user"));
+        when(alteredRule.findGenerateKeyColumnName("t_order")).thenReturn(Optional.of("user_id"));
+        assertThat(RuleAlteredTableUtil.getAlteredTableNames(Collections.singleton(originalRule), Collections.singleton(alteredRule)), is(Collections.singleton("t_order")));
+    }
+    
+    @Test
+    public void assertGetAlteredTableNamesWithAddedAndDroppedTables() {
+        ShardingSphereRule originalRule = mockDataNodeContainedRule(new DataNode("ds_0", "t_order_0"), new DataNode("ds_0", "t_user"));
+        ShardingSphereRule alteredRule = mockDataNodeContainedRule(new DataNode("ds_0", "t_order_0"), new DataNode("ds_0", "t_item"));
+        Collection<String> actual = RuleAlteredTableUtil.getAlteredTableNames(Collections.singleton(originalRule), Collections.singleton(alteredRule));
+        assertThat(actual, is(new LinkedHashSet<>(Arrays.asList("t_user", "t_item"))));
+    }
+    
+    @Test
+    public void assertGetAlteredTableNamesWithoutYamlConfiguration() {
+        TableContainedRule originalRule = mockTableContainedRule();
+        TableContainedRule alteredRule = mockTableContainedRule();
+        assertThat(RuleAlteredTableUtil.getAlteredTableNames(Collections.singleton(originalRule), Collections.singleton(alteredRule)), is(Collections.singleton("t_encrypt")));
+    }
+    
+    private DataNodeContainedRule mockDataNodeContainedRule(final DataNode orderDataNode, final DataNode otherDataNode) {
+        DataNodeContainedRule result = mock(DataNodeContainedRule.class, withSettings().extraInterfaces(TableContainedRule.class));
+        when(result.getType()).thenReturn("DataNodeContainedRule");
+        when(((TableContainedRule) result).getTables()).thenReturn(Arrays.asList("t_order", otherDataNode.getTableName().toUpperCase()));
+        when(result.getDataNodesByTableName("t_order")).thenReturn(Collections.singletonList(orderDataNode));
+        when(result.getDataNodesByTableName(otherDataNode.getTableName().toUpperCase())).thenReturn(Collections.singletonList(otherDataNode));
+        return result;
+    }
+    
+    private TableContainedRule mockTableContainedRule() {
+        TableContainedRule result = mock(TableContainedRule.class);
+        when(result.getType()).thenReturn("TableContainedRule");
+        when(result.getTables()).thenReturn(Collections.singleton("t_encrypt"));
+        when(result.getConfiguration()).thenReturn(mock(RuleConfiguration.class));
+        return result;
+    }
+}
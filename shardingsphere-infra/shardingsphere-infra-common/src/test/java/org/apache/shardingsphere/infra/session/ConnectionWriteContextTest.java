@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.session;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class ConnectionWriteContextTest {
+    
+    @Test
+    public void assertCommitPendingWrites() {
+        ConnectionWriteContext writeContext = new ConnectionWriteContext();
+        writeContext.addPendingWrite("foo_ds");
+        assertFalse(writeContext.findLastWriteNanoTime("foo_ds").isPresent());
+        writeContext.commitPendingWrites();
+        assertTrue(writeContext.findLastWriteNanoTime("foo_ds").isPresent());
+        assertFalse(writeContext.findLastWriteNanoTime("bar_ds").isPresent());
+    }
+    
+    @Test
+    public void assertClearPendingWrites() {
+        ConnectionWriteContext writeContext = new ConnectionWriteContext();
+        writeContext.addPendingWrite("foo_ds");
+        writeContext.clearPendingWrites();
+        writeContext.commitPendingWrites();
+        assertFalse(writeContext.findLastWriteNanoTime("foo_ds").isPresent());
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * Route engine and rewrite entry built for a database.
+ * 
+ * <p>
+ * Engines are reusable until database, global rule meta data or props are replaced, or rules of database are changed in place.
+ * </p>
+ */
+final class KernelEngines {
+    
+    private final ShardingSphereDatabase database;
+    
+    private final ShardingSphereRuleMetaData globalRuleMetaData;
+    
+    private final ConfigurationProperties props;
+    
+    private final Collection<ShardingSphereRule> rules;
+    
+    @Getter
+    private final SQLRouteEngine routeEngine;
+    
+    @Getter
+    private final SQLRewriteEntry rewriteEntry;
+    
+    KernelEngines(final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+        this.database = database;
+        this.globalRuleMetaData = globalRuleMetaData;
+        this.props = props;
+        rules = new ArrayList<>(database.getRuleMetaData().getRules());
+        routeEngine = new SQLRouteEngine(database.getRuleMetaData().getRules(), props);
+        rewriteEntry = new SQLRewriteEntry(database, globalRuleMetaData, props);
+    }
+    
+    boolean isReusable(final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+        return this.database == database && this.globalRuleMetaData == globalRuleMetaData && this.props == props && isSameRules(database.getRuleMetaData().getRules());
+    }
+    
+    private boolean isSameRules(final Collection<ShardingSphereRule> currentRules) {
+        if (rules.size() != currentRules.size()) {
+            return false;
+        }
+        Iterator<ShardingSphereRule> iterator = rules.iterator();
+        for (ShardingSphereRule each : currentRules) {
+            if (iterator.next() != each) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
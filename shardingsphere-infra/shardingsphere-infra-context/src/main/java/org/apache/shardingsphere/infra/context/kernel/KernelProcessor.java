@@ -28,13 +28,18 @@ import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRule
 import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
-import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
 
 /**
  * Kernel processor.
+ * 
+ * <p>
+ * Route engine and rewrite entry are reused across executions of same kernel processor, SQL is still routed and rewritten for each execution.
+ * </p>
  */
 public final class KernelProcessor {
     
+    private volatile KernelEngines cachedEngines;
+    
     /**
      * Generate execution context.
      *
@@ -46,20 +51,24 @@ public final class KernelProcessor {
      */
     public ExecutionContext generateExecutionContext(final LogicSQL logicSQL,
                                                      final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
-        RouteContext routeContext = route(logicSQL, database, props);
-        SQLRewriteResult rewriteResult = rewrite(logicSQL, database, globalRuleMetaData, props, routeContext);
+        KernelEngines engines = getEngines(database, globalRuleMetaData, props);
+        RouteContext routeContext = engines.getRouteEngine().route(logicSQL, database);
+        SQLRewriteResult rewriteResult = rewrite(logicSQL, engines.getRewriteEntry(), routeContext);
         ExecutionContext result = createExecutionContext(logicSQL, database, routeContext, rewriteResult);
         logSQL(logicSQL, props, result);
         return result;
     }
     
-    private RouteContext route(final LogicSQL logicSQL, final ShardingSphereDatabase database, final ConfigurationProperties props) {
-        return new SQLRouteEngine(database.getRuleMetaData().getRules(), props).route(logicSQL, database);
+    private KernelEngines getEngines(final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+        KernelEngines result = cachedEngines;
+        if (null == result || !result.isReusable(database, globalRuleMetaData, props)) {
+            result = new KernelEngines(database, globalRuleMetaData, props);
+            cachedEngines = result;
+        }
+        return result;
     }
     
-    private SQLRewriteResult rewrite(final LogicSQL logicSQL, final ShardingSphereDatabase database,
-                                     final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props, final RouteContext routeContext) {
-        SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(database, globalRuleMetaData, props);
+    private SQLRewriteResult rewrite(final LogicSQL logicSQL, final SQLRewriteEntry sqlRewriteEntry, final RouteContext routeContext) {
         return sqlRewriteEntry.rewrite(logicSQL.getSql(), logicSQL.getParameters(), logicSQL.getSqlStatementContext(), routeContext);
     }
     
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ShardingSphereResource;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+
+public final class KernelEnginesTest {
+    
+    private final ShardingSphereRuleMetaData globalRuleMetaData = new ShardingSphereRuleMetaData(Collections.singleton(mock(SQLTranslatorRule.class)));
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
+    
+    @Test
+    public void assertIsReusable() {
+        ShardingSphereDatabase database = createDatabase(Collections.emptyList());
+        assertTrue(new KernelEngines(database, globalRuleMetaData, props).isReusable(database, globalRuleMetaData, props));
+    }
+    
+    @Test
+    public void assertIsNotReusableWithOtherDatabase() {
+        KernelEngines engines = new KernelEngines(createDatabase(Collections.emptyList()), globalRuleMetaData, props);
+        assertFalse(engines.isReusable(createDatabase(Collections.emptyList()), globalRuleMetaData, props));
+    }
+    
+    @Test
+    public void assertIsNotReusableWithOtherProps() {
+        ShardingSphereDatabase database = createDatabase(Collections.emptyList());
+        assertFalse(new KernelEngines(database, globalRuleMetaData, props).isReusable(database, globalRuleMetaData, new ConfigurationProperties(new Properties())));
+    }
+    
+    @Test
+    public void assertIsNotReusableWithRulesChangedInPlace() {
+        ShardingSphereDatabase database = createDatabase(Collections.singleton(mock(ShardingSphereRule.class)));
+        KernelEngines engines = new KernelEngines(database, globalRuleMetaData, props);
+        database.getRuleMetaData().getRules().clear();
+        database.getRuleMetaData().getRules().add(mock(ShardingSphereRule.class));
+        assertFalse(engines.isReusable(database, globalRuleMetaData, props));
+    }
+    
+    private ShardingSphereDatabase createDatabase(final Collection<ShardingSphereRule> rules) {
+        return new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME, mock(DatabaseType.class),
+                mock(ShardingSphereResource.class, RETURNS_DEEP_STUBS), new ShardingSphereRuleMetaData(rules), Collections.emptyMap());
+    }
+}
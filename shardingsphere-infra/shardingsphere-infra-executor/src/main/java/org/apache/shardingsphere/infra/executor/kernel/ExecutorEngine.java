@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupConte
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadType;
 
 import java.sql.SQLException;
 import java.util.Collection;
@@ -49,6 +50,10 @@ public final class ExecutorEngine implements AutoCloseable {
         executorServiceManager = new ExecutorServiceManager(executorSize);
     }
     
+    private ExecutorEngine(final int executorSize, final ExecutorThreadType threadType) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, threadType);
+    }
+    
     /**
      * Create executor engine with executor size.
      *
@@ -59,6 +64,17 @@ public final class ExecutorEngine implements AutoCloseable {
         return new ExecutorEngine(executorSize);
     }
     
+    /**
+     * Create executor engine with executor size and thread type.
+     *
+     * @param executorSize executor size, ignored if virtual thread is used
+     * @param threadType executor thread type
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngineWithSizeAndType(final int executorSize, final ExecutorThreadType threadType) {
+        return new ExecutorEngine(executorSize, threadType);
+    }
+    
     /**
      * Create executor engine with CPU and resources.
      * 
@@ -18,7 +18,9 @@
 package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -28,6 +30,7 @@ import java.util.concurrent.TimeUnit;
  * Executor service manager.
  */
 @Getter
+@Slf4j
 public final class ExecutorServiceManager {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
@@ -40,8 +43,25 @@ public final class ExecutorServiceManager {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
+    public ExecutorServiceManager(final int executorSize, final ExecutorThreadType threadType) {
+        this(executorSize, DEFAULT_NAME_FORMAT, threadType);
+    }
+    
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = getExecutorService(executorSize, nameFormat);
+        this(executorSize, nameFormat, ExecutorThreadType.PLATFORM);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final ExecutorThreadType threadType) {
+        executorService = ExecutorThreadType.VIRTUAL == threadType ? getVirtualThreadExecutorService(executorSize, nameFormat) : getExecutorService(executorSize, nameFormat);
+    }
+    
+    private ExecutorService getVirtualThreadExecutorService(final int executorSize, final String nameFormat) {
+        Optional<ExecutorService> result = VirtualThreadExecutorFactory.newExecutorService(nameFormat);
+        if (result.isPresent()) {
+            return result.get();
+        }
+        log.warn("Virtual thread is not supported by current JDK, use platform thread instead.");
+        return getExecutorService(executorSize, nameFormat);
     }
     
     private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
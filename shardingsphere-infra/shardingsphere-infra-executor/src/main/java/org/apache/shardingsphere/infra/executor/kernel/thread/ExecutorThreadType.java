@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+/**
+ * Executor thread type.
+ */
+public enum ExecutorThreadType {
+    
+    PLATFORM, VIRTUAL;
+    
+    /**
+     * Get executor thread type from property value.
+     *
+     * @param value property value, case insensitive
+     * @return executor thread type, PLATFORM if value is absent
+     * @throws IllegalArgumentException if value is not PLATFORM or VIRTUAL
+     */
+    public static ExecutorThreadType valueFrom(final String value) {
+        if (null == value || value.isEmpty()) {
+            return PLATFORM;
+        }
+        for (ExecutorThreadType each : values()) {
+            if (each.name().equalsIgnoreCase(value)) {
+                return each;
+            }
+        }
+        throw new IllegalArgumentException("The property kernel-executor-type must be 'PLATFORM' or 'VIRTUAL'");
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual thread executor factory.
+ *
+ * <p>
+ * Virtual threads are looked up by reflection, so the code still runs on JDKs without virtual thread support.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VirtualThreadExecutorFactory {
+    
+    private static final String NAME_FORMAT_PREFIX = "ShardingSphere-";
+    
+    private static final Method OF_VIRTUAL_METHOD;
+    
+    private static final Method NAME_METHOD;
+    
+    private static final Method FACTORY_METHOD;
+    
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR_METHOD;
+    
+    static {
+        Method ofVirtualMethod;
+        Method nameMethod;
+        Method factoryMethod;
+        Method newThreadPerTaskExecutorMethod;
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+            nameMethod = builderClass.getMethod("name", String.class, long.class);
+            factoryMethod = builderClass.getMethod("factory");
+            newThreadPerTaskExecutorMethod = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (final ClassNotFoundException | NoSuchMethodException ignored) {
+            ofVirtualMethod = null;
+            nameMethod = null;
+            factoryMethod = null;
+            newThreadPerTaskExecutorMethod = null;
+        }
+        OF_VIRTUAL_METHOD = ofVirtualMethod;
+        NAME_METHOD = nameMethod;
+        FACTORY_METHOD = factoryMethod;
+        NEW_THREAD_PER_TASK_EXECUTOR_METHOD = newThreadPerTaskExecutorMethod;
+    }
+    
+    /**
+     * Judge whether virtual thread is supported by current JDK.
+     *
+     * @return virtual thread is supported or not
+     */
+    public static boolean isSupported() {
+        return null != OF_VIRTUAL_METHOD;
+    }
+    
+    /**
+     * Create executor service which starts a new virtual thread for each task.
+     *
+     * @param nameFormat thread name format, such as {@code Command-%d}
+     * @return created executor service, empty if virtual thread is not supported
+     */
+    public static Optional<ExecutorService> newExecutorService(final String nameFormat) {
+        if (!isSupported()) {
+            return Optional.empty();
+        }
+        try {
+            Object builder = NAME_METHOD.invoke(OF_VIRTUAL_METHOD.invoke(null), NAME_FORMAT_PREFIX + nameFormat.replace("%d", ""), 0L);
+            ThreadFactory threadFactory = (ThreadFactory) FACTORY_METHOD.invoke(builder);
+            return Optional.of((ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR_METHOD.invoke(null, threadFactory));
+        } catch (final IllegalAccessException | InvocationTargetException ignored) {
+            return Optional.empty();
+        }
+    }
+}
@@ -100,6 +100,7 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
             if (!databaseType.equals(protocolType)) {
                 Optional<T> saneResult = getSaneResult(sqlStatement, ex);
                 if (saneResult.isPresent()) {
+                    sqlExecutionHook.finishFailure(ex);
                     return isTrunkThread ? saneResult.get() : null;
                 }
             }
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader.DialectJDBCRowsLoaderFactory;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader.JDBCRowsLoader;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.stream.AbstractStreamQueryResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * JDBC query result for stream loading with read-ahead.
+ * 
+ * <p>
+ * Rows are fetched from JDBC result set by a background task into a bounded buffer, so that network latency of different data nodes can overlap during stream merging.
+ * The result set is still held until all rows are consumed or the query result is closed, at most {@code bufferSize} rows are kept in memory for each query result.
+ * Closing the query result stops the background task and waits for it before closing the result set, so that the result set is never accessed concurrently.
+ * </p>
+ */
+public final class JDBCPrefetchStreamQueryResult extends AbstractStreamQueryResult {
+    
+    private static final MemoryQueryResultDataRow END_OF_ROWS = new MemoryQueryResultDataRow(Collections.emptyList());
+    
+    private static final long OFFER_TIMEOUT_MILLISECONDS = 100L;
+    
+    private final ResultSet resultSet;
+    
+    private final BlockingQueue<MemoryQueryResultDataRow> rows;
+    
+    private volatile boolean closed;
+    
+    private final AtomicBoolean producerStarted = new AtomicBoolean();
+    
+    private final CountDownLatch producerFinished = new CountDownLatch(1);
+    
+    private volatile Throwable prefetchFailure;
+    
+    private MemoryQueryResultDataRow currentRow;
+    
+    private boolean exhausted;
+    
+    private boolean wasNull;
+    
+    public JDBCPrefetchStreamQueryResult(final ResultSet resultSet, final DatabaseType databaseType, final ExecutorService executorService, final int bufferSize) throws SQLException {
+        super(new JDBCQueryResultMetaData(resultSet.getMetaData()));
+        this.resultSet = resultSet;
+        rows = new ArrayBlockingQueue<>(bufferSize);
+        JDBCRowsLoader rowsLoader = DialectJDBCRowsLoaderFactory.getInstance(databaseType);
+        int columnCount = resultSet.getMetaData().getColumnCount();
+        executorService.execute(() -> prefetch(rowsLoader, columnCount));
+    }
+    
+    private void prefetch(final JDBCRowsLoader rowsLoader, final int columnCount) {
+        if (!producerStarted.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            while (!closed && resultSet.next()) {
+                if (!offer(rowsLoader.loadRow(columnCount, resultSet))) {
+                    return;
+                }
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Throwable ex) {
+            // CHECKSTYLE:ON
+            prefetchFailure = ex;
+        } finally {
+            offer(END_OF_ROWS);
+            producerFinished.countDown();
+        }
+    }
+    
+    private boolean offer(final MemoryQueryResultDataRow row) {
+        try {
+            while (!closed) {
+                if (rows.offer(row, OFFER_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+                // The result set may be closed by its owner without closing this query result, stop prefetching to release the thread.
+                if (resultSet.isClosed()) {
+                    return false;
+                }
+            }
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        } catch (final SQLException ignored) {
+        }
+        return false;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (exhausted) {
+            return false;
+        }
+        MemoryQueryResultDataRow row = take();
+        if (END_OF_ROWS == row) {
+            exhausted = true;
+            currentRow = null;
+            if (null != prefetchFailure) {
+                throw prefetchFailure instanceof SQLException ? (SQLException) prefetchFailure : new SQLException(prefetchFailure);
+            }
+            return false;
+        }
+        currentRow = row;
+        return true;
+    }
+    
+    private MemoryQueryResultDataRow take() throws SQLException {
+        try {
+            return rows.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = currentRow.getValue().get(columnIndex - 1);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getValue(columnIndex, type);
+    }
+    
+    @SneakyThrows(IOException.class)
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+        objectOutputStream.writeObject(getValue(columnIndex, Object.class));
+        objectOutputStream.flush();
+        objectOutputStream.close();
+        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        closed = true;
+        rows.clear();
+        awaitProducerFinished();
+        rows.clear();
+        resultSet.close();
+    }
+    
+    private void awaitProducerFinished() throws SQLException {
+        // The producer is stopped by the closed flag rather than interruption, interrupting a thread inside JDBC driver may break the connection.
+        if (producerStarted.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            producerFinished.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+    }
+}
@@ -48,6 +48,9 @@ public final class ExecuteProcessEngine {
      */
     public static void initialize(final LogicSQL logicSQL, final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext, final EventBusContext eventBusContext) {
         SQLStatementContext<?> context = logicSQL.getSqlStatementContext();
+        if (null != executionGroupContext.getDatabaseName()) {
+            ExecutorDataMap.getValue().put(ExecuteProcessConstants.EXECUTE_DATABASE_NAME.name(), executionGroupContext.getDatabaseName());
+        }
         Optional<ExecuteProcessReporter> reporter = ExecuteProcessReporterFactory.getInstance();
         if (reporter.isPresent() && (context.getSqlStatement() instanceof DDLStatement || context.getSqlStatement() instanceof DMLStatement)) {
             ExecutorDataMap.getValue().put(ExecuteProcessConstants.EXECUTE_ID.name(), executionGroupContext.getExecutionID());
@@ -64,6 +67,7 @@ public final class ExecuteProcessEngine {
             reporter.get().reportClean(ExecutorDataMap.getValue().get(ExecuteProcessConstants.EXECUTE_ID.name()).toString());
         }
         ExecutorDataMap.getValue().remove(ExecuteProcessConstants.EXECUTE_ID.name());
+        ExecutorDataMap.getValue().remove(ExecuteProcessConstants.EXECUTE_DATABASE_NAME.name());
     }
     
     /**
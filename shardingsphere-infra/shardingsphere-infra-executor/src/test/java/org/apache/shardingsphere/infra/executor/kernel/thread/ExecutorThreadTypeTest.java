@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ExecutorThreadTypeTest {
+    
+    @Test
+    public void assertValueFromWithAbsentValue() {
+        assertThat(ExecutorThreadType.valueFrom(null), is(ExecutorThreadType.PLATFORM));
+        assertThat(ExecutorThreadType.valueFrom(""), is(ExecutorThreadType.PLATFORM));
+    }
+    
+    @Test
+    public void assertValueFromIgnoreCase() {
+        assertThat(ExecutorThreadType.valueFrom("platform"), is(ExecutorThreadType.PLATFORM));
+        assertThat(ExecutorThreadType.valueFrom("Virtual"), is(ExecutorThreadType.VIRTUAL));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertValueFromWithInvalidValue() {
+        ExecutorThreadType.valueFrom("invalid");
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream;
+
+import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class JDBCPrefetchStreamQueryResultTest {
+    
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    public void assertNextWithBufferSmallerThanRows() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getInt(1)).thenReturn(1, 2, 3);
+        JDBCPrefetchStreamQueryResult actual = new JDBCPrefetchStreamQueryResult(resultSet, new H2DatabaseType(), executorService, 1);
+        for (int i = 1; i <= 3; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, int.class), is(i));
+            assertFalse(actual.wasNull());
+        }
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetNullValue() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.wasNull()).thenReturn(true);
+        JDBCPrefetchStreamQueryResult actual = new JDBCPrefetchStreamQueryResult(resultSet, new H2DatabaseType(), executorService, 8);
+        assertTrue(actual.next());
+        assertNull(actual.getValue(1, int.class));
+        assertTrue(actual.wasNull());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNextWithPrefetchException() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.next()).thenReturn(true).thenThrow(new SQLException("fetch failed"));
+        when(resultSet.getInt(1)).thenReturn(1);
+        JDBCPrefetchStreamQueryResult actual = new JDBCPrefetchStreamQueryResult(resultSet, new H2DatabaseType(), executorService, 8);
+        assertTrue(actual.next());
+        actual.next();
+    }
+    
+    @Test
+    public void assertNextWithPrefetchRuntimeException() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        IllegalStateException cause = new IllegalStateException("load failed");
+        when(resultSet.next()).thenThrow(cause);
+        JDBCPrefetchStreamQueryResult actual = new JDBCPrefetchStreamQueryResult(resultSet, new H2DatabaseType(), executorService, 8);
+        try {
+            actual.next();
+            fail("Expected SQLException.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getCause(), is((Throwable) cause));
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertCloseWaitsForRunningProducer() throws SQLException, InterruptedException {
+        ResultSet resultSet = mockResultSet();
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        AtomicBoolean fetching = new AtomicBoolean();
+        AtomicBoolean closedWhileFetching = new AtomicBoolean();
+        when(resultSet.next()).thenAnswer(invocation -> {
+            fetching.set(true);
+            fetchStarted.countDown();
+            Thread.sleep(200L);
+            fetching.set(false);
+            return true;
+        });
+        doAnswer(invocation -> {
+            closedWhileFetching.set(fetching.get());
+            return null;
+        }).when(resultSet).close();
+        JDBCPrefetchStreamQueryResult actual = new JDBCPrefetchStreamQueryResult(resultSet, new H2DatabaseType(), executorService, 1);
+        fetchStarted.await();
+        actual.close();
+        verify(resultSet).close();
+        assertFalse(closedWhileFetching.get());
+    }
+    
+    @Test
+    public void assertCloseBeforeProducerStarted() throws SQLException {
+        CountDownLatch blocker = new CountDownLatch(1);
+        executorService.execute(() -> {
+            try {
+                blocker.await();
+            } catch (final InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        ResultSet resultSet = mockResultSet();
+        JDBCPrefetchStreamQueryResult actual = new JDBCPrefetchStreamQueryResult(resultSet, new H2DatabaseType(), executorService, 1);
+        actual.close();
+        verify(resultSet).close();
+        verify(resultSet, never()).next();
+        blocker.countDown();
+    }
+    
+    @Test
+    public void assertClose() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.next()).thenReturn(true);
+        JDBCPrefetchStreamQueryResult actual = new JDBCPrefetchStreamQueryResult(resultSet, new H2DatabaseType(), executorService, 1);
+        actual.close();
+        verify(resultSet).close();
+    }
+    
+    private ResultSet mockResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(1);
+        when(result.getMetaData().getColumnType(1)).thenReturn(Types.INTEGER);
+        when(result.getMetaData().isSigned(1)).thenReturn(true);
+        return result;
+    }
+}
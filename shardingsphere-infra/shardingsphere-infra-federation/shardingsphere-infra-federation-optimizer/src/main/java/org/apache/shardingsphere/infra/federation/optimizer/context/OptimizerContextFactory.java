@@ -23,12 +23,15 @@ import org.apache.shardingsphere.infra.federation.optimizer.context.parser.Optim
 import org.apache.shardingsphere.infra.federation.optimizer.context.parser.OptimizerParserContextFactory;
 import org.apache.shardingsphere.infra.federation.optimizer.context.planner.OptimizerPlannerContext;
 import org.apache.shardingsphere.infra.federation.optimizer.context.planner.OptimizerPlannerContextFactory;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationDatabaseMetaData;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Optimizer context factory.
@@ -50,4 +53,26 @@ public final class OptimizerContextFactory {
         SQLParserRule sqlParserRule = globalRuleMetaData.getSingleRule(SQLParserRule.class);
         return new OptimizerContext(sqlParserRule, federationMetaData, parserContexts, plannerContexts);
     }
+    
+    /**
+     * Create optimize context with altered database, contexts of other databases are carried forward from original optimizer context.
+     *
+     * @param originalOptimizerContext original optimizer context
+     * @param alteredDatabase altered database
+     * @param globalRuleMetaData global rule meta data
+     * @return created optimizer context
+     */
+    public static OptimizerContext create(final OptimizerContext originalOptimizerContext, final ShardingSphereDatabase alteredDatabase, final ShardingSphereRuleMetaData globalRuleMetaData) {
+        String databaseName = alteredDatabase.getName().toLowerCase();
+        FederationMetaData federationMetaData = new FederationMetaData(Collections.emptyMap());
+        federationMetaData.getDatabases().putAll(originalOptimizerContext.getFederationMetaData().getDatabases());
+        FederationDatabaseMetaData alteredFederationDatabaseMetaData = new FederationDatabaseMetaData(alteredDatabase.getName(), alteredDatabase.getSchemas());
+        federationMetaData.getDatabases().put(databaseName, alteredFederationDatabaseMetaData);
+        Map<String, OptimizerParserContext> parserContexts = new ConcurrentHashMap<>(originalOptimizerContext.getParserContexts());
+        parserContexts.computeIfAbsent(databaseName, key -> OptimizerParserContextFactory.create(alteredDatabase.getProtocolType()));
+        Map<String, OptimizerPlannerContext> plannerContexts = new ConcurrentHashMap<>(originalOptimizerContext.getPlannerContexts());
+        plannerContexts.put(databaseName, OptimizerPlannerContextFactory.create(alteredFederationDatabaseMetaData));
+        SQLParserRule sqlParserRule = globalRuleMetaData.getSingleRule(SQLParserRule.class);
+        return new OptimizerContext(sqlParserRule, federationMetaData, parserContexts, plannerContexts);
+    }
 }
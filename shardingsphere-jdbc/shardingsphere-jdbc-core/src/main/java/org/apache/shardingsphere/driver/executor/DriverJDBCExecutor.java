@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.driver.executor;
 
 import org.apache.shardingsphere.driver.executor.callback.ExecuteQueryCallback;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.context.refresher.MetaDataRefreshEngine;
@@ -45,6 +46,8 @@ import java.util.Optional;
  */
 public final class DriverJDBCExecutor {
     
+    private final ShardingSphereConnection connection;
+    
     private final String databaseName;
     
     private final MetaDataContexts metaDataContexts;
@@ -57,9 +60,10 @@ public final class DriverJDBCExecutor {
     
     private final EventBusContext eventBusContext;
     
-    public DriverJDBCExecutor(final String databaseName, final ContextManager contextManager, final JDBCExecutor jdbcExecutor) {
-        this.databaseName = databaseName;
-        this.contextManager = contextManager;
+    public DriverJDBCExecutor(final ShardingSphereConnection connection, final JDBCExecutor jdbcExecutor) {
+        this.connection = connection;
+        databaseName = connection.getDatabaseName();
+        contextManager = connection.getContextManager();
         this.jdbcExecutor = jdbcExecutor;
         metaDataContexts = contextManager.getMetaDataContexts();
         eventBusContext = contextManager.getInstanceContext().getEventBusContext();
@@ -80,6 +84,7 @@ public final class DriverJDBCExecutor {
     public List<QueryResult> executeQuery(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
                                           final LogicSQL logicSQL, final ExecuteQueryCallback callback) throws SQLException {
         try {
+            executionGroupContext.setDatabaseName(databaseName);
             ExecuteProcessEngine.initialize(logicSQL, executionGroupContext, eventBusContext);
             List<QueryResult> result = jdbcExecutor.execute(executionGroupContext, callback);
             ExecuteProcessEngine.finish(executionGroupContext.getExecutionID(), eventBusContext);
@@ -102,6 +107,7 @@ public final class DriverJDBCExecutor {
     public int executeUpdate(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
                              final LogicSQL logicSQL, final Collection<RouteUnit> routeUnits, final JDBCExecutorCallback<Integer> callback) throws SQLException {
         try {
+            executionGroupContext.setDatabaseName(databaseName);
             ExecuteProcessEngine.initialize(logicSQL, executionGroupContext, eventBusContext);
             SQLStatementContext<?> sqlStatementContext = logicSQL.getSqlStatementContext();
             List<Integer> results = doExecute(executionGroupContext, sqlStatementContext, routeUnits, callback);
@@ -143,6 +149,7 @@ public final class DriverJDBCExecutor {
     public boolean execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final LogicSQL logicSQL,
                            final Collection<RouteUnit> routeUnits, final JDBCExecutorCallback<Boolean> callback) throws SQLException {
         try {
+            executionGroupContext.setDatabaseName(databaseName);
             ExecuteProcessEngine.initialize(logicSQL, executionGroupContext, eventBusContext);
             List<Boolean> results = doExecute(executionGroupContext, logicSQL.getSqlStatementContext(), routeUnits, callback);
             boolean result = null != results && !results.isEmpty() && null != results.get(0) && results.get(0);
@@ -155,7 +162,18 @@ public final class DriverJDBCExecutor {
     
     private <T> List<T> doExecute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final SQLStatementContext<?> sqlStatementContext, final Collection<RouteUnit> routeUnits,
                                   final JDBCExecutorCallback<T> callback) throws SQLException {
-        List<T> results = jdbcExecutor.execute(executionGroupContext, callback);
+        boolean autoCommit = !connection.isHoldTransaction();
+        List<T> results;
+        try {
+            results = jdbcExecutor.execute(executionGroupContext, callback);
+            if (autoCommit) {
+                connection.getConnectionWriteContext().commitPendingWrites();
+            }
+        } finally {
+            if (autoCommit) {
+                connection.getConnectionWriteContext().clearPendingWrites();
+            }
+        }
         refreshMetaData(sqlStatementContext, routeUnits);
         return results;
     }
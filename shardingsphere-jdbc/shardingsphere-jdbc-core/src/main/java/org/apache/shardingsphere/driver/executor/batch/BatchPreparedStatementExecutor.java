@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.driver.executor.batch;
 
 import lombok.Getter;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
@@ -49,6 +50,8 @@ import java.util.Optional;
  */
 public final class BatchPreparedStatementExecutor {
     
+    private final ShardingSphereConnection connection;
+    
     private final MetaDataContexts metaDataContexts;
     
     private final JDBCExecutor jdbcExecutor;
@@ -64,8 +67,9 @@ public final class BatchPreparedStatementExecutor {
     
     private final EventBusContext eventBusContext;
     
-    public BatchPreparedStatementExecutor(final MetaDataContexts metaDataContexts, final JDBCExecutor jdbcExecutor, final String databaseName, final EventBusContext eventBusContext) {
-        this.databaseName = databaseName;
+    public BatchPreparedStatementExecutor(final ShardingSphereConnection connection, final MetaDataContexts metaDataContexts, final JDBCExecutor jdbcExecutor, final EventBusContext eventBusContext) {
+        this.connection = connection;
+        databaseName = connection.getDatabaseName();
         this.metaDataContexts = metaDataContexts;
         this.jdbcExecutor = jdbcExecutor;
         this.eventBusContext = eventBusContext;
@@ -151,13 +155,28 @@ public final class BatchPreparedStatementExecutor {
                 return Optional.empty();
             }
         };
-        List<int[]> results = jdbcExecutor.execute(executionGroupContext, callback);
+        List<int[]> results = doExecute(callback);
         if (results.isEmpty()) {
             return new int[0];
         }
         return isNeedAccumulate(sqlStatementContext) ? accumulate(results) : results.get(0);
     }
     
+    private List<int[]> doExecute(final JDBCExecutorCallback<int[]> callback) throws SQLException {
+        boolean autoCommit = !connection.isHoldTransaction();
+        try {
+            List<int[]> result = jdbcExecutor.execute(executionGroupContext, callback);
+            if (autoCommit) {
+                connection.getConnectionWriteContext().commitPendingWrites();
+            }
+            return result;
+        } finally {
+            if (autoCommit) {
+                connection.getConnectionWriteContext().clearPendingWrites();
+            }
+        }
+    }
+    
     private boolean isNeedAccumulate(final SQLStatementContext<?> sqlStatementContext) {
         for (ShardingSphereRule each : metaDataContexts.getMetaData().getDatabase(databaseName).getRuleMetaData().getRules()) {
             if (each instanceof DataNodeContainedRule && ((DataNodeContainedRule) each).isNeedAccumulate(sqlStatementContext.getTablesContext().getTableNames())) {
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.driver.executor.batch;
+
+import com.google.common.collect.Lists;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Batch of single-values INSERT statement, whose rows are routed and rewritten as multi-values INSERT statements instead of one by one.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MultiValuesInsertBatch {
+    
+    private static final String VALUES_SEPARATOR = ", ";
+    
+    private final String sql;
+    
+    private final InsertValuesSegment valuesSegment;
+    
+    private final int maxValuesSize;
+    
+    private final int maxParametersSize;
+    
+    private final List<List<Object>> rowParameterSets = new ArrayList<>();
+    
+    private final List<Integer> statementValuesSizes = new ArrayList<>();
+    
+    /**
+     * Create multi-values INSERT batch.
+     *
+     * <p>Only single-values INSERT statement whose parameters are all in its values can be batched, INSERT SELECT and ON DUPLICATE KEY UPDATE are not supported.</p>
+     *
+     * @param sql single-values INSERT statement
+     * @param sqlStatementContext SQL statement context
+     * @param maxValuesSize max values size of each multi-values INSERT statement
+     * @param maxParametersSize max parameters size of each statement
+     * @return multi-values INSERT batch
+     */
+    public static Optional<MultiValuesInsertBatch> create(final String sql, final SQLStatementContext<?> sqlStatementContext, final int maxValuesSize, final int maxParametersSize) {
+        if (maxValuesSize < 2 || maxParametersSize < 1 || !(sqlStatementContext instanceof InsertStatementContext)) {
+            return Optional.empty();
+        }
+        InsertStatementContext insertStatementContext = (InsertStatementContext) sqlStatementContext;
+        if (null != insertStatementContext.getInsertSelectContext() || null != insertStatementContext.getOnDuplicateKeyUpdateValueContext()
+                || 1 != insertStatementContext.getValueListCount() || 1 != insertStatementContext.getSqlStatement().getValues().size()) {
+            return Optional.empty();
+        }
+        InsertValuesSegment valuesSegment = insertStatementContext.getSqlStatement().getValues().iterator().next();
+        if (insertStatementContext.getInsertValueContexts().get(0).getParameterCount() != insertStatementContext.getSqlStatement().getParameterCount()) {
+            return Optional.empty();
+        }
+        return Optional.of(new MultiValuesInsertBatch(sql, valuesSegment, maxValuesSize, maxParametersSize));
+    }
+    
+    /**
+     * Add row.
+     *
+     * @param parameters parameters of row
+     */
+    public void addRow(final List<Object> parameters) {
+        rowParameterSets.add(parameters);
+    }
+    
+    /**
+     * Get parameter sets of rows grouped by multi-values INSERT statements.
+     *
+     * <p>Values size of each statement is reduced so that parameters of the single-values INSERT statements do not exceed max parameters size.</p>
+     *
+     * @return parameter sets of rows grouped by statements
+     */
+    public List<List<List<Object>>> getGroupedRowParameterSets() {
+        if (rowParameterSets.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int parametersSize = rowParameterSets.get(0).size();
+        return Lists.partition(rowParameterSets, 0 == parametersSize ? maxValuesSize : Math.max(1, Math.min(maxValuesSize, maxParametersSize / parametersSize)));
+    }
+    
+    /**
+     * Get multi-values INSERT statement.
+     *
+     * @param valuesSize values size
+     * @return multi-values INSERT statement
+     */
+    public String getSQL(final int valuesSize) {
+        String values = sql.substring(valuesSegment.getStartIndex(), valuesSegment.getStopIndex() + 1);
+        StringBuilder result = new StringBuilder(sql.length() + (values.length() + VALUES_SEPARATOR.length()) * (valuesSize - 1)).append(sql, 0, valuesSegment.getStopIndex() + 1);
+        for (int i = 1; i < valuesSize; i++) {
+            result.append(VALUES_SEPARATOR).append(values);
+        }
+        return result.append(sql.substring(valuesSegment.getStopIndex() + 1)).toString();
+    }
+    
+    /**
+     * Get parameters of multi-values INSERT statement.
+     *
+     * @param rowParameterSets parameter sets of rows
+     * @return parameters
+     */
+    public static List<Object> getParameters(final List<List<Object>> rowParameterSets) {
+        List<Object> result = new ArrayList<>(rowParameterSets.isEmpty() ? 0 : rowParameterSets.get(0).size() * rowParameterSets.size());
+        rowParameterSets.forEach(result::addAll);
+        return result;
+    }
+    
+    /**
+     * Judge whether parameters of any execution unit exceed max parameters size.
+     *
+     * @param executionUnits execution units
+     * @return parameters exceed max parameters size or not
+     */
+    public boolean isParametersSizeExceeded(final Collection<ExecutionUnit> executionUnits) {
+        return executionUnits.stream().anyMatch(each -> each.getSqlUnit().getParameters().size() > maxParametersSize);
+    }
+    
+    /**
+     * Add values size of multi-values INSERT statement, in the order of add batch.
+     *
+     * @param valuesSize values size
+     */
+    public void addStatementValuesSize(final int valuesSize) {
+        statementValuesSizes.add(valuesSize);
+    }
+    
+    /**
+     * Get update counts of rows by update counts of multi-values INSERT statements.
+     *
+     * <p>Each row is counted as 1 if update count of its statement equals values size, otherwise update count of statement is unknown for a single row.</p>
+     *
+     * @param statementUpdateCounts update counts of multi-values INSERT statements
+     * @return update counts of rows
+     */
+    public int[] getRowUpdateCounts(final int[] statementUpdateCounts) {
+        int[] result = new int[rowParameterSets.size()];
+        int rowIndex = 0;
+        for (int i = 0; i < Math.min(statementUpdateCounts.length, statementValuesSizes.size()); i++) {
+            int valuesSize = statementValuesSizes.get(i);
+            int rowUpdateCount = valuesSize == statementUpdateCounts[i] ? 1 : Math.min(statementUpdateCounts[i], Statement.SUCCESS_NO_INFO);
+            for (int j = rowIndex; j < rowIndex + valuesSize; j++) {
+                result[j] = rowUpdateCount;
+            }
+            rowIndex += valuesSize;
+        }
+        return result;
+    }
+    
+    /**
+     * Clear.
+     */
+    public void clear() {
+        rowParameterSets.clear();
+        statementValuesSizes.clear();
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.driver.jdbc.context.JDBCContext;
 import org.apache.shardingsphere.driver.jdbc.core.datasource.metadata.ShardingSphereDatabaseMetaData;
 import org.apache.shardingsphere.driver.jdbc.core.statement.ShardingSpherePreparedStatement;
 import org.apache.shardingsphere.driver.jdbc.core.statement.ShardingSphereStatement;
+import org.apache.shardingsphere.infra.session.ConnectionWriteContext;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.sharding.merge.ddl.fetch.FetchOrderByValueGroupsHolder;
 import org.apache.shardingsphere.traffic.context.TrafficContextHolder;
@@ -52,6 +53,9 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
     @Getter
     private final ConnectionManager connectionManager;
     
+    @Getter
+    private final ConnectionWriteContext connectionWriteContext = new ConnectionWriteContext();
+    
     private boolean autoCommit = true;
     
     private int transactionIsolation = TRANSACTION_READ_UNCOMMITTED;
@@ -167,7 +171,11 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
     public void commit() throws SQLException {
         try {
             connectionManager.commit();
+            if (!connectionManager.getConnectionTransaction().isRollbackOnly()) {
+                connectionWriteContext.commitPendingWrites();
+            }
         } finally {
+            connectionWriteContext.clearPendingWrites();
             connectionManager.getConnectionTransaction().setRollbackOnly(false);
             TransactionHolder.clear();
             TrafficContextHolder.remove();
@@ -180,6 +188,7 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
         try {
             connectionManager.rollback();
         } finally {
+            connectionWriteContext.clearPendingWrites();
             connectionManager.getConnectionTransaction().setRollbackOnly(false);
             TransactionHolder.clear();
             TrafficContextHolder.remove();
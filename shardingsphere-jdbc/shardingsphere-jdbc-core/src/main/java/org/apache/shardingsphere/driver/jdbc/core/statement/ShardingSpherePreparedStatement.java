@@ -23,6 +23,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.driver.executor.DriverExecutor;
 import org.apache.shardingsphere.driver.executor.batch.BatchExecutionUnit;
 import org.apache.shardingsphere.driver.executor.batch.BatchPreparedStatementExecutor;
+import org.apache.shardingsphere.driver.executor.batch.MultiValuesInsertBatch;
 import org.apache.shardingsphere.driver.executor.callback.impl.PreparedStatementExecuteQueryCallback;
 import org.apache.shardingsphere.driver.jdbc.adapter.AbstractPreparedStatementAdapter;
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
@@ -92,8 +93,10 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -102,6 +105,14 @@ import java.util.stream.Collectors;
  */
 public final class ShardingSpherePreparedStatement extends AbstractPreparedStatementAdapter {
     
+    private static final Map<String, Integer> MULTI_VALUES_INSERT_MAX_PARAMETERS_SIZES = new HashMap<>(3, 1);
+    
+    static {
+        MULTI_VALUES_INSERT_MAX_PARAMETERS_SIZES.put("MySQL", 65535);
+        MULTI_VALUES_INSERT_MAX_PARAMETERS_SIZES.put("PostgreSQL", 32767);
+        MULTI_VALUES_INSERT_MAX_PARAMETERS_SIZES.put("openGauss", 32767);
+    }
+    
     @Getter
     private final ShardingSphereConnection connection;
     
@@ -117,6 +128,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private final SQLStatementContext<?> sqlStatementContext;
     
+    private final ShardingSphereSQLParserEngine sqlParserEngine;
+    
     private final StatementOption statementOption;
     
     @Getter
@@ -127,6 +140,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private final BatchPreparedStatementExecutor batchPreparedStatementExecutor;
     
+    private final MultiValuesInsertBatch multiValuesInsertBatch;
+    
     private final Collection<Comparable<?>> generatedValues = new LinkedList<>();
     
     private final KernelProcessor kernelProcessor;
@@ -176,7 +191,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         statements = new ArrayList<>();
         parameterSets = new ArrayList<>();
         SQLParserRule sqlParserRule = metaDataContexts.getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
-        ShardingSphereSQLParserEngine sqlParserEngine = sqlParserRule.getSQLParserEngine(
+        sqlParserEngine = sqlParserRule.getSQLParserEngine(
                 DatabaseTypeEngine.getTrunkDatabaseTypeName(metaDataContexts.getMetaData().getDatabase(connection.getDatabaseName()).getResource().getDatabaseType()));
         sqlStatement = sqlParserEngine.parse(sql, true);
         sqlStatementContext = SQLStatementContextFactory.newInstance(metaDataContexts.getMetaData().getDatabases(), sqlStatement, connection.getDatabaseName());
@@ -184,13 +199,20 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         statementOption = returnGeneratedKeys ? new StatementOption(true) : new StatementOption(resultSetType, resultSetConcurrency, resultSetHoldability);
         executor = new DriverExecutor(connection);
         JDBCExecutor jdbcExecutor = new JDBCExecutor(connection.getContextManager().getExecutorEngine(), connection.isHoldTransaction());
-        batchPreparedStatementExecutor = new BatchPreparedStatementExecutor(metaDataContexts, jdbcExecutor, connection.getDatabaseName(), eventBusContext);
+        batchPreparedStatementExecutor = new BatchPreparedStatementExecutor(connection, metaDataContexts, jdbcExecutor, eventBusContext);
+        multiValuesInsertBatch = returnGeneratedKeys ? null : createMultiValuesInsertBatch().orElse(null);
         kernelProcessor = new KernelProcessor();
         statementsCacheable = isStatementsCacheable(metaDataContexts.getMetaData().getDatabase(connection.getDatabaseName()).getRuleMetaData());
         trafficRule = metaDataContexts.getMetaData().getGlobalRuleMetaData().getSingleRule(TrafficRule.class);
         statementManager = new StatementManager();
     }
     
+    private Optional<MultiValuesInsertBatch> createMultiValuesInsertBatch() {
+        int maxParametersSize = MULTI_VALUES_INSERT_MAX_PARAMETERS_SIZES.getOrDefault(
+                DatabaseTypeEngine.getTrunkDatabaseTypeName(metaDataContexts.getMetaData().getDatabase(connection.getDatabaseName()).getResource().getDatabaseType()), 0);
+        return MultiValuesInsertBatch.create(sql, sqlStatementContext, metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.BATCH_INSERT_VALUES_SIZE), maxParametersSize);
+    }
+    
     private boolean isStatementsCacheable(final ShardingSphereRuleMetaData databaseRuleMetaData) {
         return databaseRuleMetaData.findRules(StorageConnectorReusableRule.class).size() == databaseRuleMetaData.getRules().size() && !HintManager.isInstantiated();
     }
@@ -490,7 +512,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         if (sqlStatementContext instanceof ParameterAware) {
             ((ParameterAware) sqlStatementContext).setUpParameters(parameters);
         }
-        return new LogicSQL(sqlStatementContext, sql, parameters);
+        return new LogicSQL(sqlStatementContext, sql, parameters, connection.getConnectionWriteContext());
     }
     
     private MergedResult mergeQuery(final List<QueryResult> queryResults) throws SQLException {
@@ -552,6 +574,10 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     @Override
     public void addBatch() {
         try {
+            if (null != multiValuesInsertBatch) {
+                multiValuesInsertBatch.addRow(new ArrayList<>(getParameters()));
+                return;
+            }
             LogicSQL logicSQL = createLogicSQL();
             trafficContext = getTrafficContext(logicSQL);
             executionContext = trafficContext.isMatchTraffic() ? createExecutionContext(logicSQL, trafficContext) : createExecutionContext(logicSQL);
@@ -564,13 +590,17 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     @Override
     public int[] executeBatch() throws SQLException {
-        if (null == executionContext) {
-            return new int[0];
-        }
         try {
+            if (null != multiValuesInsertBatch) {
+                addMultiValuesInsertBatch();
+            }
+            if (null == executionContext) {
+                return new int[0];
+            }
             // TODO add raw SQL executor
             initBatchPreparedStatementExecutor();
-            return batchPreparedStatementExecutor.executeBatch(executionContext.getSqlStatementContext());
+            int[] result = batchPreparedStatementExecutor.executeBatch(executionContext.getSqlStatementContext());
+            return null == multiValuesInsertBatch ? result : multiValuesInsertBatch.getRowUpdateCounts(result);
         } catch (SQLException ex) {
             handleExceptionInTransaction(connection, metaDataContexts);
             throw ex;
@@ -592,6 +622,32 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         setBatchParametersForStatements();
     }
     
+    private void addMultiValuesInsertBatch() {
+        for (List<List<Object>> each : multiValuesInsertBatch.getGroupedRowParameterSets()) {
+            addMultiValuesInsertBatch(each);
+        }
+    }
+    
+    private void addMultiValuesInsertBatch(final List<List<Object>> rowParameterSets) {
+        String multiValuesSQL = multiValuesInsertBatch.getSQL(rowParameterSets.size());
+        SQLStatementContext<?> multiValuesSQLStatementContext = SQLStatementContextFactory.newInstance(
+                metaDataContexts.getMetaData().getDatabases(), sqlParserEngine.parse(multiValuesSQL, true), connection.getDatabaseName());
+        List<Object> parameters = MultiValuesInsertBatch.getParameters(rowParameterSets);
+        ((ParameterAware) multiValuesSQLStatementContext).setUpParameters(parameters);
+        LogicSQL logicSQL = new LogicSQL(multiValuesSQLStatementContext, multiValuesSQL, parameters, connection.getConnectionWriteContext());
+        trafficContext = getTrafficContext(logicSQL);
+        ExecutionContext multiValuesExecutionContext = trafficContext.isMatchTraffic() ? createExecutionContext(logicSQL, trafficContext) : createExecutionContext(logicSQL);
+        if (rowParameterSets.size() > 1 && multiValuesInsertBatch.isParametersSizeExceeded(multiValuesExecutionContext.getExecutionUnits())) {
+            int half = rowParameterSets.size() / 2;
+            addMultiValuesInsertBatch(rowParameterSets.subList(0, half));
+            addMultiValuesInsertBatch(rowParameterSets.subList(half, rowParameterSets.size()));
+            return;
+        }
+        executionContext = multiValuesExecutionContext;
+        batchPreparedStatementExecutor.addBatchForExecutionUnits(executionContext.getExecutionUnits());
+        multiValuesInsertBatch.addStatementValuesSize(rowParameterSets.size());
+    }
+    
     private void setBatchParametersForStatements() throws SQLException {
         for (Statement each : batchPreparedStatementExecutor.getStatements()) {
             List<List<Object>> parameterSet = batchPreparedStatementExecutor.getParameterSet(each);
@@ -606,6 +662,9 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     public void clearBatch() throws SQLException {
         currentResultSet = null;
         batchPreparedStatementExecutor.clear();
+        if (null != multiValuesInsertBatch) {
+            multiValuesInsertBatch.clear();
+        }
         clearParameters();
     }
     
@@ -461,7 +461,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         SQLStatement sqlStatement = sqlParserRule.getSQLParserEngine(
                 DatabaseTypeEngine.getTrunkDatabaseTypeName(metaDataContexts.getMetaData().getDatabase(connection.getDatabaseName()).getResource().getDatabaseType())).parse(sql, false);
         SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(metaDataContexts.getMetaData().getDatabases(), sqlStatement, connection.getDatabaseName());
-        return new LogicSQL(sqlStatementContext, sql, Collections.emptyList());
+        return new LogicSQL(sqlStatementContext, sql, Collections.emptyList(), connection.getConnectionWriteContext());
     }
     
     private ExecutionContext createExecutionContext(final LogicSQL logicSQL) throws SQLException {
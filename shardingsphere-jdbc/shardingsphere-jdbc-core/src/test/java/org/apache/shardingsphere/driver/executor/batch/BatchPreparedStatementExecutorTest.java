@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.driver.executor.batch;
 
 import lombok.SneakyThrows;
-import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
@@ -45,7 +44,10 @@ import java.util.LinkedList;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -63,7 +65,7 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
     @Override
     public void setUp() throws SQLException {
         super.setUp();
-        actual = spy(new BatchPreparedStatementExecutor(getConnection().getContextManager().getMetaDataContexts(), new JDBCExecutor(getExecutorEngine(), false), DefaultDatabase.LOGIC_NAME,
+        actual = spy(new BatchPreparedStatementExecutor(getConnection(), getConnection().getContextManager().getMetaDataContexts(), new JDBCExecutor(getExecutorEngine(), false),
                 new EventBusContext()));
         when(sqlStatementContext.getTablesContext()).thenReturn(mock(TablesContext.class));
     }
@@ -85,6 +87,31 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         verify(preparedStatement).executeBatch();
     }
     
+    @Test
+    public void assertExecuteBatchCommitPendingWritesInAutoCommit() throws SQLException {
+        PreparedStatement preparedStatement = getPreparedStatement();
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{10, 20});
+        setExecutionGroups(Collections.singletonList(preparedStatement));
+        getConnection().getConnectionWriteContext().addPendingWrite("readwrite_ds");
+        actual.executeBatch(sqlStatementContext);
+        assertTrue(getConnection().getConnectionWriteContext().findLastWriteNanoTime("readwrite_ds").isPresent());
+    }
+    
+    @Test
+    public void assertExecuteBatchClearPendingWritesInAutoCommitWhenFailed() throws SQLException {
+        PreparedStatement preparedStatement = getPreparedStatement();
+        when(preparedStatement.executeBatch()).thenThrow(new SQLException(""));
+        setExecutionGroups(Collections.singletonList(preparedStatement));
+        getConnection().getConnectionWriteContext().addPendingWrite("readwrite_ds");
+        try {
+            actual.executeBatch(sqlStatementContext);
+            fail("Expected SQLException.");
+        } catch (final SQLException ignored) {
+        }
+        getConnection().getConnectionWriteContext().commitPendingWrites();
+        assertFalse(getConnection().getConnectionWriteContext().findLastWriteNanoTime("readwrite_ds").isPresent());
+    }
+    
     private PreparedStatement getPreparedStatement() throws SQLException {
         PreparedStatement result = mock(PreparedStatement.class);
         Connection connection = mock(Connection.class);
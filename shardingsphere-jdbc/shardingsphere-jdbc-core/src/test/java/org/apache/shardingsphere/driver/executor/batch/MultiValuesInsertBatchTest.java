@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.driver.executor.batch;
+
+import org.apache.shardingsphere.infra.binder.segment.insert.values.InsertValueContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.junit.Test;
+
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MultiValuesInsertBatchTest {
+    
+    private static final String SQL = "INSERT INTO t_order (order_id, status) VALUES (?, ?) RETURNING order_id";
+    
+    @Test
+    public void assertCreateWithoutBatch() {
+        assertFalse(MultiValuesInsertBatch.create(SQL, mockInsertStatementContext(2), 1, 65535).isPresent());
+        assertFalse(MultiValuesInsertBatch.create(SQL, mockInsertStatementContext(3), 100, 65535).isPresent());
+        InsertStatementContext insertStatementContext = mockInsertStatementContext(2);
+        when(insertStatementContext.getValueListCount()).thenReturn(2);
+        assertFalse(MultiValuesInsertBatch.create(SQL, insertStatementContext, 100, 65535).isPresent());
+    }
+    
+    @Test
+    public void assertGetSQL() {
+        MultiValuesInsertBatch actual = createMultiValuesInsertBatch(100, 65535, 0);
+        assertThat(actual.getSQL(1), is(SQL));
+        assertThat(actual.getSQL(3), is("INSERT INTO t_order (order_id, status) VALUES (?, ?), (?, ?), (?, ?) RETURNING order_id"));
+    }
+    
+    @Test
+    public void assertGetGroupedRowParameterSets() {
+        List<List<List<Object>>> actual = createMultiValuesInsertBatch(2, 65535, 5).getGroupedRowParameterSets();
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0), is(Arrays.asList(Arrays.<Object>asList(0, "status_0"), Arrays.<Object>asList(1, "status_1"))));
+        assertThat(actual.get(2), is(Collections.singletonList(Arrays.<Object>asList(4, "status_4"))));
+        assertThat(MultiValuesInsertBatch.getParameters(actual.get(1)), is(Arrays.<Object>asList(2, "status_2", 3, "status_3")));
+    }
+    
+    @Test
+    public void assertGetGroupedRowParameterSetsWithMaxParametersSize() {
+        List<List<List<Object>>> actual = createMultiValuesInsertBatch(100, 5, 5).getGroupedRowParameterSets();
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0).size(), is(2));
+        assertThat(actual.get(2).size(), is(1));
+    }
+    
+    @Test
+    public void assertIsParametersSizeExceeded() {
+        MultiValuesInsertBatch multiValuesInsertBatch = createMultiValuesInsertBatch(100, 3, 0);
+        assertFalse(multiValuesInsertBatch.isParametersSizeExceeded(Collections.singletonList(new ExecutionUnit("ds", new SQLUnit(SQL, Arrays.asList(0, "status_0"))))));
+        assertTrue(multiValuesInsertBatch.isParametersSizeExceeded(Collections.singletonList(new ExecutionUnit("ds", new SQLUnit(SQL, Arrays.asList(0, "status_0", 1, "status_1"))))));
+    }
+    
+    @Test
+    public void assertGetRowUpdateCounts() {
+        MultiValuesInsertBatch multiValuesInsertBatch = createMultiValuesInsertBatch(2, 65535, 5);
+        multiValuesInsertBatch.addStatementValuesSize(2);
+        multiValuesInsertBatch.addStatementValuesSize(2);
+        multiValuesInsertBatch.addStatementValuesSize(1);
+        assertThat(multiValuesInsertBatch.getRowUpdateCounts(new int[]{2, Statement.SUCCESS_NO_INFO, 1}), is(new int[]{1, 1, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, 1}));
+    }
+    
+    @Test
+    public void assertClear() {
+        MultiValuesInsertBatch multiValuesInsertBatch = createMultiValuesInsertBatch(2, 65535, 5);
+        multiValuesInsertBatch.clear();
+        assertTrue(multiValuesInsertBatch.getGroupedRowParameterSets().isEmpty());
+    }
+    
+    private MultiValuesInsertBatch createMultiValuesInsertBatch(final int maxValuesSize, final int maxParametersSize, final int rowCount) {
+        MultiValuesInsertBatch result = MultiValuesInsertBatch.create(SQL, mockInsertStatementContext(2), maxValuesSize, maxParametersSize).orElseThrow(IllegalStateException::new);
+        for (int i = 0; i < rowCount; i++) {
+            result.addRow(Arrays.asList(i, "status_" + i));
+        }
+        return result;
+    }
+    
+    private InsertStatementContext mockInsertStatementContext(final int parameterCount) {
+        InsertStatement insertStatement = mock(InsertStatement.class);
+        int valuesStartIndex = SQL.indexOf("(?, ?)");
+        when(insertStatement.getValues()).thenReturn(Collections.singletonList(new InsertValuesSegment(valuesStartIndex, valuesStartIndex + "(?, ?)".length() - 1, Collections.emptyList())));
+        when(insertStatement.getParameterCount()).thenReturn(parameterCount);
+        InsertValueContext insertValueContext = mock(InsertValueContext.class);
+        when(insertValueContext.getParameterCount()).thenReturn(2);
+        InsertStatementContext result = mock(InsertStatementContext.class);
+        when(result.getValueListCount()).thenReturn(1);
+        when(result.getSqlStatement()).thenReturn(insertStatement);
+        when(result.getInsertValueContexts()).thenReturn(Collections.singletonList(insertValueContext));
+        return result;
+    }
+}
@@ -125,6 +125,30 @@ public final class ShardingSphereConnectionTest {
         verify(physicalConnection).commit();
     }
     
+    @Test
+    public void assertCommitWithPendingWrites() throws SQLException {
+        Connection physicalConnection = mock(Connection.class);
+        when(connection.getContextManager().getDataSourceMap(DefaultDatabase.LOGIC_NAME).get("ds").getConnection()).thenReturn(physicalConnection);
+        connection.getConnectionManager().getConnections("ds", 1, ConnectionMode.MEMORY_STRICTLY);
+        connection.setAutoCommit(false);
+        connection.getConnectionWriteContext().addPendingWrite("readwrite_ds");
+        assertFalse(connection.getConnectionWriteContext().findLastWriteNanoTime("readwrite_ds").isPresent());
+        connection.commit();
+        assertTrue(connection.getConnectionWriteContext().findLastWriteNanoTime("readwrite_ds").isPresent());
+    }
+    
+    @Test
+    public void assertRollbackWithPendingWrites() throws SQLException {
+        Connection physicalConnection = mock(Connection.class);
+        when(connection.getContextManager().getDataSourceMap(DefaultDatabase.LOGIC_NAME).get("ds").getConnection()).thenReturn(physicalConnection);
+        connection.getConnectionManager().getConnections("ds", 1, ConnectionMode.MEMORY_STRICTLY);
+        connection.setAutoCommit(false);
+        connection.getConnectionWriteContext().addPendingWrite("readwrite_ds");
+        connection.rollback();
+        connection.commit();
+        assertFalse(connection.getConnectionWriteContext().findLastWriteNanoTime("readwrite_ds").isPresent());
+    }
+    
     @Test
     public void assertCommitWithDistributedTransaction() throws SQLException {
         ConnectionTransaction connectionTransaction = mock(ConnectionTransaction.class);
@@ -143,6 +143,27 @@ public interface PipelineSQLBuilder extends TypedSPI {
      */
     String buildSplitByPrimaryKeyRangeSQL(String schemaName, String tableName, String primaryKey);
     
+    /**
+     * Build unique key minimum and maximum value SQL.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @return minimum and maximum value SQL
+     */
+    String buildUniqueKeyMinMaxSQL(String schemaName, String tableName, String uniqueKey);
+    
+    /**
+     * Build estimated count SQL, which reads records count from table statistics of database instead of scanning table.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @return estimated count SQL
+     */
+    default Optional<String> buildEstimatedCountSQL(final String schemaName, final String tableName) {
+        return Optional.empty();
+    }
+    
     /**
      * Build CRC32 SQL.
      *
@@ -42,7 +42,12 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -65,6 +70,9 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
     
     private final PipelineJobPersistCallback pipelineJobPersistCallback;
     
+    @Getter
+    private final ImporterMetrics metrics = new ImporterMetrics();
+    
     protected AbstractImporter(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager, final PipelineChannel channel,
                                final PipelineJobPersistCallback pipelineJobPersistCallback) {
         this.importerConfig = importerConfig;
@@ -94,7 +102,7 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
                 channel.ack(records);
                 pipelineJobPersistCallback.pushPersistEvent();
                 if (0 == round % 50) {
-                    log.info("importer write, round={}, rowCount={}", round, rowCount);
+                    log.info("importer write, round={}, rowCount={}, metrics={}", round, rowCount, metrics);
                 }
                 if (FinishedRecord.class.equals(records.get(records.size() - 1).getClass())) {
                     log.info("write, get FinishedRecord, break");
@@ -139,9 +147,11 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
     }
     
     private void doFlush(final DataSource dataSource, final List<DataRecord> buffer) throws SQLException {
+        long startNanos = System.nanoTime();
+        String type = buffer.get(0).getType();
         try (Connection connection = dataSource.getConnection()) {
             connection.setAutoCommit(false);
-            switch (buffer.get(0).getType()) {
+            switch (type) {
                 case IngestDataChangeType.INSERT:
                     executeBatchInsert(connection, buffer);
                     break;
@@ -156,6 +166,7 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
             }
             connection.commit();
         }
+        metrics.record(type, buffer.size(), System.nanoTime() - startNanos);
     }
     
     private void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
@@ -176,27 +187,30 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
     protected abstract String getSchemaName(String logicTableName);
     
     private void executeUpdate(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        Map<String, List<DataRecord>> batchedDataRecords = new LinkedHashMap<>();
         for (DataRecord each : dataRecords) {
-            executeUpdate(connection, each);
+            if (RecordUtil.extractPrimaryColumns(each).stream().anyMatch(Column::isUpdated)) {
+                executeUpdate(connection, each);
+                continue;
+            }
+            String updateSql = pipelineSqlBuilder.buildUpdateSQL(getSchemaName(each.getTableName()), each, getUpdateConditionColumns(each), importerConfig.getShardingColumnsMap());
+            batchedDataRecords.computeIfAbsent(updateSql, key -> new LinkedList<>()).add(each);
+        }
+        for (Entry<String, List<DataRecord>> entry : batchedDataRecords.entrySet()) {
+            if (1 == entry.getValue().size()) {
+                executeUpdate(connection, entry.getValue().get(0));
+            } else {
+                executeBatchUpdate(connection, entry.getKey(), entry.getValue());
+            }
         }
     }
     
     private void executeUpdate(final Connection connection, final DataRecord record) throws SQLException {
-        Set<String> shardingColumns = importerConfig.getShardingColumns(record.getTableName());
-        if (null == shardingColumns) {
-            log.error("executeUpdate, could not get shardingColumns, tableName={}, logicTableNames={}", record.getTableName(), importerConfig.getLogicTableNames());
-        }
-        List<Column> conditionColumns = RecordUtil.extractConditionColumns(record, shardingColumns);
+        List<Column> conditionColumns = getUpdateConditionColumns(record);
         List<Column> updatedColumns = pipelineSqlBuilder.extractUpdatedColumns(record, importerConfig.getShardingColumnsMap());
         String updateSql = pipelineSqlBuilder.buildUpdateSQL(getSchemaName(record.getTableName()), record, conditionColumns, importerConfig.getShardingColumnsMap());
         try (PreparedStatement ps = connection.prepareStatement(updateSql)) {
-            for (int i = 0; i < updatedColumns.size(); i++) {
-                ps.setObject(i + 1, updatedColumns.get(i).getValue());
-            }
-            for (int i = 0; i < conditionColumns.size(); i++) {
-                Column keyColumn = conditionColumns.get(i);
-                ps.setObject(updatedColumns.size() + i + 1, (keyColumn.isUniqueKey() && keyColumn.isUpdated()) ? keyColumn.getOldValue() : keyColumn.getValue());
-            }
+            setUpdateParameters(ps, updatedColumns, conditionColumns);
             int updateCount = ps.executeUpdate();
             if (1 != updateCount) {
                 log.warn("executeUpdate failed, updateCount={}, updateSql={}, updatedColumns={}, conditionColumns={}", updateCount, updateSql, updatedColumns, conditionColumns);
@@ -204,6 +218,40 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
         }
     }
     
+    private void executeBatchUpdate(final Connection connection, final String updateSql, final List<DataRecord> dataRecords) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(updateSql)) {
+            ps.setQueryTimeout(30);
+            for (DataRecord each : dataRecords) {
+                setUpdateParameters(ps, pipelineSqlBuilder.extractUpdatedColumns(each, importerConfig.getShardingColumnsMap()), getUpdateConditionColumns(each));
+                ps.addBatch();
+            }
+            int[] updateCounts = ps.executeBatch();
+            for (int i = 0; i < updateCounts.length; i++) {
+                if (1 != updateCounts[i] && Statement.SUCCESS_NO_INFO != updateCounts[i]) {
+                    log.warn("executeBatchUpdate failed, updateCount={}, updateSql={}, dataRecord={}", updateCounts[i], updateSql, dataRecords.get(i));
+                }
+            }
+        }
+    }
+    
+    private List<Column> getUpdateConditionColumns(final DataRecord record) {
+        Set<String> shardingColumns = importerConfig.getShardingColumns(record.getTableName());
+        if (null == shardingColumns) {
+            log.error("executeUpdate, could not get shardingColumns, tableName={}, logicTableNames={}", record.getTableName(), importerConfig.getLogicTableNames());
+        }
+        return RecordUtil.extractConditionColumns(record, shardingColumns);
+    }
+    
+    private void setUpdateParameters(final PreparedStatement ps, final List<Column> updatedColumns, final List<Column> conditionColumns) throws SQLException {
+        for (int i = 0; i < updatedColumns.size(); i++) {
+            ps.setObject(i + 1, updatedColumns.get(i).getValue());
+        }
+        for (int i = 0; i < conditionColumns.size(); i++) {
+            Column keyColumn = conditionColumns.get(i);
+            ps.setObject(updatedColumns.size() + i + 1, (keyColumn.isUniqueKey() && keyColumn.isUpdated()) ? keyColumn.getOldValue() : keyColumn.getValue());
+        }
+    }
+    
     private void executeBatchDelete(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
         DataRecord dataRecord = dataRecords.get(0);
         List<Column> conditionColumns = RecordUtil.extractConditionColumns(dataRecord, importerConfig.getShardingColumns(dataRecord.getTableName()));
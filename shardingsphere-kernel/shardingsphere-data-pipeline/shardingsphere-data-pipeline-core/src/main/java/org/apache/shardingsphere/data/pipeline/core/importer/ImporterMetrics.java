@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Importer metrics, record written rows and elapsed time per data change type.
+ */
+public final class ImporterMetrics {
+    
+    private final Map<String, LongAdder> rowCounts = new ConcurrentHashMap<>();
+    
+    private final Map<String, LongAdder> elapsedNanos = new ConcurrentHashMap<>();
+    
+    /**
+     * Record flushed rows.
+     *
+     * @param type data change type
+     * @param rowCount row count
+     * @param elapsedNanos elapsed nanoseconds
+     */
+    public void record(final String type, final int rowCount, final long elapsedNanos) {
+        rowCounts.computeIfAbsent(type, key -> new LongAdder()).add(rowCount);
+        this.elapsedNanos.computeIfAbsent(type, key -> new LongAdder()).add(elapsedNanos);
+    }
+    
+    /**
+     * Get written row count.
+     *
+     * @param type data change type
+     * @return row count
+     */
+    public long getRowCount(final String type) {
+        LongAdder result = rowCounts.get(type);
+        return null == result ? 0L : result.sum();
+    }
+    
+    /**
+     * Get written rows per second, based on time spent in writing.
+     *
+     * @param type data change type
+     * @return rows per second
+     */
+    public double getRowsPerSecond(final String type) {
+        LongAdder nanos = elapsedNanos.get(type);
+        long elapsed = null == nanos ? 0L : nanos.sum();
+        return 0L == elapsed ? 0D : getRowCount(type) * (double) TimeUnit.SECONDS.toNanos(1L) / elapsed;
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("{");
+        for (Entry<String, LongAdder> entry : rowCounts.entrySet()) {
+            result.append(entry.getKey()).append("=").append(entry.getValue().sum()).append(" rows, ").append(String.format("%.1f", getRowsPerSecond(entry.getKey()))).append(" rows/s; ");
+        }
+        if (result.length() > 1) {
+            result.setLength(result.length() - 2);
+        }
+        return result.append("}").toString();
+    }
+}
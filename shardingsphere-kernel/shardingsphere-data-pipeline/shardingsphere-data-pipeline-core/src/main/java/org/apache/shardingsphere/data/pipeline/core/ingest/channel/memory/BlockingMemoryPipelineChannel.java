@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Blocking memory pipeline channel.
+ * 
+ * <p>
+ * Fetching blocks until the first record arrives or timeout, then returns the batch when it is full or the linger time since the first record expires.
+ * </p>
+ */
+public final class BlockingMemoryPipelineChannel implements PipelineChannel {
+    
+    private final BlockingQueue<Record> queue;
+    
+    private final long lingerNanos;
+    
+    private final AckCallback ackCallback;
+    
+    private final AtomicLong fetchCount = new AtomicLong();
+    
+    private final AtomicLong fetchedRecordCount = new AtomicLong();
+    
+    private final AtomicLong fetchWaitNanos = new AtomicLong();
+    
+    public BlockingMemoryPipelineChannel(final int blockQueueSize, final long lingerMillis, final AckCallback ackCallback) {
+        queue = new ArrayBlockingQueue<>(blockQueueSize);
+        lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        this.ackCallback = ackCallback;
+    }
+    
+    @Override
+    public void pushRecord(final Record dataRecord) {
+        try {
+            queue.put(dataRecord);
+        } catch (final InterruptedException ex) {
+            throw new RuntimeException("put " + dataRecord + " into queue failed", ex);
+        }
+    }
+    
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
+        List<Record> result = new ArrayList<>(batchSize);
+        long start = System.nanoTime();
+        try {
+            Record first = queue.poll(timeoutSeconds, TimeUnit.SECONDS);
+            if (null == first) {
+                return result;
+            }
+            result.add(first);
+            fillBatch(result, batchSize, System.nanoTime() + lingerNanos);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            fetchCount.incrementAndGet();
+            fetchedRecordCount.addAndGet(result.size());
+            fetchWaitNanos.addAndGet(System.nanoTime() - start);
+        }
+        return result;
+    }
+    
+    private void fillBatch(final List<Record> batch, final int batchSize, final long lingerDeadline) throws InterruptedException {
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remainingNanos = lingerDeadline - System.nanoTime();
+            if (batch.size() >= batchSize || remainingNanos <= 0L) {
+                return;
+            }
+            Record next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            if (null == next) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+    
+    @Override
+    public void close() {
+        queue.clear();
+    }
+    
+    /**
+     * Get count of records which are waiting in channel.
+     *
+     * @return channel depth
+     */
+    public int getDepth() {
+        return queue.size();
+    }
+    
+    /**
+     * Get fetch count.
+     *
+     * @return fetch count
+     */
+    public long getFetchCount() {
+        return fetchCount.get();
+    }
+    
+    /**
+     * Get fetched record count.
+     *
+     * @return fetched record count
+     */
+    public long getFetchedRecordCount() {
+        return fetchedRecordCount.get();
+    }
+    
+    /**
+     * Get total milliseconds which fetching waited for records.
+     *
+     * @return total fetch wait milliseconds
+     */
+    public long getFetchWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(fetchWaitNanos.get());
+    }
+}
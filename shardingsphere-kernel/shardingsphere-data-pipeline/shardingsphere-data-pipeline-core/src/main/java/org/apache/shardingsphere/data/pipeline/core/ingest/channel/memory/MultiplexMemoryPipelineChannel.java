@@ -29,6 +29,7 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallb
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Multiplex memory pipeline channel.
@@ -57,10 +58,14 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     }
     
     public MultiplexMemoryPipelineChannel(final int channelNumber, final int blockQueueSize, final AckCallback ackCallback) {
+        this(channelNumber, () -> new SimpleMemoryPipelineChannel(blockQueueSize, ackCallback));
+    }
+    
+    public MultiplexMemoryPipelineChannel(final int channelNumber, final Supplier<PipelineChannel> channelFactory) {
         this.channelNumber = channelNumber;
         channels = new PipelineChannel[channelNumber];
         for (int i = 0; i < channelNumber; i++) {
-            channels[i] = new SimpleMemoryPipelineChannel(blockQueueSize, ackCallback);
+            channels[i] = channelFactory.get();
         }
     }
     
@@ -201,4 +201,10 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
         String quotedKey = quote(primaryKey);
         return String.format("SELECT MAX(%s) FROM (SELECT %s FROM %s WHERE %s>=? ORDER BY %s LIMIT ?) t", quotedKey, quotedKey, decorate(schemaName, tableName), quotedKey, quotedKey);
     }
+    
+    @Override
+    public String buildUniqueKeyMinMaxSQL(final String schemaName, final String tableName, final String uniqueKey) {
+        String quotedKey = quote(uniqueKey);
+        return String.format("SELECT MIN(%s), MAX(%s) FROM %s", quotedKey, quotedKey, decorate(schemaName, tableName));
+    }
 }
@@ -45,6 +45,7 @@ import org.apache.shardingsphere.data.pipeline.scenario.rulealtered.RuleAlteredC
 import org.apache.shardingsphere.data.pipeline.scenario.rulealtered.RuleAlteredJobContext;
 import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelCreator;
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
 import org.apache.shardingsphere.infra.config.rule.rulealtered.OnRuleAlteredActionConfiguration.InputConfiguration;
 import org.apache.shardingsphere.scaling.core.job.persist.AsyncPipelineJobPersistCallback;
 
@@ -54,8 +55,10 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Inventory data task splitter.
@@ -188,39 +191,94 @@ public final class InventoryTaskSplitter {
     }
     
     private Collection<IngestPosition<?>> getPositionByIntegerPrimaryKeyRange(final RuleAlteredJobContext jobContext, final DataSource dataSource, final InventoryDumperConfiguration dumperConfig) {
-        Collection<IngestPosition<?>> result = new LinkedList<>();
         RuleAlteredJobConfiguration jobConfig = jobContext.getJobConfig();
-        String sql = PipelineSQLBuilderFactory.getInstance(jobConfig.getSourceDatabaseType())
-                .buildSplitByPrimaryKeyRangeSQL(dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName())), dumperConfig.getActualTableName(), dumperConfig.getUniqueKey());
+        PipelineSQLBuilder sqlBuilder = PipelineSQLBuilderFactory.getInstance(jobConfig.getSourceDatabaseType());
+        String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
         int shardingSize = jobContext.getRuleAlteredContext().getOnRuleAlteredActionConfig().getInput().getShardingSize();
+        try (Connection connection = dataSource.getConnection()) {
+            long minId;
+            long maxId;
+            try (
+                    PreparedStatement ps = connection.prepareStatement(sqlBuilder.buildUniqueKeyMinMaxSQL(schemaName, dumperConfig.getActualTableName(), dumperConfig.getUniqueKey()));
+                    ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                minId = rs.getLong(1);
+                // fix empty table missing inventory task
+                if (rs.wasNull()) {
+                    return Collections.singletonList(new IntegerPrimaryKeyPosition(0, 0));
+                }
+                maxId = rs.getLong(2);
+            }
+            long estimatedCount = getEstimatedCount(connection, sqlBuilder, schemaName, dumperConfig.getActualTableName());
+            log.info("getPositionByIntegerPrimaryKeyRange, tableName={}, primaryKey={}, minId={}, maxId={}, estimatedCount={}",
+                    dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), minId, maxId, estimatedCount);
+            if (estimatedCount > 0 && isDenseUniqueKey(minId, maxId, estimatedCount)) {
+                return splitByEvenRange(minId, maxId, estimatedCount, shardingSize);
+            }
+            String splitSQL = sqlBuilder.buildSplitByPrimaryKeyRangeSQL(schemaName, dumperConfig.getActualTableName(), dumperConfig.getUniqueKey());
+            return splitByScanningRange(connection, splitSQL, minId, maxId, shardingSize);
+        } catch (final SQLException ex) {
+            throw new PipelineJobPrepareFailedException(String.format("Split task for table %s by primary key %s error", dumperConfig.getActualTableName(), dumperConfig.getUniqueKey()), ex);
+        }
+    }
+    
+    private long getEstimatedCount(final Connection connection, final PipelineSQLBuilder sqlBuilder, final String schemaName, final String tableName) throws SQLException {
+        Optional<String> sql = sqlBuilder.buildEstimatedCountSQL(schemaName, tableName);
+        if (!sql.isPresent()) {
+            return 0L;
+        }
         try (
-                Connection connection = dataSource.getConnection();
-                PreparedStatement ps = connection.prepareStatement(sql)) {
-            // TODO query minimum value less than 0
-            long beginId = 0;
-            for (int i = 0; i < Integer.MAX_VALUE; i++) {
+                PreparedStatement ps = connection.prepareStatement(sql.get());
+                ResultSet rs = ps.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : 0L;
+        }
+    }
+    
+    private boolean isDenseUniqueKey(final long minId, final long maxId, final long count) {
+        return (double) maxId - minId + 1 <= count * 2D;
+    }
+    
+    private Collection<IngestPosition<?>> splitByEvenRange(final long minId, final long maxId, final long count, final int shardingSize) {
+        Collection<IngestPosition<?>> result = new LinkedList<>();
+        long step = Math.max(1L, (long) Math.ceil(shardingSize * (((double) maxId - minId + 1) / count)));
+        long beginId = minId;
+        while (true) {
+            long endId = maxId - beginId < step ? maxId : beginId + step - 1;
+            result.add(new IntegerPrimaryKeyPosition(beginId, endId));
+            if (endId == maxId) {
+                return result;
+            }
+            beginId = endId + 1;
+        }
+    }
+    
+    private Collection<IngestPosition<?>> splitByScanningRange(final Connection connection, final String splitSQL, final long minId, final long maxId, final int shardingSize) throws SQLException {
+        Collection<IngestPosition<?>> result = new LinkedList<>();
+        try (PreparedStatement ps = connection.prepareStatement(splitSQL)) {
+            long beginId = minId;
+            while (true) {
                 ps.setLong(1, beginId);
                 ps.setLong(2, shardingSize);
                 try (ResultSet rs = ps.executeQuery()) {
                     if (!rs.next()) {
-                        log.info("getPositionByPrimaryKeyRange, rs.next false, break");
+                        log.info("splitByScanningRange, rs.next false, break");
                         break;
                     }
                     long endId = rs.getLong(1);
-                    if (endId == 0) {
-                        log.info("getPositionByPrimaryKeyRange, endId is 0, break, tableName={}, primaryKey={}, beginId={}", dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), beginId);
+                    if (rs.wasNull()) {
+                        log.info("splitByScanningRange, endId is null, break, beginId={}", beginId);
                         break;
                     }
                     result.add(new IntegerPrimaryKeyPosition(beginId, endId));
+                    if (endId >= maxId) {
+                        break;
+                    }
                     beginId = endId + 1;
                 }
             }
-            // fix empty table missing inventory task
-            if (0 == result.size()) {
-                result.add(new IntegerPrimaryKeyPosition(0, 0));
-            }
-        } catch (final SQLException ex) {
-            throw new PipelineJobPrepareFailedException(String.format("Split task for table %s by primary key %s error", dumperConfig.getActualTableName(), dumperConfig.getUniqueKey()), ex);
+        }
+        if (result.isEmpty()) {
+            result.add(new IntegerPrimaryKeyPosition(minId, maxId));
         }
         return result;
     }
@@ -81,6 +81,11 @@ public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
         return "";
     }
     
+    @Override
+    public String buildUniqueKeyMinMaxSQL(final String schemaName, final String tableName, final String uniqueKey) {
+        return "";
+    }
+    
     @Override
     public Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final String column) {
         return Optional.of(String.format("SELECT CRC32(%s) FROM %s", column, tableName));
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class BlockingMemoryPipelineChannelTest {
+    
+    @Test
+    public void assertFetchRecordsWhenBatchIsFull() {
+        BlockingMemoryPipelineChannel channel = new BlockingMemoryPipelineChannel(10, 60000L, new EmptyAckCallback());
+        for (int i = 0; i < 3; i++) {
+            channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        }
+        List<Record> actual = channel.fetchRecords(2, 60);
+        assertThat(actual.size(), is(2));
+        assertThat(channel.getDepth(), is(1));
+        assertThat(channel.getFetchCount(), is(1L));
+        assertThat(channel.getFetchedRecordCount(), is(2L));
+    }
+    
+    @Test
+    public void assertFetchRecordsWhenLingerExpired() {
+        BlockingMemoryPipelineChannel channel = new BlockingMemoryPipelineChannel(10, 10L, new EmptyAckCallback());
+        channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        List<Record> actual = channel.fetchRecords(100, 60);
+        assertThat(actual.size(), is(1));
+        assertThat(channel.getDepth(), is(0));
+    }
+    
+    @Test
+    public void assertFetchRecordsWhenTimeout() {
+        BlockingMemoryPipelineChannel channel = new BlockingMemoryPipelineChannel(10, 10L, new EmptyAckCallback());
+        assertTrue(channel.fetchRecords(100, 0).isEmpty());
+        assertThat(channel.getFetchCount(), is(1L));
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.mysql.ingest.client;
 
+import com.google.common.util.concurrent.Uninterruptibles;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
@@ -45,11 +46,17 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.que
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.db.protocol.netty.ChannelAttrInitializer;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.net.InetSocketAddress;
 import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -59,15 +66,23 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public final class MySQLClient {
     
+    private static final int MAX_DECODE_THREADS = 4;
+    
     private final ConnectInfo connectInfo;
     
     private EventLoopGroup eventLoopGroup;
     
-    private Channel channel;
+    private volatile Channel channel;
     
     private Promise<Object> responseCallback;
     
-    private final ArrayBlockingQueue<AbstractBinlogEvent> blockingEventQueue = new ArrayBlockingQueue<>(10000);
+    private final ArrayBlockingQueue<Future<AbstractBinlogEvent>> blockingEventQueue = new ArrayBlockingQueue<>(10000);
+    
+    private final ExecutorService decodeExecutor = createDecodeExecutor();
+    
+    private volatile String binlogFileName;
+    
+    private volatile long binlogPosition;
     
     private ServerInfo serverInfo;
     
@@ -75,6 +90,13 @@ public final class MySQLClient {
     
     private volatile int reconnectTimes;
     
+    private static ExecutorService createDecodeExecutor() {
+        int threadCount = Math.max(1, Math.min(MAX_DECODE_THREADS, Runtime.getRuntime().availableProcessors() / 2));
+        ThreadPoolExecutor result = new ThreadPoolExecutor(threadCount, threadCount, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), ExecutorThreadFactoryBuilder.build("mysql-binlog-decode-%d"));
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+    
     /**
      * Connect to MySQL.
      */
@@ -147,6 +169,8 @@ public final class MySQLClient {
      * @param binlogPosition binlog position
      */
     public synchronized void subscribe(final String binlogFileName, final long binlogPosition) {
+        this.binlogFileName = binlogFileName;
+        this.binlogPosition = binlogPosition;
         initDumpConnectSession();
         registerSlave();
         dumpBinlog(binlogFileName, binlogPosition, queryChecksumLength());
@@ -188,7 +212,7 @@ public final class MySQLClient {
         responseCallback = null;
         channel.pipeline().remove(MySQLCommandPacketDecoder.class);
         channel.pipeline().remove(MySQLCommandResponseHandler.class);
-        channel.pipeline().addLast(new MySQLBinlogEventPacketDecoder(checksumLength));
+        channel.pipeline().addLast(new MySQLBinlogEventPacketDecoder(checksumLength, decodeExecutor));
         channel.pipeline().addLast(new MySQLBinlogEventHandler());
         channel.writeAndFlush(new MySQLComBinlogDumpCommandPacket((int) binlogPosition, connectInfo.getServerId(), binlogFileName));
     }
@@ -196,17 +220,33 @@ public final class MySQLClient {
     /**
      * Poll binlog event.
      *
+     * <p>Taking the event from the queue and recording its position happen under the same lock as reconnect, so a reconnect always resumes right after the last handed out event.</p>
+     *
      * @return binlog event
      */
     public synchronized AbstractBinlogEvent poll() {
         if (!running) {
             throw new PipelineJobExecutionException("binlog sync channel already closed, can't poll event");
         }
+        Future<AbstractBinlogEvent> event;
         try {
-            return blockingEventQueue.poll(100, TimeUnit.MILLISECONDS);
+            event = blockingEventQueue.poll(100, TimeUnit.MILLISECONDS);
         } catch (final InterruptedException ignored) {
             return null;
         }
+        if (null == event) {
+            return null;
+        }
+        AbstractBinlogEvent result;
+        try {
+            result = Uninterruptibles.getUninterruptibly(event);
+        } catch (final ExecutionException ex) {
+            running = false;
+            throw new PipelineJobExecutionException("decode binlog event failed", ex.getCause());
+        }
+        binlogFileName = result.getFileName();
+        binlogPosition = result.getPosition();
+        return result;
     }
     
     @SuppressWarnings("unchecked")
@@ -264,16 +304,16 @@ public final class MySQLClient {
     
     private final class MySQLBinlogEventHandler extends ChannelInboundHandlerAdapter {
         
-        private AbstractBinlogEvent lastBinlogEvent;
-        
+        @SuppressWarnings("unchecked")
         @Override
         public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
-            if (!running) {
+            if (!running || ctx.channel() != channel) {
                 return;
             }
             if (msg instanceof AbstractBinlogEvent) {
-                lastBinlogEvent = (AbstractBinlogEvent) msg;
-                blockingEventQueue.put(lastBinlogEvent);
+                blockingEventQueue.put(CompletableFuture.completedFuture((AbstractBinlogEvent) msg));
+            } else if (msg instanceof Future) {
+                blockingEventQueue.put((Future<AbstractBinlogEvent>) msg);
             }
         }
         
@@ -284,7 +324,7 @@ public final class MySQLClient {
                 return;
             }
             if (reconnectTimes > 3) {
-                log.warn("exceeds the maximum number of retry times, lastBinlogEvent={}", lastBinlogEvent);
+                log.warn("exceeds the maximum number of retry times, binlogFileName={}, binlogPosition={}", binlogFileName, binlogPosition);
                 running = false;
                 return;
             }
@@ -298,11 +338,15 @@ public final class MySQLClient {
         }
         
         private void reconnect() {
-            reconnectTimes++;
-            log.info("reconnect mysql client, retryTimes={}", reconnectTimes);
-            closeChannel();
-            connect();
-            subscribe(lastBinlogEvent.getFileName(), lastBinlogEvent.getPosition());
+            synchronized (MySQLClient.this) {
+                reconnectTimes++;
+                log.info("reconnect mysql client, retryTimes={}", reconnectTimes);
+                closeChannel();
+                // events not polled yet will be dumped again from the position of the last polled event, events of the closed channel are dropped by channel check
+                blockingEventQueue.clear();
+                connect();
+                subscribe(binlogFileName, binlogPosition);
+            }
         }
     }
 }
@@ -40,18 +40,30 @@ import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * MySQL binlog event packet decoder.
+ *
+ * <p>If decode executor is present, rows of ROWS_EVENT are read by decode executor and {@link CompletableFuture} of the event is output in binlog order instead,
+ * so that netty thread only frames events.</p>
  */
 @Slf4j
 public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
     
     private final BinlogContext binlogContext;
     
+    private final Executor decodeExecutor;
+    
     public MySQLBinlogEventPacketDecoder(final int checksumLength) {
+        this(checksumLength, null);
+    }
+    
+    public MySQLBinlogEventPacketDecoder(final int checksumLength, final Executor decodeExecutor) {
         binlogContext = new BinlogContext();
         binlogContext.setChecksumLength(checksumLength);
+        this.decodeExecutor = decodeExecutor;
     }
     
     @Override
@@ -74,7 +86,7 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         }
     }
     
-    private AbstractBinlogEvent decodeEvent(final MySQLPacketPayload payload, final MySQLBinlogEventHeader binlogEventHeader) {
+    private Object decodeEvent(final MySQLPacketPayload payload, final MySQLBinlogEventHeader binlogEventHeader) {
         switch (MySQLBinlogEventType.valueOf(binlogEventHeader.getEventType())) {
             case ROTATE_EVENT:
                 decodeRotateEvent(binlogEventHeader, payload);
@@ -151,32 +163,49 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         binlogContext.putTableMapEvent(tableMapEventPacket.getTableId(), tableMapEventPacket);
     }
     
-    private DeleteRowsEvent decodeDeleteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+    private Object decodeDeleteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
         DeleteRowsEvent result = new DeleteRowsEvent();
         initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
-        result.setBeforeRows(rowsEventPacket.getRows());
-        return result;
+        return readRows(rowsEventPacket, payload, result, () -> result.setBeforeRows(rowsEventPacket.getRows()));
     }
     
-    private UpdateRowsEvent decodeUpdateRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+    private Object decodeUpdateRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
         UpdateRowsEvent result = new UpdateRowsEvent();
         initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
-        result.setBeforeRows(rowsEventPacket.getRows());
-        result.setAfterRows(rowsEventPacket.getRows2());
-        return result;
+        return readRows(rowsEventPacket, payload, result, () -> {
+            result.setBeforeRows(rowsEventPacket.getRows());
+            result.setAfterRows(rowsEventPacket.getRows2());
+        });
     }
     
-    private WriteRowsEvent decodeWriteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+    private Object decodeWriteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
         WriteRowsEvent result = new WriteRowsEvent();
         initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
-        result.setAfterRows(rowsEventPacket.getRows());
-        return result;
+        return readRows(rowsEventPacket, payload, result, () -> result.setAfterRows(rowsEventPacket.getRows()));
+    }
+    
+    private Object readRows(final MySQLBinlogRowsEventPacket rowsEventPacket, final MySQLPacketPayload payload, final AbstractRowsEvent rowsEvent, final Runnable rowsSetter) {
+        MySQLBinlogTableMapEventPacket tableMapEventPacket = binlogContext.getTableMapEvent(rowsEventPacket.getTableId());
+        if (null == decodeExecutor) {
+            rowsEventPacket.readRows(tableMapEventPacket, payload);
+            rowsSetter.run();
+            return rowsEvent;
+        }
+        MySQLPacketPayload rowsPayload = new MySQLPacketPayload(payload.getByteBuf().retainedDuplicate(), payload.getCharset());
+        MySQLBinlogEventHeader binlogEventHeader = rowsEventPacket.getBinlogEventHeader();
+        payload.getByteBuf().readerIndex(binlogEventHeader.getEventSize() + 2 - binlogEventHeader.getChecksumLength());
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                rowsEventPacket.readRows(tableMapEventPacket, rowsPayload);
+            } finally {
+                rowsPayload.getByteBuf().release();
+            }
+            rowsSetter.run();
+            return rowsEvent;
+        }, decodeExecutor);
     }
     
     private void initRowsEvent(final AbstractRowsEvent rowsEvent, final MySQLBinlogEventHeader binlogEventHeader, final long tableId) {
@@ -23,6 +23,9 @@ import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.util.concurrent.Promise;
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobExecutionException;
 import org.apache.shardingsphere.data.pipeline.core.util.ReflectionUtil;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.WriteRowsEvent;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.binlog.MySQLComBinlogDumpCommandPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.binlog.MySQLComRegisterSlaveCommandPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
@@ -35,8 +38,12 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.net.InetSocketAddress;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -151,4 +158,44 @@ public final class MySQLClientTest {
         ReflectionUtil.setFieldValue(mysqlClient, "running", false);
         mysqlClient.poll();
     }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertPollInDumpedOrder() throws NoSuchFieldException, IllegalAccessException {
+        ArrayBlockingQueue<Future<AbstractBinlogEvent>> blockingEventQueue = ReflectionUtil.getFieldValue(mysqlClient, "blockingEventQueue", ArrayBlockingQueue.class);
+        CompletableFuture<AbstractBinlogEvent> decodingEvent = new CompletableFuture<>();
+        PlaceholderEvent placeholderEvent = new PlaceholderEvent();
+        blockingEventQueue.add(decodingEvent);
+        blockingEventQueue.add(CompletableFuture.completedFuture(placeholderEvent));
+        WriteRowsEvent writeRowsEvent = new WriteRowsEvent();
+        new Thread(() -> decodingEvent.complete(writeRowsEvent)).start();
+        assertThat(mysqlClient.poll(), sameInstance(writeRowsEvent));
+        assertThat(mysqlClient.poll(), sameInstance(placeholderEvent));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertPollRecordsPositionOfHandedOutEvent() throws NoSuchFieldException, IllegalAccessException {
+        ReflectionUtil.setFieldValue(mysqlClient, "binlogFileName", "binlog-000001");
+        ReflectionUtil.setFieldValue(mysqlClient, "binlogPosition", 4L);
+        ArrayBlockingQueue<Future<AbstractBinlogEvent>> blockingEventQueue = ReflectionUtil.getFieldValue(mysqlClient, "blockingEventQueue", ArrayBlockingQueue.class);
+        PlaceholderEvent polledEvent = new PlaceholderEvent();
+        polledEvent.setFileName("binlog-000002");
+        polledEvent.setPosition(120L);
+        blockingEventQueue.add(CompletableFuture.completedFuture(polledEvent));
+        blockingEventQueue.add(CompletableFuture.completedFuture(new PlaceholderEvent()));
+        assertThat(mysqlClient.poll(), sameInstance(polledEvent));
+        assertThat(ReflectionUtil.getFieldValue(mysqlClient, "binlogFileName", String.class), is("binlog-000002"));
+        assertThat(ReflectionUtil.getFieldValue(mysqlClient, "binlogPosition", Long.class), is(120L));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test(expected = PipelineJobExecutionException.class)
+    public void assertPollWithDecodeFailure() throws NoSuchFieldException, IllegalAccessException {
+        ArrayBlockingQueue<Future<AbstractBinlogEvent>> blockingEventQueue = ReflectionUtil.getFieldValue(mysqlClient, "blockingEventQueue", ArrayBlockingQueue.class);
+        CompletableFuture<AbstractBinlogEvent> decodingEvent = new CompletableFuture<>();
+        decodingEvent.completeExceptionally(new IllegalStateException("decode failed"));
+        blockingEventQueue.add(decodingEvent);
+        mysqlClient.poll();
+    }
 }
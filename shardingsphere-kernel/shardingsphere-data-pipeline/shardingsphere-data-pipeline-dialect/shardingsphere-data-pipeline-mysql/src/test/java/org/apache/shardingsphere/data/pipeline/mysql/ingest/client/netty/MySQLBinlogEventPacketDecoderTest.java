@@ -43,6 +43,8 @@ import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -130,6 +132,25 @@ public final class MySQLBinlogEventPacketDecoderTest {
         assertThat(actual.getAfterRows().get(0), is(new Serializable[]{1L, 1, "SUCCESS", null}));
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertDecodeWriteRowEventWithDecodeExecutor() throws NoSuchFieldException, IllegalAccessException, InterruptedException, ExecutionException {
+        MySQLBinlogEventPacketDecoder decoder = new MySQLBinlogEventPacketDecoder(4, Runnable::run);
+        ReflectionUtil.getFieldValue(decoder, "binlogContext", BinlogContext.class).getTableMap().put(123L, tableMapEventPacket);
+        when(tableMapEventPacket.getColumnDefs()).thenReturn(columnDefs);
+        ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer();
+        // the hex data is from INSERT INTO t_order(order_id, user_id, status, t_numeric) VALUES (1, 1, 'SUCCESS',null);
+        byteBuf.writeBytes(StringUtil.decodeHexDump("30007a36a9621e0100000038000000bb7c000000007b00000000000100020004ff08010000000000000001000000075355434345535365eff9ff"));
+        List<Object> decodedEvents = new LinkedList<>();
+        decoder.decode(channelHandlerContext, byteBuf, decodedEvents);
+        assertThat(decodedEvents.size(), is(1));
+        assertThat(decodedEvents.get(0), instanceOf(CompletableFuture.class));
+        assertThat(byteBuf.readableBytes(), is(0));
+        WriteRowsEvent actual = ((CompletableFuture<WriteRowsEvent>) decodedEvents.get(0)).get();
+        assertThat(actual.getAfterRows().get(0), is(new Serializable[]{1L, 1, "SUCCESS", null}));
+        assertThat(byteBuf.refCnt(), is(1));
+    }
+    
     @Test
     public void assertDecodeUpdateRowEvent() {
         ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer();
@@ -58,6 +58,13 @@ public final class MySQLPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(`id`) AS UNSIGNED)) AS checksum FROM `t2`"));
     }
     
+    @Test
+    public void assertBuildEstimatedCountSQL() {
+        Optional<String> actual = sqlBuilder.buildEstimatedCountSQL(null, "t_order");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 't_order'"));
+    }
+    
     private DataRecord mockDataRecord(final String tableName) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 4);
         result.setTableName(tableName);
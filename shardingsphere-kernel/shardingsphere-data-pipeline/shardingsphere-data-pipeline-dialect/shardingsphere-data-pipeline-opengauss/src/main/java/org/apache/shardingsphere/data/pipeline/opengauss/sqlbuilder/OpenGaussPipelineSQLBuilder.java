@@ -24,6 +24,7 @@ import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineS
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -62,6 +63,11 @@ public final class OpenGaussPipelineSQLBuilder extends AbstractPipelineSQLBuilde
         return "";
     }
     
+    @Override
+    public Optional<String> buildEstimatedCountSQL(final String schemaName, final String tableName) {
+        return Optional.of(String.format("SELECT reltuples::bigint FROM pg_class WHERE oid = '%s'::regclass", decorate(schemaName, tableName)));
+    }
+    
     @Override
     public String getType() {
         return "openGauss";
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.data.pipeline.core.record.RecordUtil;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineSQLBuilder;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -70,6 +71,11 @@ public final class PostgreSQLPipelineSQLBuilder extends AbstractPipelineSQLBuild
         return result.toString();
     }
     
+    @Override
+    public Optional<String> buildEstimatedCountSQL(final String schemaName, final String tableName) {
+        return Optional.of(String.format("SELECT reltuples::bigint FROM pg_class WHERE oid = '%s'::regclass", decorate(schemaName, tableName)));
+    }
+    
     @Override
     public String getType() {
         return "PostgreSQL";
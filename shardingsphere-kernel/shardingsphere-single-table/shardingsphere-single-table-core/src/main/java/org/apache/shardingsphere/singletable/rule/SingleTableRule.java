@@ -255,6 +255,11 @@ public final class SingleTableRule implements DatabaseRule, DataNodeContainedRul
         return Optional.empty();
     }
     
+    @Override
+    public Optional<String> findGenerateKeyColumnName(final String logicTableName) {
+        return Optional.empty();
+    }
+    
     @Override
     public Collection<String> getAllTables() {
         return new HashSet<>(tableNames.values());
@@ -28,6 +28,8 @@ import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadType;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContextFactory;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
@@ -46,6 +48,7 @@ import org.apache.shardingsphere.infra.rule.identifier.type.ResourceHeldRule;
 import org.apache.shardingsphere.mode.manager.switcher.ResourceSwitchManager;
 import org.apache.shardingsphere.mode.manager.switcher.SwitchingResource;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.mode.metadata.persist.service.DatabaseMetaDataPersistService;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
@@ -57,6 +60,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 /**
@@ -72,10 +77,14 @@ public final class ContextManager implements AutoCloseable {
     
     private final ExecutorEngine executorEngine;
     
+    private final ExecutorService snapshotReloadExecutor = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("MetaData-Snapshot-Reload-%d"));
+    
     public ContextManager(final MetaDataContexts metaDataContexts, final InstanceContext instanceContext) {
         this.metaDataContexts = metaDataContexts;
         this.instanceContext = instanceContext;
-        executorEngine = ExecutorEngine.createExecutorEngineWithSize(metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+        ConfigurationProperties props = metaDataContexts.getMetaData().getProps();
+        executorEngine = ExecutorEngine.createExecutorEngineWithSizeAndType(props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE),
+                ExecutorThreadType.valueFrom(props.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_TYPE)));
     }
     
     /**
@@ -250,8 +259,10 @@ public final class ContextManager implements AutoCloseable {
         try {
             Collection<ResourceHeldRule> staleResourceHeldRules = getStaleResourceHeldRules(databaseName);
             staleResourceHeldRules.forEach(ResourceHeldRule::closeStaleResource);
-            metaDataContexts = createMetaDataContexts(databaseName, null, ruleConfigs);
-            persistMetaData(metaDataContexts);
+            ShardingSphereDatabase originalDatabase = metaDataContexts.getMetaData().getDatabase(databaseName);
+            MetaDataContexts alteredMetaDataContexts = createRuleAlteredMetaDataContexts(databaseName, ruleConfigs);
+            metaDataContexts = alteredMetaDataContexts;
+            persistAlteredTables(originalDatabase, alteredMetaDataContexts.getMetaData().getDatabase(databaseName));
         } catch (final SQLException ex) {
             log.error("Alter database: {} rule configurations failed", databaseName, ex);
         }
@@ -331,6 +342,17 @@ public final class ContextManager implements AutoCloseable {
         return result;
     }
     
+    private MetaDataContexts createRuleAlteredMetaDataContexts(final String databaseName, final Collection<RuleConfiguration> ruleConfigs) throws SQLException {
+        ShardingSphereDatabase alteredDatabase = ShardingSphereDatabase.create(metaDataContexts.getMetaData().getActualDatabaseName(databaseName),
+                metaDataContexts.getMetaData().getDatabase(databaseName), ruleConfigs, metaDataContexts.getMetaData().getProps(), instanceContext);
+        Map<String, ShardingSphereDatabase> alteredDatabases = new LinkedHashMap<>(metaDataContexts.getMetaData().getDatabases());
+        alteredDatabases.put(databaseName.toLowerCase(), alteredDatabase);
+        ShardingSphereRuleMetaData alteredGlobalMetaData = new ShardingSphereRuleMetaData(
+                GlobalRulesBuilder.buildRules(metaDataContexts.getMetaData().getGlobalRuleMetaData().getConfigurations(), alteredDatabases, instanceContext));
+        return newMetaDataContexts(new ShardingSphereMetaData(alteredDatabases, alteredGlobalMetaData, metaDataContexts.getMetaData().getProps()),
+                OptimizerContextFactory.create(metaDataContexts.getOptimizerContext(), alteredDatabase, alteredGlobalMetaData));
+    }
+    
     private MetaDataContexts newMetaDataContexts(final ShardingSphereMetaData metaData, final OptimizerContext optimizerContext) {
         return new MetaDataContexts(metaDataContexts.getPersistService(), metaData, optimizerContext);
     }
@@ -378,12 +400,46 @@ public final class ContextManager implements AutoCloseable {
             Map<String, ShardingSphereSchema> toBeDeletedSchemas = getToBeDeletedSchemas(reloadedMetaDataContexts.getMetaData().getDatabase(databaseName));
             metaDataContexts = reloadedMetaDataContexts;
             toBeDeletedSchemas.keySet().forEach(each -> reloadedMetaDataContexts.getPersistService().getDatabaseMetaDataService().deleteSchema(databaseName, each));
-            persistMetaData(reloadedMetaDataContexts);
+            persistMetaData(reloadedMetaDataContexts.getMetaData().getDatabase(databaseName));
+            if (reloadedMetaDataContexts.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_ENABLED)) {
+                reloadedMetaDataContexts.getPersistService().getMetaDataSnapshotPersistService().persistChecksum(databaseName);
+            }
         } catch (final SQLException ex) {
             log.error("Reload database: {} failed", databaseName, ex);
         }
     }
     
+    /**
+     * Reload meta data of databases which built from meta data snapshot in background.
+     */
+    public void reloadSnapshotDatabases() {
+        metaDataContexts.getSnapshotDatabaseNames().forEach(each -> snapshotReloadExecutor.execute(() -> reloadSnapshotDatabase(each)));
+    }
+    
+    private synchronized void reloadSnapshotDatabase(final String databaseName) {
+        ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(databaseName);
+        try {
+            Map<String, ShardingSphereSchema> reloadedSchemas = reloadSchemas(database);
+            for (String each : new LinkedList<>(database.getSchemas().keySet())) {
+                if (!reloadedSchemas.containsKey(each) && !database.getProtocolType().getSystemSchemas().contains(each)) {
+                    database.putSchema(each, new ShardingSphereSchema());
+                }
+            }
+            reloadedSchemas.forEach(database::putSchema);
+            persistMetaData(database);
+            metaDataContexts.getPersistService().getMetaDataSnapshotPersistService().persistChecksum(databaseName);
+        } catch (final SQLException ex) {
+            log.error("Reload meta data of snapshot database: {} failed", databaseName, ex);
+        }
+    }
+    
+    private Map<String, ShardingSphereSchema> reloadSchemas(final ShardingSphereDatabase database) throws SQLException {
+        DatabaseType storageType = database.getResource().getDatabaseType();
+        GenericSchemaBuilderMaterials materials = new GenericSchemaBuilderMaterials(database.getProtocolType(), storageType, database.getResource().getDataSources(),
+                database.getRuleMetaData().getRules(), metaDataContexts.getMetaData().getProps(), DatabaseTypeEngine.getDefaultSchemaName(storageType, database.getName()));
+        return GenericSchemaBuilder.build(materials);
+    }
+    
     private Map<String, ShardingSphereSchema> getToBeDeletedSchemas(final ShardingSphereDatabase reloadedDatabase) {
         Map<String, ShardingSphereSchema> currentSchemas = metaDataContexts.getMetaData().getDatabase(reloadedDatabase.getName()).getSchemas();
         return currentSchemas.entrySet().stream().filter(entry -> !reloadedDatabase.containsSchema(entry.getKey())).collect(Collectors.toMap(Entry::getKey, Entry::getValue));
@@ -394,6 +450,31 @@ public final class ContextManager implements AutoCloseable {
                 each -> each.getSchemas().forEach((schemaName, tables) -> metaDataContexts.getPersistService().getDatabaseMetaDataService().persistMetaData(each.getName(), schemaName, tables)));
     }
     
+    private void persistMetaData(final ShardingSphereDatabase database) {
+        database.getSchemas().forEach((schemaName, tables) -> metaDataContexts.getPersistService().getDatabaseMetaDataService().persistMetaData(database.getName(), schemaName, tables));
+    }
+    
+    private void persistAlteredTables(final ShardingSphereDatabase originalDatabase, final ShardingSphereDatabase alteredDatabase) {
+        DatabaseMetaDataPersistService databaseMetaDataService = metaDataContexts.getPersistService().getDatabaseMetaDataService();
+        for (Entry<String, ShardingSphereSchema> entry : alteredDatabase.getSchemas().entrySet()) {
+            ShardingSphereSchema originalSchema = originalDatabase.getSchema(entry.getKey());
+            if (null == originalSchema) {
+                databaseMetaDataService.persistMetaData(alteredDatabase.getName(), entry.getKey(), entry.getValue());
+                continue;
+            }
+            Collection<ShardingSphereTable> alteredTables = entry.getValue().getTables().entrySet().stream()
+                    .filter(each -> !each.getValue().equals(originalSchema.getTables().get(each.getKey()))).map(Entry::getValue).collect(Collectors.toList());
+            if (!alteredTables.isEmpty()) {
+                databaseMetaDataService.persistTables(alteredDatabase.getName(), entry.getKey(), alteredTables);
+            }
+            for (String each : originalSchema.getTables().keySet()) {
+                if (!entry.getValue().getTables().containsKey(each)) {
+                    databaseMetaDataService.deleteTable(alteredDatabase.getName(), entry.getKey(), each);
+                }
+            }
+        }
+    }
+    
     /**
      * Reload schema.
      *
@@ -472,6 +553,7 @@ public final class ContextManager implements AutoCloseable {
     
     @Override
     public void close() throws Exception {
+        snapshotReloadExecutor.shutdownNow();
         executorEngine.close();
         metaDataContexts.close();
     }
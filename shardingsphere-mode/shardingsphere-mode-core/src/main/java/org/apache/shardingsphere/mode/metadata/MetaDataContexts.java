@@ -18,16 +18,17 @@
 package org.apache.shardingsphere.mode.metadata;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.rule.identifier.type.ResourceHeldRule;
 import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
 
+import java.util.Collection;
+import java.util.Collections;
+
 /**
  * Meta data contexts.
  */
-@RequiredArgsConstructor
 @Getter
 public final class MetaDataContexts implements AutoCloseable {
     
@@ -37,6 +38,20 @@ public final class MetaDataContexts implements AutoCloseable {
     
     private final OptimizerContext optimizerContext;
     
+    private final Collection<String> snapshotDatabaseNames;
+    
+    public MetaDataContexts(final MetaDataPersistService persistService, final ShardingSphereMetaData metaData, final OptimizerContext optimizerContext) {
+        this(persistService, metaData, optimizerContext, Collections.emptyList());
+    }
+    
+    public MetaDataContexts(final MetaDataPersistService persistService, final ShardingSphereMetaData metaData, final OptimizerContext optimizerContext,
+                            final Collection<String> snapshotDatabaseNames) {
+        this.persistService = persistService;
+        this.metaData = metaData;
+        this.optimizerContext = optimizerContext;
+        this.snapshotDatabaseNames = snapshotDatabaseNames;
+    }
+    
     @Override
     public void close() throws Exception {
         metaData.getGlobalRuleMetaData().findRules(ResourceHeldRule.class).forEach(ResourceHeldRule::closeStaleResource);
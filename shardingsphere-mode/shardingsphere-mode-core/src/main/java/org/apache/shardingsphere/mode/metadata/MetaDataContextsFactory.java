@@ -22,6 +22,7 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContextFactory;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
@@ -30,13 +31,16 @@ import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabasesFactory;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rule.builder.global.GlobalRulesBuilder;
 import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -63,9 +67,35 @@ public final class MetaDataContextsFactory {
         Map<String, DatabaseConfiguration> effectiveDatabaseConfigs = createEffectiveDatabaseConfigurations(databaseNames, databaseConfigs, persistService);
         Collection<RuleConfiguration> globalRuleConfigs = persistService.getGlobalRuleService().load();
         ConfigurationProperties props = new ConfigurationProperties(persistService.getPropsService().load());
-        Map<String, ShardingSphereDatabase> databases = ShardingSphereDatabasesFactory.create(effectiveDatabaseConfigs, props, instanceContext);
+        boolean isSnapshotEnabled = props.<Boolean>getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_ENABLED) && !props.<Boolean>getValue(ConfigurationPropertyKey.LAZY_TABLE_METADATA_ENABLED);
+        Map<String, Map<String, ShardingSphereSchema>> snapshotSchemasMap = isSnapshotEnabled ? loadSnapshotSchemas(effectiveDatabaseConfigs.keySet(), persistService) : Collections.emptyMap();
+        Map<String, ShardingSphereDatabase> databases = ShardingSphereDatabasesFactory.create(effectiveDatabaseConfigs, snapshotSchemasMap, props, instanceContext);
+        if (isSnapshotEnabled) {
+            persistSnapshots(effectiveDatabaseConfigs.keySet(), snapshotSchemasMap.keySet(), databases, persistService);
+        }
         ShardingSphereRuleMetaData globalMetaData = new ShardingSphereRuleMetaData(GlobalRulesBuilder.buildRules(globalRuleConfigs, databases, instanceContext));
-        return new MetaDataContexts(persistService, new ShardingSphereMetaData(databases, globalMetaData, props), OptimizerContextFactory.create(databases, globalMetaData));
+        return new MetaDataContexts(persistService, new ShardingSphereMetaData(databases, globalMetaData, props), OptimizerContextFactory.create(databases, globalMetaData),
+                new LinkedList<>(snapshotSchemasMap.keySet()));
+    }
+    
+    private static Map<String, Map<String, ShardingSphereSchema>> loadSnapshotSchemas(final Collection<String> databaseNames, final MetaDataPersistService persistService) {
+        Map<String, Map<String, ShardingSphereSchema>> result = new HashMap<>(databaseNames.size(), 1);
+        for (String each : databaseNames) {
+            persistService.getMetaDataSnapshotPersistService().load(each).ifPresent(optional -> result.put(each, optional));
+        }
+        return result;
+    }
+    
+    private static void persistSnapshots(final Collection<String> databaseNames, final Collection<String> snapshotDatabaseNames,
+                                         final Map<String, ShardingSphereDatabase> databases, final MetaDataPersistService persistService) {
+        for (String each : databaseNames) {
+            ShardingSphereDatabase database = databases.get(each.toLowerCase());
+            if (null == database || snapshotDatabaseNames.contains(each)) {
+                continue;
+            }
+            database.getSchemas().forEach((schemaName, schema) -> persistService.getDatabaseMetaDataService().persistMetaData(each, schemaName, schema));
+            persistService.getMetaDataSnapshotPersistService().persistChecksum(each);
+        }
     }
     
     private static Map<String, DatabaseConfiguration> createEffectiveDatabaseConfigurations(final Collection<String> databaseNames,
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.datasource.pool.destroyer.DataSourcePoolD
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
 import org.apache.shardingsphere.infra.datasource.props.DataSourcePropertiesCreator;
 import org.apache.shardingsphere.mode.metadata.persist.service.DatabaseMetaDataPersistService;
+import org.apache.shardingsphere.mode.metadata.persist.service.MetaDataSnapshotPersistService;
 import org.apache.shardingsphere.mode.metadata.persist.service.MetaDataVersionPersistService;
 import org.apache.shardingsphere.mode.metadata.persist.service.config.database.DataSourcePersistService;
 import org.apache.shardingsphere.mode.metadata.persist.service.config.database.DatabaseRulePersistService;
@@ -59,6 +60,8 @@ public final class MetaDataPersistService {
     
     private final MetaDataVersionPersistService metaDataVersionPersistService;
     
+    private final MetaDataSnapshotPersistService metaDataSnapshotPersistService;
+    
     public MetaDataPersistService(final PersistRepository repository) {
         this.repository = repository;
         dataSourceService = new DataSourcePersistService(repository);
@@ -67,6 +70,7 @@ public final class MetaDataPersistService {
         globalRuleService = new GlobalRulePersistService(repository);
         propsService = new PropertiesPersistService(repository);
         metaDataVersionPersistService = new MetaDataVersionPersistService(repository);
+        metaDataSnapshotPersistService = new MetaDataSnapshotPersistService(repository, databaseMetaDataService, metaDataVersionPersistService);
     }
     
     /**
@@ -44,6 +44,8 @@ public final class DatabaseMetaDataNode {
     
     private static final String VERSIONS = "versions";
     
+    private static final String SNAPSHOT_CHECKSUM = "snapshot_checksum";
+    
     /**
      * Get meta data data source path.
      *
@@ -113,7 +115,7 @@ public final class DatabaseMetaDataNode {
      * @param databaseName database name
      * @return schemas path
      */
-    private static String getMetaDataSchemasPath(final String databaseName) {
+    public static String getMetaDataSchemasPath(final String databaseName) {
         return String.join("/", getDatabaseNamePath(databaseName), SCHEMAS_NODE);
     }
     
@@ -203,6 +205,16 @@ public final class DatabaseMetaDataNode {
         return getFullMetaDataPath(databaseName, ACTIVE_VERSION);
     }
     
+    /**
+     * Get meta data snapshot checksum path.
+     * 
+     * @param databaseName database name
+     * @return meta data snapshot checksum path
+     */
+    public static String getSnapshotChecksumPath(final String databaseName) {
+        return getFullMetaDataPath(databaseName, SNAPSHOT_CHECKSUM);
+    }
+    
     /**
      * Get database version path.
      * 
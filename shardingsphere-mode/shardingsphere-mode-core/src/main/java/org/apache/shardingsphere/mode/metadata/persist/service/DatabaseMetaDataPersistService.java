@@ -28,6 +28,7 @@ import org.apache.shardingsphere.mode.persist.PersistRepository;
 
 import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -61,8 +62,10 @@ public final class DatabaseMetaDataPersistService {
             persistSchema(databaseName, schemaName);
             return;
         }
-        tables.forEach((key, value) -> repository.persist(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, key),
+        Map<String, String> keyValues = new LinkedHashMap<>(tables.size(), 1);
+        tables.forEach((key, value) -> keyValues.put(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, key),
                 YamlEngine.marshal(new TableMetaDataYamlSwapper().swapToYamlConfiguration(value))));
+        repository.batchPersist(keyValues);
     }
     
     /**
@@ -77,6 +80,22 @@ public final class DatabaseMetaDataPersistService {
                 YamlEngine.marshal(new TableMetaDataYamlSwapper().swapToYamlConfiguration(table)));
     }
     
+    /**
+     * Persist tables meta data in batch.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param tables tables meta data
+     */
+    public void persistTables(final String databaseName, final String schemaName, final Collection<ShardingSphereTable> tables) {
+        Map<String, String> keyValues = new LinkedHashMap<>(tables.size(), 1);
+        for (ShardingSphereTable each : tables) {
+            keyValues.put(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, each.getName().toLowerCase()),
+                    YamlEngine.marshal(new TableMetaDataYamlSwapper().swapToYamlConfiguration(each)));
+        }
+        repository.batchPersist(keyValues);
+    }
+    
     /**
      * Persist schema.
      *
@@ -89,6 +108,7 @@ public final class DatabaseMetaDataPersistService {
     
     private void compareAndPersist(final String databaseName, final String schemaName, final ShardingSphereSchema schema, final ShardingSphereSchema originalSchema) {
         Map<String, ShardingSphereTable> cachedLocalTables = new LinkedHashMap<>(schema.getTables());
+        Collection<ShardingSphereTable> changedTables = new LinkedList<>();
         for (Entry<String, ShardingSphereTable> entry : originalSchema.getTables().entrySet()) {
             String onlineTableName = entry.getKey();
             ShardingSphereTable localTableMetaData = cachedLocalTables.remove(onlineTableName);
@@ -97,9 +117,12 @@ public final class DatabaseMetaDataPersistService {
                 continue;
             }
             if (!localTableMetaData.equals(entry.getValue())) {
-                persistTable(databaseName, schemaName, localTableMetaData);
+                changedTables.add(localTableMetaData);
             }
         }
+        if (!changedTables.isEmpty()) {
+            persistTables(databaseName, schemaName, changedTables);
+        }
         if (!cachedLocalTables.isEmpty()) {
             persistMetaData(databaseName, schemaName, cachedLocalTables);
         }
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.persist.service;
+
+import com.google.common.base.Strings;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+import org.apache.shardingsphere.mode.metadata.persist.node.DatabaseMetaDataNode;
+import org.apache.shardingsphere.mode.persist.PersistRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * Meta data snapshot persist service.
+ * 
+ * <p>Snapshot checksum is kept for rules only, meta data of all data sources is revalidated in background after snapshot loaded.</p>
+ */
+@RequiredArgsConstructor
+public final class MetaDataSnapshotPersistService {
+    
+    private static final String RULES_CHECKSUM_KEY = "rules";
+    
+    private final PersistRepository repository;
+    
+    private final DatabaseMetaDataPersistService databaseMetaDataService;
+    
+    private final MetaDataVersionPersistService metaDataVersionService;
+    
+    /**
+     * Load schemas from meta data snapshot.
+     * 
+     * <p>Snapshot is available only if rules of active version are unchanged since snapshot persisted.</p>
+     *
+     * @param databaseName database name
+     * @return loaded schemas
+     */
+    public Optional<Map<String, ShardingSphereSchema>> load(final String databaseName) {
+        Optional<String> activeVersion = metaDataVersionService.getActiveVersion(databaseName);
+        if (!activeVersion.isPresent() || !createRulesChecksum(databaseName, activeVersion.get()).equals(loadChecksums(databaseName).get(RULES_CHECKSUM_KEY))) {
+            return Optional.empty();
+        }
+        Collection<String> schemaNames = repository.getChildrenKeys(DatabaseMetaDataNode.getMetaDataSchemasPath(databaseName));
+        if (schemaNames.isEmpty()) {
+            return Optional.empty();
+        }
+        Map<String, ShardingSphereSchema> result = new LinkedHashMap<>(schemaNames.size(), 1);
+        for (String each : schemaNames) {
+            result.put(each, databaseMetaDataService.load(databaseName, each).orElseGet(ShardingSphereSchema::new));
+        }
+        return Optional.of(result);
+    }
+    
+    /**
+     * Persist meta data snapshot checksum of current configuration.
+     *
+     * @param databaseName database name
+     */
+    public void persistChecksum(final String databaseName) {
+        Optional<String> activeVersion = metaDataVersionService.getActiveVersion(databaseName);
+        if (!activeVersion.isPresent()) {
+            return;
+        }
+        Map<String, Object> checksums = new LinkedHashMap<>(1, 1);
+        checksums.put(RULES_CHECKSUM_KEY, createRulesChecksum(databaseName, activeVersion.get()));
+        repository.persist(DatabaseMetaDataNode.getSnapshotChecksumPath(databaseName), YamlEngine.marshal(checksums));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> loadChecksums(final String databaseName) {
+        String content = repository.get(DatabaseMetaDataNode.getSnapshotChecksumPath(databaseName));
+        return Strings.isNullOrEmpty(content) ? Collections.emptyMap() : YamlEngine.unmarshal(content, Map.class);
+    }
+    
+    private String createRulesChecksum(final String databaseName, final String version) {
+        return createChecksum(repository.get(DatabaseMetaDataNode.getRulePath(databaseName, version)));
+    }
+    
+    private String createChecksum(final String content) {
+        CRC32 result = new CRC32();
+        if (null != content) {
+            result.update(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return Long.toHexString(result.getValue());
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.mode.persist;
 import org.apache.shardingsphere.spi.type.typed.TypedSPI;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Persist repository.
@@ -57,6 +58,17 @@ public interface PersistRepository extends TypedSPI {
      */
     void persist(String key, String value);
     
+    /**
+     * Persist data in batch.
+     *
+     * <p>Persist one by one by default, repository which supports multiple operations in one request should override it.</p>
+     *
+     * @param keyValues data to be persisted, key is key of data and value is value of data
+     */
+    default void batchPersist(final Map<String, String> keyValues) {
+        keyValues.forEach(this::persist);
+    }
+    
     /**
      * Delete node.
      *
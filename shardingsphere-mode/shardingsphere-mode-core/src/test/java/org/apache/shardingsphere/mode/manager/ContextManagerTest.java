@@ -61,6 +61,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -287,6 +288,20 @@ public final class ContextManagerTest {
         verify(databaseMetaDataPersistService, times(1)).persistMetaData(eq("foo_db"), eq("foo_db"), any(ShardingSphereSchema.class));
     }
     
+    @Test
+    public void assertReloadSnapshotDatabases() {
+        when(metaDataContexts.getSnapshotDatabaseNames()).thenReturn(Collections.singletonList("foo_db"));
+        when(metaDataContexts.getMetaData().getDatabase("foo_db").getResource().getDataSources()).thenReturn(Collections.singletonMap("foo_ds", new MockedDataSource()));
+        MetaDataPersistService persistService = mock(MetaDataPersistService.class, RETURNS_DEEP_STUBS);
+        when(metaDataContexts.getPersistService()).thenReturn(persistService);
+        contextManager.reloadSnapshotDatabases();
+        verify(persistService.getMetaDataSnapshotPersistService(), timeout(5000L)).persistChecksum("foo_db");
+        ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase("foo_db");
+        verify(database).putSchema(eq("foo_schema"), any(ShardingSphereSchema.class));
+        verify(database).putSchema(eq("foo_db"), any(ShardingSphereSchema.class));
+        verify(persistService.getDatabaseMetaDataService()).persistMetaData(eq("foo_db"), eq("foo_schema"), any(ShardingSphereSchema.class));
+    }
+    
     @Test
     public void assertReloadTable() {
         when(metaDataContexts.getMetaData().getDatabase("foo_db").getResource().getDataSources()).thenReturn(Collections.singletonMap("foo_ds", new MockedDataSource()));
@@ -90,6 +90,16 @@ public class DatabaseMetaDataNodeTest {
         assertThat(DatabaseMetaDataNode.getActiveVersionPath("logic_db"), is("/metadata/logic_db/active_version"));
     }
     
+    @Test
+    public void assertGetSnapshotChecksumPath() {
+        assertThat(DatabaseMetaDataNode.getSnapshotChecksumPath("logic_db"), is("/metadata/logic_db/snapshot_checksum"));
+    }
+    
+    @Test
+    public void assertGetMetaDataSchemasPath() {
+        assertThat(DatabaseMetaDataNode.getMetaDataSchemasPath("logic_db"), is("/metadata/logic_db/schemas"));
+    }
+    
     @Test
     public void assertGetVersionByRulesPath() {
         Optional<String> actualVersion = DatabaseMetaDataNode.getVersionByRulesPath("/metadata/logic_db/versions/0/rules");
@@ -33,6 +33,7 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
@@ -43,6 +44,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -59,7 +61,7 @@ public final class DatabaseMetaDataPersistServiceTest {
         ShardingSphereSchema schema = new ShardingSphereSchema();
         schema.getTables().put("t_order", table);
         new DatabaseMetaDataPersistService(repository).persistMetaData("foo_db", "foo_schema", schema);
-        verify(repository).persist(eq("/metadata/foo_db/schemas/foo_schema/tables/t_order"), anyString());
+        verify(repository).batchPersist(argThat(keyValues -> keyValues.containsKey("/metadata/foo_db/schemas/foo_schema/tables/t_order")));
     }
     
     @Test
@@ -104,6 +106,15 @@ public final class DatabaseMetaDataPersistServiceTest {
         verify(repository).persist(eq("/metadata/foo_db/schemas/foo_schema/tables/foo_table"), anyString());
     }
     
+    @Test
+    public void assertPersistTables() {
+        ShardingSphereTable fooTable = new ShardingSphereTable("FOO_TABLE", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereTable barTable = new ShardingSphereTable("bar_table", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        new DatabaseMetaDataPersistService(repository).persistTables("foo_db", "foo_schema", Arrays.asList(fooTable, barTable));
+        verify(repository).batchPersist(argThat(keyValues -> 2 == keyValues.size() && keyValues.containsKey("/metadata/foo_db/schemas/foo_schema/tables/foo_table")
+                && keyValues.containsKey("/metadata/foo_db/schemas/foo_schema/tables/bar_table")));
+    }
+    
     @SneakyThrows({IOException.class, URISyntaxException.class})
     private String readYAML() {
         return Files.readAllLines(Paths.get(ClassLoader.getSystemResource("yaml/schema/schema.yaml").toURI())).stream().map(each -> each + System.lineSeparator()).collect(Collectors.joining());
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.persist.service;
+
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.mode.metadata.persist.node.DatabaseMetaDataNode;
+import org.apache.shardingsphere.mode.persist.PersistRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class MetaDataSnapshotPersistServiceTest {
+    
+    private PersistRepository repository;
+    
+    private MetaDataSnapshotPersistService metaDataSnapshotPersistService;
+    
+    @Before
+    public void setUp() {
+        repository = mock(PersistRepository.class);
+        when(repository.get(DatabaseMetaDataNode.getActiveVersionPath("foo_db"))).thenReturn("0");
+        when(repository.get(DatabaseMetaDataNode.getMetaDataDataSourcePath("foo_db", "0"))).thenReturn("ds_0: {}");
+        when(repository.get(DatabaseMetaDataNode.getRulePath("foo_db", "0"))).thenReturn("- !SHARDING {}");
+        when(repository.getChildrenKeys(DatabaseMetaDataNode.getMetaDataSchemasPath("foo_db"))).thenReturn(Collections.singletonList("foo_schema"));
+        metaDataSnapshotPersistService = new MetaDataSnapshotPersistService(repository, new DatabaseMetaDataPersistService(repository), new MetaDataVersionPersistService(repository));
+    }
+    
+    @Test
+    public void assertPersistChecksum() {
+        assertFalse(persistChecksum().isEmpty());
+    }
+    
+    @Test
+    public void assertPersistChecksumWithoutActiveVersion() {
+        metaDataSnapshotPersistService.persistChecksum("bar_db");
+        verify(repository, never()).persist(anyString(), anyString());
+    }
+    
+    @Test
+    public void assertLoad() {
+        when(repository.get(DatabaseMetaDataNode.getSnapshotChecksumPath("foo_db"))).thenReturn(persistChecksum());
+        Optional<Map<String, ShardingSphereSchema>> actual = metaDataSnapshotPersistService.load("foo_db");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().size(), is(1));
+        assertTrue(actual.get().get("foo_schema").getTables().isEmpty());
+    }
+    
+    @Test
+    public void assertLoadWithoutChecksum() {
+        assertFalse(metaDataSnapshotPersistService.load("foo_db").isPresent());
+    }
+    
+    @Test
+    public void assertLoadWithChangedConfiguration() {
+        when(repository.get(DatabaseMetaDataNode.getSnapshotChecksumPath("foo_db"))).thenReturn(persistChecksum());
+        when(repository.get(DatabaseMetaDataNode.getRulePath("foo_db", "0"))).thenReturn("- !READWRITE_SPLITTING {}");
+        assertFalse(metaDataSnapshotPersistService.load("foo_db").isPresent());
+    }
+    
+    @Test
+    public void assertLoadWithChangedDataSource() {
+        when(repository.get(DatabaseMetaDataNode.getSnapshotChecksumPath("foo_db"))).thenReturn(persistChecksum());
+        when(repository.get(DatabaseMetaDataNode.getMetaDataDataSourcePath("foo_db", "0"))).thenReturn("ds_0: {url: foo_url}");
+        assertTrue(metaDataSnapshotPersistService.load("foo_db").isPresent());
+    }
+    
+    @Test
+    public void assertLoadWithoutSchemas() {
+        when(repository.get(DatabaseMetaDataNode.getSnapshotChecksumPath("foo_db"))).thenReturn(persistChecksum());
+        when(repository.getChildrenKeys(DatabaseMetaDataNode.getMetaDataSchemasPath("foo_db"))).thenReturn(Collections.emptyList());
+        assertFalse(metaDataSnapshotPersistService.load("foo_db").isPresent());
+    }
+    
+    private String persistChecksum() {
+        metaDataSnapshotPersistService.persistChecksum("foo_db");
+        ArgumentCaptor<String> result = ArgumentCaptor.forClass(String.class);
+        verify(repository).persist(eq(DatabaseMetaDataNode.getSnapshotChecksumPath("foo_db")), result.capture());
+        return result.getValue();
+    }
+}
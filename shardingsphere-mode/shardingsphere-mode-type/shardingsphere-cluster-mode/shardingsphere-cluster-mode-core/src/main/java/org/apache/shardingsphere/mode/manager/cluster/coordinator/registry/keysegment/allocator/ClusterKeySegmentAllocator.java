@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.keysegment.allocator;
+
+import com.google.common.base.Strings;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.instance.keysegment.KeySegmentAllocator;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.keysegment.node.KeySegmentNode;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Key segment allocator for cluster mode.
+ */
+@RequiredArgsConstructor
+public final class ClusterKeySegmentAllocator implements KeySegmentAllocator {
+    
+    private static final long INITIAL_KEY = 1L;
+    
+    private final ClusterPersistRepository repository;
+    
+    @Override
+    public long allocate(final String segmentName, final int segmentSize) {
+        Lock lock = repository.getInternalMutexLock(KeySegmentNode.getLockPath(segmentName));
+        lock.lock();
+        try {
+            String nextKeyPath = KeySegmentNode.getNextKeyPath(segmentName);
+            String nextKey = repository.get(nextKeyPath);
+            long result = Strings.isNullOrEmpty(nextKey) ? INITIAL_KEY : Long.parseLong(nextKey);
+            repository.persist(nextKeyPath, String.valueOf(result + segmentSize));
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
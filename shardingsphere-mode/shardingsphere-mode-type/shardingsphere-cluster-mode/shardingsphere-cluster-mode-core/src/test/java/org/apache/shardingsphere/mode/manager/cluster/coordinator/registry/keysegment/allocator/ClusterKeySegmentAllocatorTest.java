@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.keysegment.allocator;
+
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import java.util.concurrent.locks.Lock;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ClusterKeySegmentAllocatorTest {
+    
+    private final ClusterPersistRepository repository = mock(ClusterPersistRepository.class);
+    
+    private final Lock lock = mock(Lock.class);
+    
+    @Before
+    public void setUp() {
+        when(repository.getInternalMutexLock("/key_segment/foo_segment/lock")).thenReturn(lock);
+    }
+    
+    @Test
+    public void assertAllocateFirstSegment() {
+        assertThat(new ClusterKeySegmentAllocator(repository).allocate("foo_segment", 100), is(1L));
+        InOrder inOrder = inOrder(lock, repository);
+        inOrder.verify(lock).lock();
+        inOrder.verify(repository).persist("/key_segment/foo_segment/next_key", "101");
+        inOrder.verify(lock).unlock();
+    }
+    
+    @Test
+    public void assertAllocateNextSegment() {
+        when(repository.get("/key_segment/foo_segment/next_key")).thenReturn("101");
+        assertThat(new ClusterKeySegmentAllocator(repository).allocate("foo_segment", 100), is(101L));
+        InOrder inOrder = inOrder(lock, repository);
+        inOrder.verify(lock).lock();
+        inOrder.verify(repository).persist("/key_segment/foo_segment/next_key", "201");
+        inOrder.verify(lock).unlock();
+    }
+}
@@ -20,9 +20,14 @@ package org.apache.shardingsphere.mode.repository.cluster;
 import com.google.common.base.Preconditions;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.mode.repository.cluster.cache.CachedClusterPersistRepository;
+import org.apache.shardingsphere.mode.repository.cluster.props.ClusterPersistRepositoryProperties;
+import org.apache.shardingsphere.mode.repository.cluster.props.ClusterPersistRepositoryPropertyKey;
 import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.spi.type.typed.TypedSPIRegistry;
 
+import java.util.Properties;
+
 /**
  * Cluster persist repository factory.
  */
@@ -43,6 +48,9 @@ public final class ClusterPersistRepositoryFactory {
         Preconditions.checkNotNull(config, "Cluster persist repository configuration cannot be null.");
         ClusterPersistRepository result = TypedSPIRegistry.getRegisteredService(ClusterPersistRepository.class, config.getType(), config.getProps());
         result.init(config);
-        return result;
+        ClusterPersistRepositoryProperties props = new ClusterPersistRepositoryProperties(null == config.getProps() ? new Properties() : config.getProps());
+        return props.<Boolean>getValue(ClusterPersistRepositoryPropertyKey.READ_CACHE_ENABLED)
+                ? new CachedClusterPersistRepository(result, props.getValue(ClusterPersistRepositoryPropertyKey.READ_CACHE_PATHS))
+                : result;
     }
 }
@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.cluster.cache;
+
+import com.google.common.base.Splitter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Cluster persist repository which answers reads of cached paths from local cache.
+ *
+ * <p>Only paths which are both configured as cached and watched through this repository are cached,
+ * cached entries are invalidated by the events of those watches and by writes of current instance.
+ * This repository does not register watches of its own, so the delegate never watches the same key twice for caching.
+ * Paths which need linearizable reads, such as lock and key segment, must not be cached.</p>
+ */
+public final class CachedClusterPersistRepository implements ClusterPersistRepository {
+    
+    private final ClusterPersistRepository delegate;
+    
+    private final Collection<String> cachedPaths;
+    
+    private final Collection<String> watchedPaths = new CopyOnWriteArrayList<>();
+    
+    private final Map<String, String> values = new ConcurrentHashMap<>();
+    
+    private final Map<String, List<String>> childrenKeys = new ConcurrentHashMap<>();
+    
+    private final AtomicLong invalidatedCount = new AtomicLong();
+    
+    private final AtomicLong hitCount = new AtomicLong();
+    
+    private final AtomicLong missCount = new AtomicLong();
+    
+    public CachedClusterPersistRepository(final ClusterPersistRepository delegate, final String cachedPaths) {
+        this.delegate = delegate;
+        this.cachedPaths = Splitter.on(',').trimResults().omitEmptyStrings().splitToList(cachedPaths);
+    }
+    
+    @Override
+    public void init(final ClusterPersistRepositoryConfiguration config) {
+        delegate.init(config);
+    }
+    
+    @Override
+    public String get(final String key) {
+        if (!isCached(key)) {
+            return delegate.get(key);
+        }
+        String result = values.get(key);
+        if (null != result) {
+            hitCount.incrementAndGet();
+            return result;
+        }
+        missCount.incrementAndGet();
+        long invalidatedCountBeforeLoad = invalidatedCount.get();
+        result = delegate.get(key);
+        if (null != result) {
+            values.put(key, result);
+            if (invalidatedCountBeforeLoad != invalidatedCount.get()) {
+                values.remove(key);
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public List<String> getChildrenKeys(final String key) {
+        if (!isCached(key)) {
+            return delegate.getChildrenKeys(key);
+        }
+        List<String> result = childrenKeys.get(key);
+        if (null != result) {
+            hitCount.incrementAndGet();
+            return new ArrayList<>(result);
+        }
+        missCount.incrementAndGet();
+        long invalidatedCountBeforeLoad = invalidatedCount.get();
+        result = delegate.getChildrenKeys(key);
+        childrenKeys.put(key, new ArrayList<>(result));
+        if (invalidatedCountBeforeLoad != invalidatedCount.get()) {
+            childrenKeys.remove(key);
+        }
+        return result;
+    }
+    
+    private boolean isCached(final String key) {
+        return isCovered(cachedPaths, key) && isCovered(watchedPaths, key);
+    }
+    
+    private boolean isCovered(final Collection<String> paths, final String key) {
+        for (String each : paths) {
+            if (key.equals(each) || key.startsWith(each + PATH_SEPARATOR)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public void persist(final String key, final String value) {
+        try {
+            delegate.persist(key, value);
+        } finally {
+            invalidate(key);
+        }
+    }
+    
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        try {
+            delegate.batchPersist(keyValues);
+        } finally {
+            keyValues.keySet().forEach(this::invalidate);
+        }
+    }
+    
+    @Override
+    public void persistEphemeral(final String key, final String value) {
+        try {
+            delegate.persistEphemeral(key, value);
+        } finally {
+            invalidate(key);
+        }
+    }
+    
+    @Override
+    public String getSequentialId(final String key, final String value) {
+        try {
+            return delegate.getSequentialId(key, value);
+        } finally {
+            invalidate(key);
+        }
+    }
+    
+    @Override
+    public void delete(final String key) {
+        try {
+            delegate.delete(key);
+        } finally {
+            invalidateRecursively(key);
+        }
+    }
+    
+    private void invalidate(final String key) {
+        invalidatedCount.incrementAndGet();
+        values.remove(key);
+        childrenKeys.remove(key);
+        invalidateAncestorChildrenKeys(key);
+    }
+    
+    private void invalidateRecursively(final String key) {
+        invalidatedCount.incrementAndGet();
+        String descendantPrefix = key + PATH_SEPARATOR;
+        values.keySet().removeIf(each -> each.equals(key) || each.startsWith(descendantPrefix));
+        childrenKeys.keySet().removeIf(each -> each.equals(key) || each.startsWith(descendantPrefix));
+        invalidateAncestorChildrenKeys(key);
+    }
+    
+    private void invalidateAncestorChildrenKeys(final String key) {
+        int index = key.lastIndexOf(PATH_SEPARATOR);
+        while (index > 0) {
+            childrenKeys.remove(key.substring(0, index));
+            index = key.lastIndexOf(PATH_SEPARATOR, index - 1);
+        }
+    }
+    
+    @Override
+    public void watch(final String key, final DataChangedEventListener listener) {
+        delegate.watch(key, new CacheInvalidationListener(listener));
+        watchedPaths.add(key);
+    }
+    
+    @Override
+    public void watchSessionConnection(final InstanceContext instanceContext) {
+        delegate.watchSessionConnection(instanceContext);
+    }
+    
+    @Override
+    public Lock getInternalMutexLock(final String lockName) {
+        return delegate.getInternalMutexLock(lockName);
+    }
+    
+    @Override
+    public Lock getInternalReentrantMutexLock(final String lockName) {
+        return delegate.getInternalReentrantMutexLock(lockName);
+    }
+    
+    /**
+     * Get hit count of cached reads.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+    
+    /**
+     * Get miss count of cached reads.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+    
+    @Override
+    public void close() {
+        values.clear();
+        childrenKeys.clear();
+        delegate.close();
+    }
+    
+    @Override
+    public String getType() {
+        return delegate.getType();
+    }
+    
+    @RequiredArgsConstructor
+    private final class CacheInvalidationListener implements DataChangedEventListener {
+        
+        private final DataChangedEventListener listener;
+        
+        @Override
+        public void onChange(final DataChangedEvent event) {
+            if (DataChangedEvent.Type.DELETED == event.getType()) {
+                invalidateRecursively(event.getKey());
+            } else {
+                invalidate(event.getKey());
+            }
+            listener.onChange(event);
+        }
+    }
+}
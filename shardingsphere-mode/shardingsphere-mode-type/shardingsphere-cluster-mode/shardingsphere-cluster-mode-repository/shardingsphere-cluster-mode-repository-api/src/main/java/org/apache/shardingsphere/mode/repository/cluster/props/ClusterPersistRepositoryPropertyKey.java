@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.cluster.props;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.util.props.TypedPropertyKey;
+
+/**
+ * Typed property key of cluster persist repository, which is available for all cluster persist repository types.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum ClusterPersistRepositoryPropertyKey implements TypedPropertyKey {
+    
+    /**
+     * Whether to answer reads of cached paths from local cache, which is invalidated by watching.
+     */
+    READ_CACHE_ENABLED("readCacheEnabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Comma separated root paths whose reads can be answered from local cache.
+     */
+    READ_CACHE_PATHS("readCachePaths", "/metadata,/nodes/compute_nodes,/nodes/storage_nodes,/scaling", String.class);
+    
+    private final String key;
+    
+    private final String defaultValue;
+    
+    private final Class<?> type;
+}
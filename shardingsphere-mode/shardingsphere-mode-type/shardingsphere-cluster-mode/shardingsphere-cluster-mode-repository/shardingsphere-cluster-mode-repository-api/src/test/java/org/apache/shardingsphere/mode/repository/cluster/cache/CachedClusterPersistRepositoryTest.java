@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.cluster.cache;
+
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent.Type;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class CachedClusterPersistRepositoryTest {
+    
+    @Mock
+    private ClusterPersistRepository delegate;
+    
+    @Mock
+    private DataChangedEventListener watcher;
+    
+    private CachedClusterPersistRepository repository;
+    
+    private DataChangedEventListener listener;
+    
+    @Before
+    public void setUp() {
+        repository = new CachedClusterPersistRepository(delegate, "/metadata, /nodes/compute_nodes");
+        verify(delegate, never()).watch(anyString(), any(DataChangedEventListener.class));
+        repository.watch("/metadata", watcher);
+        repository.watch("/nodes/compute_nodes", watcher);
+        ArgumentCaptor<DataChangedEventListener> listenerCaptor = ArgumentCaptor.forClass(DataChangedEventListener.class);
+        verify(delegate).watch(eq("/metadata"), listenerCaptor.capture());
+        verify(delegate).watch(eq("/nodes/compute_nodes"), listenerCaptor.capture());
+        listener = listenerCaptor.getValue();
+    }
+    
+    @Test
+    public void assertGetFromCache() {
+        when(delegate.get("/metadata/foo_db/rules")).thenReturn("foo_value");
+        assertThat(repository.get("/metadata/foo_db/rules"), is("foo_value"));
+        assertThat(repository.get("/metadata/foo_db/rules"), is("foo_value"));
+        verify(delegate).get("/metadata/foo_db/rules");
+        assertThat(repository.getHitCount(), is(1L));
+        assertThat(repository.getMissCount(), is(1L));
+    }
+    
+    @Test
+    public void assertGetWithoutCachedPath() {
+        when(delegate.get("/key_segment/foo_seg/next_key")).thenReturn("1");
+        assertThat(repository.get("/key_segment/foo_seg/next_key"), is("1"));
+        assertThat(repository.get("/key_segment/foo_seg/next_key"), is("1"));
+        verify(delegate, times(2)).get("/key_segment/foo_seg/next_key");
+        assertThat(repository.getHitCount(), is(0L));
+        assertThat(repository.getMissCount(), is(0L));
+    }
+    
+    @Test
+    public void assertGetWithoutWatchedPath() {
+        when(delegate.get("/metadata/foo_db/rules")).thenReturn("foo_value");
+        CachedClusterPersistRepository unwatchedRepository = new CachedClusterPersistRepository(delegate, "/metadata");
+        assertThat(unwatchedRepository.get("/metadata/foo_db/rules"), is("foo_value"));
+        assertThat(unwatchedRepository.get("/metadata/foo_db/rules"), is("foo_value"));
+        verify(delegate, times(2)).get("/metadata/foo_db/rules");
+        assertThat(unwatchedRepository.getHitCount(), is(0L));
+    }
+    
+    @Test
+    public void assertGetAfterDataChanged() {
+        when(delegate.get("/nodes/compute_nodes/status/foo_id")).thenReturn("foo_value", "bar_value");
+        assertThat(repository.get("/nodes/compute_nodes/status/foo_id"), is("foo_value"));
+        listener.onChange(new DataChangedEvent("/nodes/compute_nodes/status/foo_id", "bar_value", Type.UPDATED));
+        assertThat(repository.get("/nodes/compute_nodes/status/foo_id"), is("bar_value"));
+        verify(delegate, times(2)).get("/nodes/compute_nodes/status/foo_id");
+        verify(watcher).onChange(any(DataChangedEvent.class));
+    }
+    
+    @Test
+    public void assertGetChildrenKeysAfterChildAdded() {
+        when(delegate.getChildrenKeys("/metadata")).thenReturn(Collections.singletonList("foo_db"), Arrays.asList("foo_db", "bar_db"));
+        assertThat(repository.getChildrenKeys("/metadata"), is(Collections.singletonList("foo_db")));
+        assertThat(repository.getChildrenKeys("/metadata"), is(Collections.singletonList("foo_db")));
+        listener.onChange(new DataChangedEvent("/metadata/bar_db/schemas", "", Type.ADDED));
+        assertThat(repository.getChildrenKeys("/metadata"), is(Arrays.asList("foo_db", "bar_db")));
+        verify(delegate, times(2)).getChildrenKeys("/metadata");
+    }
+    
+    @Test
+    public void assertPersist() {
+        when(delegate.get("/metadata/foo_db/rules")).thenReturn("foo_value", "bar_value");
+        assertThat(repository.get("/metadata/foo_db/rules"), is("foo_value"));
+        repository.persist("/metadata/foo_db/rules", "bar_value");
+        verify(delegate).persist("/metadata/foo_db/rules", "bar_value");
+        assertThat(repository.get("/metadata/foo_db/rules"), is("bar_value"));
+    }
+    
+    @Test
+    public void assertDelete() {
+        when(delegate.get("/metadata/foo_db/rules")).thenReturn("foo_value", (String) null);
+        assertThat(repository.get("/metadata/foo_db/rules"), is("foo_value"));
+        repository.delete("/metadata/foo_db");
+        verify(delegate).delete("/metadata/foo_db");
+        assertThat(repository.get("/metadata/foo_db/rules"), nullValue());
+    }
+}
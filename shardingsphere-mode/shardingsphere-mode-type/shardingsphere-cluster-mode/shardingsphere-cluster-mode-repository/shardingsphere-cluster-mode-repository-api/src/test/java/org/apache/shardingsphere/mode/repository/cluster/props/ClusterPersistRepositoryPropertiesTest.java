@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.cluster.props;
+
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ClusterPersistRepositoryPropertiesTest {
+    
+    @Test
+    public void assertGetValue() {
+        Properties props = new Properties();
+        props.setProperty(ClusterPersistRepositoryPropertyKey.READ_CACHE_ENABLED.getKey(), "true");
+        props.setProperty(ClusterPersistRepositoryPropertyKey.READ_CACHE_PATHS.getKey(), "/metadata");
+        ClusterPersistRepositoryProperties actual = new ClusterPersistRepositoryProperties(props);
+        assertThat(actual.getValue(ClusterPersistRepositoryPropertyKey.READ_CACHE_ENABLED), is(true));
+        assertThat(actual.getValue(ClusterPersistRepositoryPropertyKey.READ_CACHE_PATHS), is("/metadata"));
+    }
+    
+    @Test
+    public void assertGetDefaultValue() {
+        ClusterPersistRepositoryProperties actual = new ClusterPersistRepositoryProperties(new Properties());
+        assertThat(actual.getValue(ClusterPersistRepositoryPropertyKey.READ_CACHE_ENABLED), is(false));
+        assertThat(actual.getValue(ClusterPersistRepositoryPropertyKey.READ_CACHE_PATHS), is("/metadata,/nodes/compute_nodes,/nodes/storage_nodes,/scaling"));
+    }
+}
@@ -24,6 +24,7 @@ import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Observers;
 import io.etcd.jetcd.Util;
 import io.etcd.jetcd.Watch;
+import io.etcd.jetcd.op.Op;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.PutOption;
@@ -42,7 +43,10 @@ import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEve
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
@@ -53,6 +57,10 @@ import java.util.stream.Collectors;
 @Slf4j
 public final class EtcdRepository implements ClusterPersistRepository {
     
+    private static final int MAX_TXN_OPERATIONS = 128;
+    
+    private static final int MAX_TXN_BYTES = 1024 * 1024;
+    
     private Client client;
     
     private EtcdProperties etcdProps;
@@ -97,6 +105,30 @@ public final class EtcdRepository implements ClusterPersistRepository {
         client.getKVClient().put(ByteSequence.from(key, StandardCharsets.UTF_8), ByteSequence.from(value, StandardCharsets.UTF_8)).get();
     }
     
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        List<Op> operations = new ArrayList<>(Math.min(keyValues.size(), MAX_TXN_OPERATIONS));
+        int batchedBytes = 0;
+        for (Entry<String, String> entry : keyValues.entrySet()) {
+            ByteSequence value = ByteSequence.from(entry.getValue(), StandardCharsets.UTF_8);
+            if (!operations.isEmpty() && (MAX_TXN_OPERATIONS == operations.size() || batchedBytes + value.size() > MAX_TXN_BYTES)) {
+                commit(operations);
+                operations.clear();
+                batchedBytes = 0;
+            }
+            operations.add(Op.put(ByteSequence.from(entry.getKey(), StandardCharsets.UTF_8), value, PutOption.DEFAULT));
+            batchedBytes += value.size();
+        }
+        if (!operations.isEmpty()) {
+            commit(operations);
+        }
+    }
+    
+    private void commit(final List<Op> operations) throws InterruptedException, ExecutionException {
+        client.getKVClient().txn().Then(operations.toArray(new Op[0])).commit().get();
+    }
+    
     @SneakyThrows({InterruptedException.class, ExecutionException.class})
     @Override
     public void persistEphemeral(final String key, final String value) {
@@ -23,9 +23,12 @@ import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KV;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Lease;
+import io.etcd.jetcd.Txn;
 import io.etcd.jetcd.Watch;
 import io.etcd.jetcd.kv.GetResponse;
+import io.etcd.jetcd.kv.TxnResponse;
 import io.etcd.jetcd.lease.LeaseGrantResponse;
+import io.etcd.jetcd.op.Op;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.PutOption;
@@ -46,8 +49,10 @@ import org.mockito.plugins.MemberAccessor;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -156,6 +161,23 @@ public final class EtcdRepositoryTest {
         assertThat(iterator.next(), is("key2"));
     }
     
+    @Test
+    @SuppressWarnings("unchecked")
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    public void assertBatchPersist() {
+        Txn txn = mock(Txn.class);
+        CompletableFuture<TxnResponse> txnFuture = mock(CompletableFuture.class);
+        when(kv.txn()).thenReturn(txn);
+        when(txn.Then(any(Op.class), any(Op.class))).thenReturn(txn);
+        when(txn.commit()).thenReturn(txnFuture);
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1);
+        keyValues.put("key1", "value1");
+        keyValues.put("key2", "value2");
+        repository.batchPersist(keyValues);
+        verify(txn).Then(any(Op.class), any(Op.class));
+        verify(txnFuture).get();
+    }
+    
     @Test
     @SuppressWarnings("unchecked")
     public void assertPersistEphemeral() {
@@ -22,11 +22,13 @@ import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.transaction.CuratorOp;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
 import org.apache.curator.framework.recipes.cache.CuratorCacheListener;
 import org.apache.curator.framework.recipes.cache.TreeCacheEvent;
 import org.apache.curator.retry.ExponentialBackoffRetry;
 import org.apache.curator.utils.CloseableUtils;
+import org.apache.curator.utils.ZKPaths;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
@@ -39,24 +41,34 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.lock.Zookeepe
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperProperties;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperPropertyKey;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
 import org.apache.zookeeper.KeeperException.OperationTimeoutException;
 import org.apache.zookeeper.ZooDefs;
 import org.apache.zookeeper.data.ACL;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
 
 /**
  * Registry repository of ZooKeeper.
  */
 public final class CuratorZookeeperRepository implements ClusterPersistRepository {
     
+    private static final int MAX_TRANSACTION_BYTES = 512 * 1024;
+    
     private final Map<String, CuratorCache> caches = new HashMap<>();
     
     private final Builder builder = CuratorFrameworkFactory.builder();
@@ -154,6 +166,70 @@ public final class CuratorZookeeperRepository implements ClusterPersistRepositor
         }
     }
     
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        Collection<String> existedKeys = getExistedKeys(keyValues.keySet());
+        Map<String, String> batchedKeyValues = new LinkedHashMap<>();
+        List<CuratorOp> operations = new LinkedList<>();
+        int batchedBytes = 0;
+        for (Entry<String, String> entry : keyValues.entrySet()) {
+            byte[] value = entry.getValue().getBytes(StandardCharsets.UTF_8);
+            if (!operations.isEmpty() && batchedBytes + value.length > MAX_TRANSACTION_BYTES) {
+                commit(batchedKeyValues, operations);
+                batchedKeyValues.clear();
+                operations.clear();
+                batchedBytes = 0;
+            }
+            createOperation(entry.getKey(), value, existedKeys.contains(entry.getKey())).ifPresent(operations::add);
+            batchedKeyValues.put(entry.getKey(), entry.getValue());
+            batchedBytes += value.length;
+        }
+        if (!operations.isEmpty()) {
+            commit(batchedKeyValues, operations);
+        }
+    }
+    
+    private Collection<String> getExistedKeys(final Collection<String> keys) {
+        Collection<String> result = new HashSet<>();
+        for (String each : keys.stream().map(key -> ZKPaths.getPathAndNode(key).getPath()).collect(Collectors.toSet())) {
+            try {
+                if (isExisted(each)) {
+                    client.getChildren().forPath(each).forEach(child -> result.add(ZKPaths.makePath(each, child)));
+                } else {
+                    client.create().creatingParentsIfNeeded().withMode(CreateMode.PERSISTENT).forPath(each, new byte[0]);
+                }
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                CuratorZookeeperExceptionHandler.handleException(ex);
+            }
+        }
+        return result;
+    }
+    
+    private Optional<CuratorOp> createOperation(final String key, final byte[] value, final boolean isExisted) {
+        try {
+            return Optional.of(isExisted ? client.transactionOp().setData().forPath(key, value) : client.transactionOp().create().withMode(CreateMode.PERSISTENT).forPath(key, value));
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            CuratorZookeeperExceptionHandler.handleException(ex);
+            return Optional.empty();
+        }
+    }
+    
+    private void commit(final Map<String, String> keyValues, final List<CuratorOp> operations) {
+        try {
+            client.transaction().forOperations(operations);
+        } catch (final KeeperException ex) {
+            keyValues.forEach(this::persist);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            CuratorZookeeperExceptionHandler.handleException(ex);
+        }
+    }
+    
     private void update(final String key, final String value) {
         try {
             client.setData().forPath(key, value.getBytes(StandardCharsets.UTF_8));
@@ -227,9 +303,10 @@ public final class CuratorZookeeperRepository implements ClusterPersistRepositor
     }
     
     @Override
-    public void watch(final String key, final DataChangedEventListener listener) {
+    public synchronized void watch(final String key, final DataChangedEventListener listener) {
         CuratorCache cache = caches.get(key);
-        if (null == cache) {
+        boolean isNewCache = null == cache;
+        if (isNewCache) {
             cache = CuratorCache.build(client, key);
             caches.put(key, cache);
         }
@@ -242,7 +319,9 @@ public final class CuratorZookeeperRepository implements ClusterPersistRepositor
                     }
                 }).build();
         cache.listenable().addListener(curatorCacheListener);
-        start(cache);
+        if (isNewCache) {
+            start(cache);
+        }
     }
     
     private void start(final CuratorCache cache) {
@@ -30,6 +30,8 @@ import org.apache.curator.framework.api.ExistsBuilder;
 import org.apache.curator.framework.api.GetChildrenBuilder;
 import org.apache.curator.framework.api.ProtectACLCreateModeStatPathAndBytesable;
 import org.apache.curator.framework.api.SetDataBuilder;
+import org.apache.curator.framework.api.transaction.CuratorMultiTransaction;
+import org.apache.curator.framework.api.transaction.TransactionOp;
 import org.apache.curator.framework.listen.Listenable;
 import org.apache.curator.framework.recipes.cache.ChildData;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
@@ -55,6 +57,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -64,9 +67,12 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -177,6 +183,24 @@ public final class CuratorZookeeperRepositoryTest {
         verify(setDataBuilder).forPath("/test", "value2".getBytes(StandardCharsets.UTF_8));
     }
     
+    @Test
+    @SneakyThrows
+    public void assertBatchPersist() {
+        when(existsBuilder.forPath("/test")).thenReturn(new Stat());
+        when(getChildrenBuilder.forPath("/test")).thenReturn(Collections.singletonList("existed"));
+        TransactionOp transactionOp = mock(TransactionOp.class, RETURNS_DEEP_STUBS);
+        when(client.transactionOp()).thenReturn(transactionOp);
+        CuratorMultiTransaction transaction = mock(CuratorMultiTransaction.class);
+        when(client.transaction()).thenReturn(transaction);
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1);
+        keyValues.put("/test/existed", "value5");
+        keyValues.put("/test/new", "value6");
+        REPOSITORY.batchPersist(keyValues);
+        verify(transactionOp.setData()).forPath("/test/existed", "value5".getBytes(StandardCharsets.UTF_8));
+        verify(transactionOp.create().withMode(CreateMode.PERSISTENT)).forPath("/test/new", "value6".getBytes(StandardCharsets.UTF_8));
+        verify(transaction).forOperations(anyList());
+    }
+    
     @Test
     @SneakyThrows
     public void assertPersistEphemeralNotExist() {
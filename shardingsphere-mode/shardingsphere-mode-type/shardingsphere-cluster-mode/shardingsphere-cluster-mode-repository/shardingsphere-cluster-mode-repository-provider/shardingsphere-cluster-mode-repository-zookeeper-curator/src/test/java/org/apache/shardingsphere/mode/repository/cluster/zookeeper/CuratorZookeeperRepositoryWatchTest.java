@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.cluster.zookeeper;
+
+import org.apache.curator.test.TestingServer;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
+import org.apache.shardingsphere.mode.repository.cluster.cache.CachedClusterPersistRepository;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class CuratorZookeeperRepositoryWatchTest {
+    
+    private static TestingServer testingServer;
+    
+    private static CuratorZookeeperRepository repository;
+    
+    @BeforeClass
+    public static void setUp() throws Exception {
+        testingServer = new TestingServer();
+        repository = new CuratorZookeeperRepository();
+        repository.init(new ClusterPersistRepositoryConfiguration(repository.getType(), "watch_test", testingServer.getConnectString(), new Properties()));
+    }
+    
+    @AfterClass
+    public static void tearDown() throws Exception {
+        repository.close();
+        testingServer.close();
+    }
+    
+    @Test
+    public void assertWatchSameKeyTwice() throws InterruptedException {
+        BlockingQueue<DataChangedEvent> firstEvents = new LinkedBlockingQueue<>();
+        BlockingQueue<DataChangedEvent> secondEvents = new LinkedBlockingQueue<>();
+        repository.watch("/same_key", firstEvents::add);
+        repository.watch("/same_key", secondEvents::add);
+        repository.persist("/same_key/foo", "foo_value");
+        assertThat(awaitEvent(firstEvents, "/same_key/foo", "foo_value").getType(), is(DataChangedEvent.Type.ADDED));
+        assertThat(awaitEvent(secondEvents, "/same_key/foo", "foo_value").getType(), is(DataChangedEvent.Type.ADDED));
+    }
+    
+    @Test
+    public void assertGetFromCachedRepositoryAfterChangedByOtherInstance() throws InterruptedException {
+        CachedClusterPersistRepository cachedRepository = new CachedClusterPersistRepository(repository, "/cached");
+        BlockingQueue<DataChangedEvent> events = new LinkedBlockingQueue<>();
+        repository.watch("/cached", event -> {
+        });
+        cachedRepository.watch("/cached", events::add);
+        repository.persist("/cached/foo", "foo_value");
+        awaitEvent(events, "/cached/foo", "foo_value");
+        assertThat(cachedRepository.get("/cached/foo"), is("foo_value"));
+        assertThat(cachedRepository.get("/cached/foo"), is("foo_value"));
+        assertThat(cachedRepository.getHitCount(), is(1L));
+        repository.persist("/cached/foo", "bar_value");
+        awaitEvent(events, "/cached/foo", "bar_value");
+        assertThat(cachedRepository.get("/cached/foo"), is("bar_value"));
+    }
+    
+    private DataChangedEvent awaitEvent(final BlockingQueue<DataChangedEvent> events, final String key, final String value) throws InterruptedException {
+        while (true) {
+            DataChangedEvent result = events.poll(30L, TimeUnit.SECONDS);
+            if (null == result) {
+                throw new AssertionError(String.format("No event of `%s` with value `%s` received.", key, value));
+            }
+            if (key.equals(result.getKey()) && value.equals(result.getValue())) {
+                return result;
+            }
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.manager.ContextManagerBuilder;
 import org.apache.shardingsphere.mode.manager.ContextManagerBuilderParameter;
 import org.apache.shardingsphere.mode.process.subscriber.ProcessRegistrySubscriber;
+import org.apache.shardingsphere.mode.manager.standalone.keysegment.allocator.StandaloneKeySegmentAllocator;
 import org.apache.shardingsphere.mode.manager.standalone.lock.StandaloneLockContext;
 import org.apache.shardingsphere.mode.manager.standalone.workerid.generator.StandaloneWorkerIdGenerator;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
@@ -46,10 +47,12 @@ public final class StandaloneContextManagerBuilder implements ContextManagerBuil
         StandalonePersistRepository repository = StandalonePersistRepositoryFactory.getInstance(parameter.getModeConfiguration().getRepository());
         MetaDataPersistService persistService = new MetaDataPersistService(repository);
         persistConfigurations(persistService, parameter);
-        InstanceContext instanceContext = buildInstanceContext(parameter);
+        InstanceContext instanceContext = buildInstanceContext(repository, parameter);
         new ProcessRegistrySubscriber(instanceContext.getEventBusContext());
         MetaDataContexts metaDataContexts = MetaDataContextsFactory.create(persistService, parameter.getDatabaseConfigs(), instanceContext);
-        return new ContextManager(metaDataContexts, instanceContext);
+        ContextManager result = new ContextManager(metaDataContexts, instanceContext);
+        result.reloadSnapshotDatabases();
+        return result;
     }
     
     private void persistConfigurations(final MetaDataPersistService persistService, final ContextManagerBuilderParameter parameter) {
@@ -58,9 +61,9 @@ public final class StandaloneContextManagerBuilder implements ContextManagerBuil
         }
     }
     
-    private InstanceContext buildInstanceContext(final ContextManagerBuilderParameter parameter) {
+    private InstanceContext buildInstanceContext(final StandalonePersistRepository repository, final ContextManagerBuilderParameter parameter) {
         return new InstanceContext(new ComputeNodeInstance(parameter.getInstanceMetaData()),
-                new StandaloneWorkerIdGenerator(), parameter.getModeConfiguration(), new StandaloneLockContext(), new EventBusContext());
+                new StandaloneWorkerIdGenerator(), new StandaloneKeySegmentAllocator(repository), parameter.getModeConfiguration(), new StandaloneLockContext(), new EventBusContext());
     }
     
     @Override
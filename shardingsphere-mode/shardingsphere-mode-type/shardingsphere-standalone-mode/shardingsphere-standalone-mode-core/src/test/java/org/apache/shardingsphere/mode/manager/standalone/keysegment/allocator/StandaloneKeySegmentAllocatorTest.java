@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.standalone.keysegment.allocator;
+
+import org.apache.shardingsphere.mode.manager.standalone.fixture.StandalonePersistRepositoryFixture;
+import org.apache.shardingsphere.mode.repository.standalone.StandalonePersistRepository;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class StandaloneKeySegmentAllocatorTest {
+    
+    @Test
+    public void assertAllocate() {
+        StandalonePersistRepository repository = new StandalonePersistRepositoryFixture();
+        StandaloneKeySegmentAllocator allocator = new StandaloneKeySegmentAllocator(repository);
+        assertThat(allocator.allocate("foo_segment", 100), is(1L));
+        assertThat(allocator.allocate("foo_segment", 100), is(101L));
+        assertThat(allocator.allocate("bar_segment", 10), is(1L));
+        assertThat(repository.get("/key_segment/foo_segment/next_key"), is("201"));
+    }
+}
@@ -29,14 +29,19 @@ import org.apache.shardingsphere.infra.binder.statement.ddl.CloseStatementContex
 import org.apache.shardingsphere.infra.binder.statement.ddl.CursorStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.binder.type.CursorAvailable;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.context.refresher.MetaDataRefreshEngine;
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
 import org.apache.shardingsphere.infra.distsql.exception.resource.RequiredResourceMissedException;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.event.MetaDataRefreshedEvent;
 import org.apache.shardingsphere.infra.metadata.database.schema.util.SystemSchemaUtil;
@@ -55,13 +60,20 @@ import org.apache.shardingsphere.proxy.backend.response.header.query.QueryRespon
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.handler.data.DatabaseBackendHandler;
+import org.apache.shardingsphere.sharding.merge.common.IteratorStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.ddl.fetch.FetchOrderByValueGroupsHolder;
 
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Properties;
 
 /**
  * Database communication engine.
@@ -70,13 +82,20 @@ import java.util.Optional;
 @Setter(AccessLevel.PROTECTED)
 public abstract class DatabaseCommunicationEngine implements DatabaseBackendHandler {
     
+    private static final String CHARACTER_ENCODING_PROPERTY = "characterEncoding";
+    
+    private static final String CHARACTER_SET_RESULTS_PROPERTY = "characterSetResults";
+    
+    private static final Collection<Integer> RELAYABLE_COLUMN_TYPES = new HashSet<>(Arrays.asList(Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.NCHAR, Types.NVARCHAR,
+            Types.LONGNVARCHAR, Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT, Types.DECIMAL, Types.NUMERIC, Types.BINARY, Types.VARBINARY, Types.LONGVARBINARY));
+    
     private final String driverType;
     
     private final ShardingSphereDatabase database;
     
     private final LogicSQL logicSQL;
     
-    private final KernelProcessor kernelProcessor = new KernelProcessor();
+    private final KernelProcessor kernelProcessor;
     
     private final MetaDataRefreshEngine metadataRefreshEngine;
     
@@ -84,6 +103,8 @@ public abstract class DatabaseCommunicationEngine implements DatabaseBackendHand
     
     private MergedResult mergedResult;
     
+    private Charset relayCharset;
+    
     private final BackendConnection<?> backendConnection;
     
     private final LockJudgeEngine lockJudgeEngine;
@@ -93,8 +114,9 @@ public abstract class DatabaseCommunicationEngine implements DatabaseBackendHand
         failedIfBackendNotReady(backendConnection.getConnectionSession(), sqlStatementContext);
         this.driverType = driverType;
         this.database = database;
-        this.logicSQL = logicSQL;
+        this.logicSQL = new LogicSQL(sqlStatementContext, logicSQL.getSql(), logicSQL.getParameters(), backendConnection.getConnectionSession().getConnectionWriteContext());
         this.backendConnection = backendConnection;
+        kernelProcessor = backendConnection.getConnectionSession().getKernelProcessor();
         String databaseName = backendConnection.getConnectionSession().getDatabaseName();
         metadataRefreshEngine = new MetaDataRefreshEngine(database,
                 ProxyContext.getInstance().getContextManager().getMetaDataContexts().getOptimizerContext().getFederationMetaData().getDatabase(databaseName),
@@ -155,9 +177,31 @@ public abstract class DatabaseCommunicationEngine implements DatabaseBackendHand
     protected QueryResponseHeader processExecuteQuery(final ExecutionContext executionContext, final List<QueryResult> queryResults, final QueryResult queryResultSample) throws SQLException {
         queryHeaders = createQueryHeaders(executionContext, queryResultSample);
         mergedResult = mergeQuery(executionContext.getSqlStatementContext(), queryResults);
+        relayCharset = isRelayableQuery(executionContext, queryResults) ? findStorageCharset(executionContext.getExecutionUnits().iterator().next().getDataSourceName()).orElse(null) : null;
         return new QueryResponseHeader(queryHeaders);
     }
     
+    private boolean isRelayableQuery(final ExecutionContext executionContext, final List<QueryResult> queryResults) {
+        return 1 == queryResults.size() && 1 == executionContext.getExecutionUnits().size() && queryResults.get(0) instanceof JDBCStreamQueryResult
+                && (mergedResult instanceof TransparentMergedResult || mergedResult instanceof IteratorStreamMergedResult) && JDBCDriverType.STATEMENT.equals(driverType)
+                && database.getProtocolType().getType().equals(database.getResource().getDatabaseType().getType())
+                && ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_RELAY_ENABLED);
+    }
+    
+    private Optional<Charset> findStorageCharset(final String dataSourceName) {
+        DataSourceMetaData dataSourceMetaData = database.getResource().getDataSourceMetaData(dataSourceName);
+        if (null == dataSourceMetaData) {
+            return Optional.empty();
+        }
+        Properties queryProps = dataSourceMetaData.getQueryProperties();
+        String charsetName = queryProps.getProperty(CHARACTER_SET_RESULTS_PROPERTY, queryProps.getProperty(CHARACTER_ENCODING_PROPERTY));
+        try {
+            return null != charsetName && Charset.isSupported(charsetName) ? Optional.of(Charset.forName(charsetName)) : Optional.empty();
+        } catch (final IllegalCharsetNameException ex) {
+            return Optional.empty();
+        }
+    }
+    
     protected List<QueryHeader> createQueryHeaders(final ExecutionContext executionContext, final QueryResult queryResultSample) throws SQLException {
         int columnCount = getColumnCount(executionContext, queryResultSample);
         List<QueryHeader> result = new ArrayList<>(columnCount);
@@ -227,6 +271,32 @@ public abstract class DatabaseCommunicationEngine implements DatabaseBackendHand
         return null != mergedResult && mergedResult.next();
     }
     
+    protected final void commitPendingWritesIfAutoCommit() {
+        if (!backendConnection.getConnectionSession().getTransactionStatus().isInTransaction()) {
+            logicSQL.getConnectionWriteContext().commitPendingWrites();
+        }
+    }
+    
+    protected final void clearPendingWritesIfAutoCommit() {
+        if (!backendConnection.getConnectionSession().getTransactionStatus().isInTransaction()) {
+            logicSQL.getConnectionWriteContext().clearPendingWrites();
+        }
+    }
+    
+    protected final Optional<SQLException> closeMergedResult() {
+        if (null == mergedResult) {
+            return Optional.empty();
+        }
+        try {
+            mergedResult.close();
+        } catch (final SQLException ex) {
+            return Optional.of(ex);
+        } finally {
+            mergedResult = null;
+        }
+        return Optional.empty();
+    }
+    
     /**
      * Get query response row.
      *
@@ -243,6 +313,34 @@ public abstract class DatabaseCommunicationEngine implements DatabaseBackendHand
         return new QueryResponseRow(cells);
     }
     
+    /**
+     * Get query response row which is relayed as raw bytes from storage node if possible.
+     * 
+     * <p>
+     * Only text protocol query result streamed from single data node of same database type without merging or decorating can be relayed,
+     * and the character set of storage node connection configured by JDBC URL must be same as character set of client.
+     * Only cells of character, integral, decimal and binary columns are relayed, whose bytes sent by storage node are same as encoded from typed value,
+     * other cells such as TINYINT(1), BIT(1) and temporal values keep the typed encoding.
+     * </p>
+     *
+     * @param clientCharset character set of client
+     * @return query response row
+     * @throws SQLException SQL exception
+     */
+    @Override
+    public QueryResponseRow getRelayedRowData(final Charset clientCharset) throws SQLException {
+        if (!clientCharset.equals(relayCharset)) {
+            return getRowData();
+        }
+        List<QueryResponseCell> cells = new ArrayList<>(queryHeaders.size());
+        for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
+            int columnType = queryHeaders.get(columnIndex - 1).getColumnType();
+            Object data = RELAYABLE_COLUMN_TYPES.contains(columnType) ? mergedResult.getValue(columnIndex, byte[].class) : mergedResult.getValue(columnIndex, Object.class);
+            cells.add(new QueryResponseCell(columnType, data));
+        }
+        return new QueryResponseRow(cells);
+    }
+    
     protected void checkLockedDatabase(final ExecutionContext executionContext) {
         if (lockJudgeEngine.isLocked(ProxyContext.getInstance().getContextManager().getInstanceContext().getLockContext(),
                 backendConnection.getConnectionSession().getDatabaseName(), executionContext.getSqlStatementContext())) {
@@ -29,8 +29,10 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCPrefetchStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.ExecutorStatementManager;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.federation.executor.FederationContext;
 import org.apache.shardingsphere.infra.federation.executor.FederationExecutor;
@@ -76,6 +78,8 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
     
+    private final Collection<JDBCPrefetchStreamQueryResult> cachedPrefetchQueryResults = new CopyOnWriteArrayList<>();
+    
     private final JDBCBackendConnection backendConnection;
     
     private volatile FederationExecutor federationExecutor;
@@ -104,6 +108,15 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Add prefetch query result.
+     *
+     * @param prefetchQueryResult prefetch query result to be added
+     */
+    public void add(final JDBCPrefetchStreamQueryResult prefetchQueryResult) {
+        cachedPrefetchQueryResults.add(prefetchQueryResult);
+    }
+    
     /**
      * Execute to database.
      *
@@ -130,7 +143,13 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
         }
         proxySQLExecutor.checkExecutePrerequisites(executionContext);
         checkLockedDatabase(executionContext);
-        List result = proxySQLExecutor.execute(executionContext);
+        List result;
+        try {
+            result = proxySQLExecutor.execute(executionContext);
+            commitPendingWritesIfAutoCommit();
+        } finally {
+            clearPendingWritesIfAutoCommit();
+        }
         refreshMetaData(executionContext);
         Object executeResultSample = result.iterator().next();
         return executeResultSample instanceof QueryResult
@@ -187,6 +206,8 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
     @Override
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        closeMergedResult().ifPresent(result::add);
+        result.addAll(closePrefetchQueryResults());
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         closeFederationExecutor().ifPresent(result::add);
@@ -198,6 +219,19 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
         throw ex;
     }
     
+    private Collection<SQLException> closePrefetchQueryResults() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (JDBCPrefetchStreamQueryResult each : cachedPrefetchQueryResults) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        cachedPrefetchQueryResults.clear();
+        return result;
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -214,6 +248,9 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
     private Collection<SQLException> closeStatements() {
         Collection<SQLException> result = new LinkedList<>();
         for (Statement each : cachedStatements) {
+            if (isReleasedToCache(each)) {
+                continue;
+            }
             try {
                 each.cancel();
                 each.close();
@@ -225,6 +262,11 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
         return result;
     }
     
+    private boolean isReleasedToCache(final Statement statement) {
+        ExecutorStatementManager<?, ?, ?> statementManager = backendConnection.getConnectionSession().getStatementManager();
+        return statementManager instanceof JDBCBackendStatement && ((JDBCBackendStatement) statementManager).releaseStatement(statement);
+    }
+    
     private Optional<SQLException> closeFederationExecutor() {
         if (null != federationExecutor) {
             try {
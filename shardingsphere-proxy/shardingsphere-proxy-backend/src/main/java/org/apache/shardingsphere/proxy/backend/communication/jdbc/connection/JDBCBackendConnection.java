@@ -25,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCConnectionManager;
 import org.apache.shardingsphere.proxy.backend.communication.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.JDBCBackendStatement;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction.JDBCBackendTransactionManager;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.BackendConnectionException;
@@ -246,6 +247,9 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
         Collection<SQLException> result = new LinkedList<>();
         synchronized (cachedConnections) {
             for (Connection each : cachedConnections.values()) {
+                if (connectionSession.getStatementManager() instanceof JDBCBackendStatement) {
+                    result.addAll(((JDBCBackendStatement) connectionSession.getStatementManager()).invalidatePreparedStatementCache(each));
+                }
                 try {
                     if (forceRollback && connectionSession.getTransactionStatus().isInTransaction()) {
                         each.rollback();
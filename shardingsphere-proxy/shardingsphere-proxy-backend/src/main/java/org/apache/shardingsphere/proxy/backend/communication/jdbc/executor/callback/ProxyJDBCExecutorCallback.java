@@ -26,9 +26,11 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.s
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.JDBCMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCPrefetchStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.JDBCDatabaseCommunicationEngine;
+import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
@@ -37,6 +39,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * JDBC executor callback for proxy.
@@ -82,7 +85,28 @@ public abstract class ProxyJDBCExecutorCallback extends JDBCExecutorCallback<Exe
     protected abstract boolean execute(String sql, Statement statement, boolean isReturnGeneratedKeys) throws SQLException;
     
     private QueryResult createQueryResult(final ResultSet resultSet, final ConnectionMode connectionMode) throws SQLException {
-        return ConnectionMode.MEMORY_STRICTLY == connectionMode ? new JDBCStreamQueryResult(resultSet) : new JDBCMemoryQueryResult(resultSet, getDatabaseType());
+        return ConnectionMode.MEMORY_STRICTLY == connectionMode ? createStreamQueryResult(resultSet) : new JDBCMemoryQueryResult(resultSet, getDatabaseType());
+    }
+    
+    private QueryResult createStreamQueryResult(final ResultSet resultSet) throws SQLException {
+        int prefetchSize = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_PREFETCH_SIZE);
+        if (prefetchSize > 0) {
+            Optional<JDBCPrefetchStreamQueryResult> result = createPrefetchStreamQueryResult(resultSet, prefetchSize);
+            if (result.isPresent()) {
+                databaseCommunicationEngine.add(result.get());
+                return result.get();
+            }
+        }
+        return new JDBCStreamQueryResult(resultSet);
+    }
+    
+    private Optional<JDBCPrefetchStreamQueryResult> createPrefetchStreamQueryResult(final ResultSet resultSet, final int prefetchSize) throws SQLException {
+        try {
+            return Optional.of(new JDBCPrefetchStreamQueryResult(resultSet, getDatabaseType(), BackendExecutorContext.getInstance().getPrefetchExecutorService(), prefetchSize));
+        } catch (final RejectedExecutionException ignored) {
+            // All prefetch threads are busy, read rows on the consumer thread instead.
+            return Optional.empty();
+        }
     }
     
     private long getGeneratedKey(final Statement statement) throws SQLException {
@@ -17,9 +17,12 @@
 
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.statement;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.db.protocol.parameter.TypeUnspecifiedSQLParameter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
@@ -33,18 +36,26 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * JDBC backend statement.
  */
 @Getter
 @Setter
+@Slf4j
 public final class JDBCBackendStatement implements ExecutorJDBCStatementManager {
     
     private String databaseName;
     
+    @Setter(AccessLevel.NONE)
+    private final Map<Connection, PreparedStatementCache> preparedStatementCaches = new ConcurrentHashMap<>();
+    
     @Override
     public Statement createStorageResource(final Connection connection, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
         Statement result = connection.createStatement();
@@ -58,9 +69,7 @@ public final class JDBCBackendStatement implements ExecutorJDBCStatementManager
     public Statement createStorageResource(final ExecutionUnit executionUnit, final Connection connection, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
         String sql = executionUnit.getSqlUnit().getSql();
         List<Object> parameters = executionUnit.getSqlUnit().getParameters();
-        PreparedStatement result = option.isReturnGeneratedKeys()
-                ? connection.prepareStatement(executionUnit.getSqlUnit().getSql(), Statement.RETURN_GENERATED_KEYS)
-                : connection.prepareStatement(sql);
+        PreparedStatement result = getPreparedStatement(connection, sql, option.isReturnGeneratedKeys());
         for (int i = 0; i < parameters.size(); i++) {
             Object parameter = parameters.get(i);
             if (parameter instanceof TypeUnspecifiedSQLParameter) {
@@ -75,6 +84,55 @@ public final class JDBCBackendStatement implements ExecutorJDBCStatementManager
         return result;
     }
     
+    private PreparedStatement getPreparedStatement(final Connection connection, final String sql, final boolean returnGeneratedKeys) throws SQLException {
+        int cacheSize = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE);
+        if (cacheSize <= 0) {
+            return prepareStatement(connection, sql, returnGeneratedKeys);
+        }
+        PreparedStatementCache cache = preparedStatementCaches.computeIfAbsent(connection, unused -> new PreparedStatementCache(cacheSize));
+        Optional<PreparedStatement> cached = cache.borrow(sql, returnGeneratedKeys);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        PreparedStatement result = prepareStatement(connection, sql, returnGeneratedKeys);
+        cache.put(sql, returnGeneratedKeys, result);
+        return result;
+    }
+    
+    private PreparedStatement prepareStatement(final Connection connection, final String sql, final boolean returnGeneratedKeys) throws SQLException {
+        return returnGeneratedKeys ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql);
+    }
+    
+    /**
+     * Release statement to prepared statement cache.
+     *
+     * @param statement statement to be released
+     * @return released or not, statement which is not cached should be closed by caller
+     */
+    public boolean releaseStatement(final Statement statement) {
+        for (PreparedStatementCache each : preparedStatementCaches.values()) {
+            if (each.release(statement)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Invalidate prepared statement cache of connection, which should be called before connection released.
+     *
+     * @param connection connection to be released
+     * @return SQL exceptions when cached statements close
+     */
+    public Collection<SQLException> invalidatePreparedStatementCache(final Connection connection) {
+        PreparedStatementCache cache = preparedStatementCaches.remove(connection);
+        if (null == cache) {
+            return Collections.emptyList();
+        }
+        log.debug("Invalidate prepared statement cache, hit count: {}, miss count: {}, hit rate: {}", cache.getHitCount(), cache.getMissCount(), cache.getHitRate());
+        return cache.invalidate();
+    }
+    
     private void setFetchSize(final Statement statement) throws SQLException {
         DatabaseType databaseType = ProxyContext.getInstance().getContextManager().getMetaDataContexts()
                 .getMetaData().getDatabase(null == databaseName ? SQLStatementDatabaseHolder.get() : databaseName).getResource().getDatabaseType();
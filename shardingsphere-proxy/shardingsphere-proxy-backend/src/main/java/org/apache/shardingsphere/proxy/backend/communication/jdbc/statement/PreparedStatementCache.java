@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.statement;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * LRU cache of prepared statements created by one backend connection.
+ * 
+ * <p>
+ * A cached prepared statement is borrowed by one execution at a time and is returned by {@link #release(Statement)} instead of being closed.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class PreparedStatementCache {
+    
+    private final int capacity;
+    
+    private final Map<CacheKey, PreparedStatement> statements = new LinkedHashMap<>(16, 0.75F, true);
+    
+    private final Set<Statement> inUseStatements = Collections.newSetFromMap(new IdentityHashMap<>());
+    
+    @Getter
+    private volatile long hitCount;
+    
+    @Getter
+    private volatile long missCount;
+    
+    /**
+     * Borrow cached prepared statement.
+     *
+     * @param sql SQL
+     * @param returnGeneratedKeys whether return generated keys
+     * @return borrowed prepared statement, empty if not cached or in use
+     * @throws SQLException SQL exception
+     */
+    public synchronized Optional<PreparedStatement> borrow(final String sql, final boolean returnGeneratedKeys) throws SQLException {
+        CacheKey key = new CacheKey(sql, returnGeneratedKeys);
+        PreparedStatement result = statements.get(key);
+        if (null != result && result.isClosed()) {
+            statements.remove(key);
+            inUseStatements.remove(result);
+            result = null;
+        }
+        if (null == result || inUseStatements.contains(result)) {
+            missCount++;
+            return Optional.empty();
+        }
+        hitCount++;
+        inUseStatements.add(result);
+        return Optional.of(result);
+    }
+    
+    /**
+     * Put prepared statement into cache, the statement is in use after put.
+     *
+     * @param sql SQL
+     * @param returnGeneratedKeys whether return generated keys
+     * @param preparedStatement prepared statement
+     * @return put or not, prepared statement will not be put if another statement of same SQL is cached
+     */
+    public synchronized boolean put(final String sql, final boolean returnGeneratedKeys, final PreparedStatement preparedStatement) {
+        CacheKey key = new CacheKey(sql, returnGeneratedKeys);
+        if (statements.containsKey(key)) {
+            return false;
+        }
+        statements.put(key, preparedStatement);
+        inUseStatements.add(preparedStatement);
+        evict();
+        return true;
+    }
+    
+    private void evict() {
+        Iterator<PreparedStatement> iterator = statements.values().iterator();
+        while (statements.size() > capacity && iterator.hasNext()) {
+            PreparedStatement each = iterator.next();
+            if (inUseStatements.contains(each)) {
+                continue;
+            }
+            iterator.remove();
+            try {
+                each.close();
+            } catch (final SQLException ignored) {
+            }
+        }
+    }
+    
+    /**
+     * Release statement borrowed from cache.
+     *
+     * @param statement statement to be released
+     * @return released or not, statement which is not from cache will not be released
+     */
+    public synchronized boolean release(final Statement statement) {
+        return inUseStatements.remove(statement);
+    }
+    
+    /**
+     * Close all cached prepared statements and clear cache.
+     *
+     * @return SQL exceptions when statements close
+     */
+    public synchronized Collection<SQLException> invalidate() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (Entry<CacheKey, PreparedStatement> entry : statements.entrySet()) {
+            try {
+                entry.getValue().close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        statements.clear();
+        inUseStatements.clear();
+        return result;
+    }
+    
+    /**
+     * Get hit rate.
+     *
+     * @return hit rate, 0 if never borrowed
+     */
+    public synchronized double getHitRate() {
+        long total = hitCount + missCount;
+        return 0 == total ? 0D : (double) hitCount / total;
+    }
+    
+    /**
+     * Get cached statement size.
+     *
+     * @return cached statement size
+     */
+    public synchronized int size() {
+        return statements.size();
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class CacheKey {
+        
+        private final String sql;
+        
+        private final boolean returnGeneratedKeys;
+    }
+}
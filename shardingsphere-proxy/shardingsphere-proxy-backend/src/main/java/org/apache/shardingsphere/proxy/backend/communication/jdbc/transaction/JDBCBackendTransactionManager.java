@@ -80,7 +80,11 @@ public final class JDBCBackendTransactionManager implements TransactionManager<V
                 } else {
                     shardingSphereTransactionManager.commit(connection.getConnectionSession().getTransactionStatus().isRollbackOnly());
                 }
+                if (!connection.getConnectionSession().getTransactionStatus().isRollbackOnly()) {
+                    connection.getConnectionSession().getConnectionWriteContext().commitPendingWrites();
+                }
             } finally {
+                connection.getConnectionSession().getConnectionWriteContext().clearPendingWrites();
                 connection.getConnectionSession().getTransactionStatus().setInTransaction(false);
                 connection.getConnectionSession().getTransactionStatus().setRollbackOnly(false);
                 TransactionHolder.clear();
@@ -100,6 +104,7 @@ public final class JDBCBackendTransactionManager implements TransactionManager<V
                     shardingSphereTransactionManager.rollback();
                 }
             } finally {
+                connection.getConnectionSession().getConnectionWriteContext().clearPendingWrites();
                 connection.getConnectionSession().getTransactionStatus().setInTransaction(false);
                 connection.getConnectionSession().getTransactionStatus().setRollbackOnly(false);
                 TransactionHolder.clear();
@@ -32,6 +32,7 @@ import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResp
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Vert.x database communication engine.
@@ -65,7 +66,12 @@ public final class VertxDatabaseCommunicationEngine extends DatabaseCommunicatio
             }
             reactiveProxySQLExecutor.checkExecutePrerequisites(executionContext);
             checkLockedDatabase(executionContext);
-            return reactiveProxySQLExecutor.execute(executionContext).compose(result -> {
+            return reactiveProxySQLExecutor.execute(executionContext).onComplete(result -> {
+                if (result.succeeded()) {
+                    commitPendingWritesIfAutoCommit();
+                }
+                clearPendingWritesIfAutoCommit();
+            }).compose(result -> {
                 try {
                     refreshMetaData(executionContext);
                     ExecuteResult executeResultSample = result.iterator().next();
@@ -87,4 +93,17 @@ public final class VertxDatabaseCommunicationEngine extends DatabaseCommunicatio
     public ResponseHeader execute() throws SQLException {
         throw new UnsupportedOperationException();
     }
+    
+    /**
+     * Close database communication engine.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Override
+    public void close() throws SQLException {
+        Optional<SQLException> ex = closeMergedResult();
+        if (ex.isPresent()) {
+            throw ex.get();
+        }
+    }
 }
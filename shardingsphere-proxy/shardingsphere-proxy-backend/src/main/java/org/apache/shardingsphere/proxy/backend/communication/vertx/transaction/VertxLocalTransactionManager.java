@@ -47,7 +47,12 @@ public final class VertxLocalTransactionManager implements TransactionManager<Fu
         }
         connection.getConnectionSession().getTransactionStatus().setInTransaction(false);
         connection.getConnectionPostProcessors().clear();
-        return connection.executeInAllCachedConnections("commit");
+        return connection.executeInAllCachedConnections("commit").onComplete(result -> {
+            if (result.succeeded()) {
+                connection.getConnectionSession().getConnectionWriteContext().commitPendingWrites();
+            }
+            connection.getConnectionSession().getConnectionWriteContext().clearPendingWrites();
+        });
     }
     
     @Override
@@ -57,6 +62,7 @@ public final class VertxLocalTransactionManager implements TransactionManager<Fu
         }
         connection.getConnectionSession().getTransactionStatus().setInTransaction(false);
         connection.getConnectionPostProcessors().clear();
+        connection.getConnectionSession().getConnectionWriteContext().clearPendingWrites();
         return connection.executeInAllCachedConnections("rollback");
     }
     
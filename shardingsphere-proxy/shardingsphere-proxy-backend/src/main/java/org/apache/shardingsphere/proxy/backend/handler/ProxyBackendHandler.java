@@ -21,6 +21,7 @@ import io.vertx.core.Future;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 
+import java.nio.charset.Charset;
 import java.sql.SQLException;
 import java.util.Collections;
 
@@ -70,6 +71,17 @@ public interface ProxyBackendHandler {
         return new QueryResponseRow(Collections.emptyList());
     }
     
+    /**
+     * Get row data which is relayed as raw bytes from storage node if possible.
+     *
+     * @param clientCharset character set of client
+     * @return row data
+     * @throws SQLException SQL exception
+     */
+    default QueryResponseRow getRelayedRowData(final Charset clientCharset) throws SQLException {
+        return getRowData();
+    }
+    
     /**
      * Close handler.
      *
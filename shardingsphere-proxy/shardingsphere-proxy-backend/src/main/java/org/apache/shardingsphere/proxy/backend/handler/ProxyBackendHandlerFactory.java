@@ -113,7 +113,7 @@ public final class ProxyBackendHandlerFactory {
         }
         SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabases(),
                 sqlStatement, connectionSession.getDefaultDatabaseName());
-        return newInstance(databaseType, new LogicSQL(sqlStatementContext, sql, Collections.emptyList()), connectionSession, false);
+        return newInstance(databaseType, new LogicSQL(sqlStatementContext, sql, Collections.emptyList(), connectionSession.getConnectionWriteContext()), connectionSession, false);
     }
     
     /**
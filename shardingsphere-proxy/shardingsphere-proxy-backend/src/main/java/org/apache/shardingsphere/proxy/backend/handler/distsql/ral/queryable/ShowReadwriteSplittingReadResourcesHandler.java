@@ -37,6 +37,8 @@ import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.NoDatabaseSelectedException;
 import org.apache.shardingsphere.proxy.backend.handler.distsql.ral.QueryableRALBackendHandler;
 import org.apache.shardingsphere.readwritesplitting.distsql.parser.statement.ShowReadwriteSplittingReadResourcesStatement;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReadDataSourceStatistics;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReadDataSourceStatisticsRegistry;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -47,6 +49,8 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -60,9 +64,13 @@ public final class ShowReadwriteSplittingReadResourcesHandler extends QueryableR
     
     private static final String DELAY_TIME = "delay_time(ms)";
     
+    private static final String IN_FLIGHT = "in_flight";
+    
+    private static final String RESPONSE_TIME = "response_time(us)";
+    
     @Override
     protected Collection<String> getColumnNames() {
-        return Arrays.asList(RESOURCE, STATUS, DELAY_TIME);
+        return Arrays.asList(RESOURCE, STATUS, DELAY_TIME, IN_FLIGHT, RESPONSE_TIME);
     }
     
     @Override
@@ -72,7 +80,7 @@ public final class ShowReadwriteSplittingReadResourcesHandler extends QueryableR
         ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(databaseName);
         Collection<String> allReadResources = getAllReadResources(database);
         Map<String, StorageNodeDataSource> persistentReadResources = getPersistentReadResources(databaseName, metaDataContexts.getPersistService());
-        return buildRows(allReadResources, persistentReadResources);
+        return buildRows(databaseName, allReadResources, persistentReadResources);
     }
     
     private String getDatabaseName() {
@@ -111,7 +119,7 @@ public final class ShowReadwriteSplittingReadResourcesHandler extends QueryableR
         return result;
     }
     
-    private Collection<LocalDataQueryResultRow> buildRows(final Collection<String> readResources, final Map<String, StorageNodeDataSource> persistentReadResources) {
+    private Collection<LocalDataQueryResultRow> buildRows(final String databaseName, final Collection<String> readResources, final Map<String, StorageNodeDataSource> persistentReadResources) {
         Map<String, Map<String, StorageNodeDataSource>> persistentReadResourceGroup = persistentReadResources.entrySet().stream()
                 .collect(Collectors.groupingBy(each -> each.getValue().getStatus().toUpperCase(), Collectors.toMap(Entry::getKey, Entry::getValue)));
         Map<String, StorageNodeDataSource> disabledReadResources = persistentReadResourceGroup.getOrDefault(StorageNodeStatus.DISABLED.name(), Collections.emptyMap());
@@ -119,19 +127,22 @@ public final class ShowReadwriteSplittingReadResourcesHandler extends QueryableR
         readResources.removeIf(disabledReadResources::containsKey);
         readResources.addAll(enabledReadResources.keySet());
         readResources.addAll(disabledReadResources.keySet());
-        return readResources.stream().map(each -> buildRow(each, disabledReadResources.get(each))).collect(Collectors.toList());
+        return readResources.stream().map(each -> buildRow(databaseName, each, disabledReadResources.get(each))).collect(Collectors.toList());
     }
     
     private LinkedList<String> deconstructString(final String str) {
         return new LinkedList<>(Arrays.asList(str.split(",")));
     }
     
-    private LocalDataQueryResultRow buildRow(final String resource, final StorageNodeDataSource storageNodeDataSource) {
+    private LocalDataQueryResultRow buildRow(final String databaseName, final String resource, final StorageNodeDataSource storageNodeDataSource) {
+        Optional<ReadDataSourceStatistics> statistics = ReadDataSourceStatisticsRegistry.find(databaseName, resource);
+        String inFlightCount = statistics.map(each -> Integer.toString(each.getInFlightCount())).orElse("0");
+        String responseTime = Long.toString(TimeUnit.NANOSECONDS.toMicros(statistics.map(ReadDataSourceStatistics::getResponseTimeNanos).orElse(0L)));
         if (null == storageNodeDataSource) {
-            return new LocalDataQueryResultRow(resource, StorageNodeStatus.ENABLED.name().toLowerCase(), "0");
+            return new LocalDataQueryResultRow(resource, StorageNodeStatus.ENABLED.name().toLowerCase(), "0", inFlightCount, responseTime);
         }
         long replicationDelayMilliseconds = storageNodeDataSource.getReplicationDelayMilliseconds();
         String status = StorageNodeStatus.valueOf(storageNodeDataSource.getStatus().toUpperCase()).name().toLowerCase();
-        return new LocalDataQueryResultRow(resource, status, Long.toString(replicationDelayMilliseconds));
+        return new LocalDataQueryResultRow(resource, status, Long.toString(replicationDelayMilliseconds), inFlightCount, responseTime);
     }
 }
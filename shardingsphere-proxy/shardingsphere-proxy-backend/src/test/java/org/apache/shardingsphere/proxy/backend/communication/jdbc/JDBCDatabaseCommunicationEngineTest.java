@@ -30,11 +30,13 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCPrefetchStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.federation.executor.FederationContext;
 import org.apache.shardingsphere.infra.federation.executor.FederationExecutor;
 import org.apache.shardingsphere.infra.federation.executor.FederationExecutorFactory;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -56,6 +58,7 @@ import org.apache.shardingsphere.proxy.backend.communication.jdbc.executor.callb
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.JDBCBackendStatement;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilderEngine;
 import org.apache.shardingsphere.proxy.backend.util.ProxyContextRestorer;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
@@ -63,6 +66,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Answers;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.internal.configuration.plugins.Plugins;
@@ -70,6 +74,8 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.mockito.plugins.MemberAccessor;
 
 import java.lang.reflect.Field;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -92,8 +98,10 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -198,6 +206,59 @@ public final class JDBCDatabaseCommunicationEngineTest extends ProxyContextResto
         }
     }
     
+    @Test
+    public void assertGetRelayedRowData() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        byte[] expected = "foo".getBytes(StandardCharsets.UTF_8);
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.getValue(1, byte[].class)).thenReturn(expected);
+        JDBCDatabaseCommunicationEngine engine = createEngineWithMergedResult(mergedResult, Types.VARCHAR, StandardCharsets.UTF_8);
+        QueryResponseRow actual = engine.getRelayedRowData(StandardCharsets.UTF_8);
+        assertThat(actual.getCells().get(0).getJdbcType(), is(Types.VARCHAR));
+        assertThat(actual.getCells().get(0).getData(), is(expected));
+    }
+    
+    @Test
+    public void assertGetRelayedRowDataWithTinyIntOne() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(Boolean.TRUE);
+        JDBCDatabaseCommunicationEngine engine = createEngineWithMergedResult(mergedResult, Types.BIT, StandardCharsets.UTF_8);
+        QueryResponseRow actual = engine.getRelayedRowData(StandardCharsets.UTF_8);
+        assertThat(actual.getCells().get(0).getJdbcType(), is(Types.BIT));
+        assertThat(actual.getCells().get(0).getData(), is(Boolean.TRUE));
+        verify(mergedResult, never()).getValue(1, byte[].class);
+    }
+    
+    @Test
+    public void assertGetRelayedRowDataWithDifferentClientCharset() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.getValue(1, Object.class)).thenReturn("foo");
+        JDBCDatabaseCommunicationEngine engine = createEngineWithMergedResult(mergedResult, Types.VARCHAR, StandardCharsets.UTF_8);
+        assertThat(engine.getRelayedRowData(StandardCharsets.ISO_8859_1).getCells().get(0).getData(), is("foo"));
+        verify(mergedResult, never()).getValue(1, byte[].class);
+    }
+    
+    @Test
+    public void assertGetRelayedRowDataWithNotRelayableQuery() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.getValue(1, Object.class)).thenReturn("foo");
+        JDBCDatabaseCommunicationEngine engine = createEngineWithMergedResult(mergedResult, Types.VARCHAR, null);
+        assertThat(engine.getRelayedRowData(StandardCharsets.UTF_8).getCells().get(0).getData(), is("foo"));
+    }
+    
+    private JDBCDatabaseCommunicationEngine createEngineWithMergedResult(final MergedResult mergedResult, final int columnType, final Charset relayCharset) throws NoSuchFieldException, IllegalAccessException {
+        SQLStatementContext<?> sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getSchemaNames()).thenReturn(Collections.emptyList());
+        JDBCDatabaseCommunicationEngine result =
+                DatabaseCommunicationEngineFactory.getInstance().newDatabaseCommunicationEngine(new LogicSQL(sqlStatementContext, "schemaName", Collections.emptyList()), backendConnection, false);
+        QueryHeader queryHeader = mock(QueryHeader.class);
+        when(queryHeader.getColumnType()).thenReturn(columnType);
+        MemberAccessor accessor = Plugins.getMemberAccessor();
+        accessor.set(DatabaseCommunicationEngine.class.getDeclaredField("queryHeaders"), result, Collections.singletonList(queryHeader));
+        accessor.set(DatabaseCommunicationEngine.class.getDeclaredField("mergedResult"), result, mergedResult);
+        accessor.set(DatabaseCommunicationEngine.class.getDeclaredField("relayCharset"), result, relayCharset);
+        return result;
+    }
+    
     private ShardingSphereDatabase createDatabaseMetaData() {
         ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
         ShardingSphereColumn column = new ShardingSphereColumn("order_id", Types.INTEGER, true, false, false);
@@ -264,6 +325,26 @@ public final class JDBCDatabaseCommunicationEngineTest extends ProxyContextResto
         assertTrue(cachedStatements.isEmpty());
     }
     
+    @Test
+    public void assertClosePrefetchQueryResultBeforeResultSetAndStatement() throws SQLException {
+        SQLStatementContext<?> sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getSchemaNames()).thenReturn(Collections.emptyList());
+        JDBCDatabaseCommunicationEngine engine =
+                DatabaseCommunicationEngineFactory.getInstance().newDatabaseCommunicationEngine(new LogicSQL(sqlStatementContext, "schemaName", Collections.emptyList()), backendConnection, false);
+        JDBCPrefetchStreamQueryResult prefetchQueryResult = mock(JDBCPrefetchStreamQueryResult.class);
+        engine.add(prefetchQueryResult);
+        engine.add(resultSet);
+        engine.add(statement);
+        engine.close();
+        InOrder inOrder = inOrder(prefetchQueryResult, resultSet, statement);
+        inOrder.verify(prefetchQueryResult).close();
+        inOrder.verify(resultSet).close();
+        inOrder.verify(statement).cancel();
+        inOrder.verify(statement).close();
+        Collection<JDBCPrefetchStreamQueryResult> cachedPrefetchQueryResults = getField(engine, "cachedPrefetchQueryResults");
+        assertTrue(cachedPrefetchQueryResults.isEmpty());
+    }
+    
     @Test
     public void assertCloseResultSetsWithExceptionThrown() throws SQLException {
         SQLStatementContext<?> sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.statement;
+
+import org.junit.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PreparedStatementCacheTest {
+    
+    @Test
+    public void assertBorrowAfterRelease() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        assertFalse(cache.borrow("SELECT 1", false).isPresent());
+        assertTrue(cache.put("SELECT 1", false, preparedStatement));
+        assertFalse(cache.borrow("SELECT 1", false).isPresent());
+        assertTrue(cache.release(preparedStatement));
+        assertThat(cache.borrow("SELECT 1", false).orElse(null), is(preparedStatement));
+        assertFalse(cache.borrow("SELECT 1", true).isPresent());
+        assertThat(cache.getHitCount(), is(1L));
+        assertThat(cache.getMissCount(), is(3L));
+        assertThat(cache.getHitRate(), is(0.25D));
+    }
+    
+    @Test
+    public void assertPutWithSameSQL() {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        assertTrue(cache.put("SELECT 1", false, mock(PreparedStatement.class)));
+        PreparedStatement uncached = mock(PreparedStatement.class);
+        assertFalse(cache.put("SELECT 1", false, uncached));
+        assertFalse(cache.release(uncached));
+    }
+    
+    @Test
+    public void assertEvictLeastRecentlyUsedStatement() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(1);
+        PreparedStatement first = mock(PreparedStatement.class);
+        PreparedStatement second = mock(PreparedStatement.class);
+        cache.put("SELECT 1", false, first);
+        cache.put("SELECT 2", false, second);
+        assertThat(cache.size(), is(2));
+        verify(first, never()).close();
+        cache.release(first);
+        cache.put("SELECT 3", false, mock(PreparedStatement.class));
+        verify(first).close();
+        verify(second, never()).close();
+    }
+    
+    @Test
+    public void assertBorrowClosedStatement() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(1);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        cache.put("SELECT 1", false, preparedStatement);
+        when(preparedStatement.isClosed()).thenReturn(true);
+        assertFalse(cache.borrow("SELECT 1", false).isPresent());
+        assertThat(cache.size(), is(0));
+    }
+    
+    @Test
+    public void assertInvalidate() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(1);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        cache.put("SELECT 1", false, preparedStatement);
+        assertTrue(cache.invalidate().isEmpty());
+        verify(preparedStatement).close();
+        assertThat(cache.size(), is(0));
+        assertFalse(cache.release(preparedStatement));
+    }
+}
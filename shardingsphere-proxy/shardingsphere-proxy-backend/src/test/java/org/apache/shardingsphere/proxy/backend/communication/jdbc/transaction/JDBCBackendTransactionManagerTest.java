@@ -19,6 +19,7 @@ package org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction;
 
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.session.ConnectionWriteContext;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -62,6 +63,9 @@ public final class JDBCBackendTransactionManagerTest extends ProxyContextRestore
     @Mock
     private ShardingSphereTransactionManager shardingSphereTransactionManager;
     
+    @Mock
+    private ConnectionWriteContext connectionWriteContext;
+    
     private JDBCBackendTransactionManager backendTransactionManager;
     
     @Before
@@ -110,14 +114,17 @@ public final class JDBCBackendTransactionManagerTest extends ProxyContextRestore
     @Test
     public void assertCommitForLocalTransaction() throws SQLException {
         newBackendTransactionManager(TransactionType.LOCAL, true);
+        when(connectionSession.getConnectionWriteContext()).thenReturn(connectionWriteContext);
         backendTransactionManager.commit();
         verify(transactionStatus).setInTransaction(false);
         verify(localTransactionManager).commit();
+        verify(connectionWriteContext).commitPendingWrites();
     }
     
     @Test
     public void assertCommitForDistributedTransaction() throws SQLException {
         newBackendTransactionManager(TransactionType.XA, true);
+        when(connectionSession.getConnectionWriteContext()).thenReturn(connectionWriteContext);
         backendTransactionManager.commit();
         verify(transactionStatus).setInTransaction(false);
         verify(shardingSphereTransactionManager).commit(false);
@@ -135,14 +142,18 @@ public final class JDBCBackendTransactionManagerTest extends ProxyContextRestore
     @Test
     public void assertRollbackForLocalTransaction() throws SQLException {
         newBackendTransactionManager(TransactionType.LOCAL, true);
+        when(connectionSession.getConnectionWriteContext()).thenReturn(connectionWriteContext);
         backendTransactionManager.rollback();
         verify(transactionStatus).setInTransaction(false);
         verify(localTransactionManager).rollback();
+        verify(connectionWriteContext).clearPendingWrites();
+        verify(connectionWriteContext, times(0)).commitPendingWrites();
     }
     
     @Test
     public void assertRollbackForDistributedTransaction() throws SQLException {
         newBackendTransactionManager(TransactionType.XA, true);
+        when(connectionSession.getConnectionWriteContext()).thenReturn(connectionWriteContext);
         backendTransactionManager.rollback();
         verify(transactionStatus).setInTransaction(false);
         verify(shardingSphereTransactionManager).rollback();
@@ -18,7 +18,10 @@
 package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadType;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 
 import java.util.concurrent.ExecutorService;
 
@@ -35,7 +38,8 @@ public final class UserExecutorGroup {
     private final ExecutorService executorService;
     
     private UserExecutorGroup() {
-        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT);
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT, ExecutorThreadType.valueFrom(
+                ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_TYPE)));
         executorService = executorServiceManager.getExecutorService();
     }
     
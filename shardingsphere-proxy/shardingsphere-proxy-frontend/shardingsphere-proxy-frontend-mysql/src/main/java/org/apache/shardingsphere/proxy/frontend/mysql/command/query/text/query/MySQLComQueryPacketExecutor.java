@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query;
 
 import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCharacterSet;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.admin.MySQLComSetOptionPacket;
@@ -45,6 +46,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.EmptyStatem
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 
+import java.nio.charset.Charset;
 import java.sql.SQLException;
 import java.util.Collection;
 
@@ -59,6 +61,8 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
     private final int characterSet;
     
+    private final Charset clientCharset;
+    
     @Getter
     private volatile ResponseType responseType;
     
@@ -70,7 +74,9 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
         SQLStatement sqlStatement = parseSql(packet.getSql(), databaseType);
         proxyBackendHandler = areMultiStatements(connectionSession, sqlStatement, packet.getSql()) ? new MySQLMultiStatementsHandler(connectionSession, sqlStatement, packet.getSql())
                 : ProxyBackendHandlerFactory.newInstance(databaseType, packet.getSql(), sqlStatement, connectionSession);
-        characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
+        MySQLCharacterSet mysqlCharacterSet = connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).get();
+        characterSet = mysqlCharacterSet.getId();
+        clientCharset = mysqlCharacterSet.getCharset();
     }
     
     private SQLStatement parseSql(final String sql, final DatabaseType databaseType) {
@@ -117,7 +123,7 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
     @Override
     public MySQLPacket getQueryRowPacket() throws SQLException {
-        return new MySQLTextResultSetRowPacket(++currentSequenceId, proxyBackendHandler.getRowData().getData());
+        return new MySQLTextResultSetRowPacket(++currentSequenceId, proxyBackendHandler.getRelayedRowData(clientCharset).getData());
     }
     
     @Override
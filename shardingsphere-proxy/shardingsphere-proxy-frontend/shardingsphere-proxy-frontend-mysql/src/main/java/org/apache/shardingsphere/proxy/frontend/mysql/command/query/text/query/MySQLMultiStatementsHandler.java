@@ -123,7 +123,7 @@ public final class MySQLMultiStatementsHandler implements ProxyBackendHandler {
     private LogicSQL createLogicSQL(final String sql, final SQLStatement sqlStatement) {
         SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(
                 metaDataContexts.getMetaData().getDatabases(), Collections.emptyList(), sqlStatement, connectionSession.getDatabaseName());
-        return new LogicSQL(sqlStatementContext, sql, Collections.emptyList());
+        return new LogicSQL(sqlStatementContext, sql, Collections.emptyList(), connectionSession.getConnectionWriteContext());
     }
     
     private ExecutionContext createExecutionContext(final LogicSQL logicSQL) {
@@ -168,7 +168,7 @@ public final class MySQLMultiStatementsHandler implements ProxyBackendHandler {
         boolean isExceptionThrown = SQLExecutorExceptionHandler.isExceptionThrown();
         DatabaseType databaseType = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName()).getResource().getDatabaseType();
         JDBCExecutorCallback<int[]> callback = new BatchedJDBCExecutorCallback(databaseType, sqlStatementSample, isExceptionThrown);
-        List<int[]> executeResults = jdbcExecutor.execute(executionGroupContext, callback);
+        List<int[]> executeResults = doExecute(executionGroupContext, callback);
         int updated = 0;
         for (int[] eachResult : executeResults) {
             for (int each : eachResult) {
@@ -179,6 +179,21 @@ public final class MySQLMultiStatementsHandler implements ProxyBackendHandler {
         return new UpdateResponseHeader(sqlStatementSample, Collections.singletonList(new UpdateResult(updated, 0L)));
     }
     
+    private List<int[]> doExecute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final JDBCExecutorCallback<int[]> callback) throws SQLException {
+        boolean autoCommit = !connectionSession.getTransactionStatus().isInTransaction();
+        try {
+            List<int[]> result = jdbcExecutor.execute(executionGroupContext, callback);
+            if (autoCommit) {
+                connectionSession.getConnectionWriteContext().commitPendingWrites();
+            }
+            return result;
+        } finally {
+            if (autoCommit) {
+                connectionSession.getConnectionWriteContext().clearPendingWrites();
+            }
+        }
+    }
+    
     private static class BatchedJDBCExecutorCallback extends JDBCExecutorCallback<int[]> {
         
         BatchedJDBCExecutorCallback(final DatabaseType databaseType, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
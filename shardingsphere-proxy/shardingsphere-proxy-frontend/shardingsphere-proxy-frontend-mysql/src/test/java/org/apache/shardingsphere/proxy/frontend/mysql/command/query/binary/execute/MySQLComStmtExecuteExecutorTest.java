@@ -39,6 +39,7 @@ import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerCon
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.session.ConnectionWriteContext;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
@@ -88,6 +89,7 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -202,6 +204,23 @@ public final class MySQLComStmtExecuteExecutorTest extends ProxyContextRestorer
         assertFalse(actual.hasNext());
     }
     
+    @Test
+    public void assertExecuteWithConnectionWriteContext() throws SQLException {
+        ConnectionWriteContext connectionWriteContext = new ConnectionWriteContext();
+        when(connectionSession.getConnectionWriteContext()).thenReturn(connectionWriteContext);
+        MySQLComStmtExecutePacket packet = mock(MySQLComStmtExecutePacket.class);
+        when(packet.getStatementId()).thenReturn(2);
+        MySQLComStmtExecuteExecutor mysqlComStmtExecuteExecutor = new MySQLComStmtExecuteExecutor(packet, connectionSession);
+        when(proxyBackendHandler.execute()).thenReturn(new UpdateResponseHeader(new MySQLUpdateStatement()));
+        try (MockedStatic<ProxyBackendHandlerFactory> mockedStatic = mockStatic(ProxyBackendHandlerFactory.class)) {
+            mockedStatic.when(() -> ProxyBackendHandlerFactory.newInstance(any(MySQLDatabaseType.class), any(LogicSQL.class), eq(connectionSession), anyBoolean()))
+                    .thenReturn(proxyBackendHandler);
+            mysqlComStmtExecuteExecutor.execute();
+            mockedStatic.verify(() -> ProxyBackendHandlerFactory.newInstance(
+                    any(MySQLDatabaseType.class), argThat((LogicSQL each) -> connectionWriteContext == each.getConnectionWriteContext()), eq(connectionSession), eq(true)));
+        }
+    }
+    
     @Test
     public void assertExecutePreparedCommit() throws SQLException {
         MySQLComStmtExecutePacket packet = mock(MySQLComStmtExecutePacket.class);
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.session.ConnectionWriteContext;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
@@ -48,6 +49,7 @@ import java.util.Collections;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
@@ -74,6 +76,25 @@ public final class MySQLMultiStatementsHandlerTest {
     
     @Test
     public void assertExecute() throws SQLException {
+        MySQLUpdateStatement expectedStatement = mock(MySQLUpdateStatement.class);
+        ResponseHeader actual = execute(expectedStatement);
+        assertThat(actual, instanceOf(UpdateResponseHeader.class));
+        UpdateResponseHeader actualHeader = (UpdateResponseHeader) actual;
+        assertThat(actualHeader.getUpdateCount(), is(3L));
+        assertThat(actualHeader.getLastInsertId(), is(0L));
+        assertThat(actualHeader.getSqlStatement(), is(expectedStatement));
+    }
+    
+    @Test
+    public void assertExecuteCommitPendingWritesInAutoCommit() throws SQLException {
+        ConnectionWriteContext connectionWriteContext = new ConnectionWriteContext();
+        connectionWriteContext.addPendingWrite("readwrite_ds");
+        when(connectionSession.getConnectionWriteContext()).thenReturn(connectionWriteContext);
+        execute(mock(MySQLUpdateStatement.class));
+        assertTrue(connectionWriteContext.findLastWriteNanoTime("readwrite_ds").isPresent());
+    }
+    
+    private ResponseHeader execute(final MySQLUpdateStatement sqlStatement) throws SQLException {
         final String sql = "update t set v=v+1 where id=1;update t set v=v+1 where id=2;update t set v=v+1 where id=3";
         when(connectionSession.getDatabaseName()).thenReturn("");
         when(connectionSession.getBackendConnection()).thenReturn(backendConnection);
@@ -85,7 +106,6 @@ public final class MySQLMultiStatementsHandlerTest {
         when(backendStatement.createStorageResource(eq(connection), any(ConnectionMode.class), any(StatementOption.class))).thenReturn(statement);
         when(statement.getConnection()).thenReturn(connection);
         when(statement.executeBatch()).thenReturn(new int[]{1, 1, 1});
-        MySQLUpdateStatement expectedStatement = mock(MySQLUpdateStatement.class);
         try (MockedStatic<ProxyContext> mockedStatic = mockStatic(ProxyContext.class)) {
             mockedStatic.when(ProxyContext::getInstance).thenReturn(proxyContext);
             when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabase("").getResource().getDatabaseType()).thenReturn(new MySQLDatabaseType());
@@ -98,12 +118,7 @@ public final class MySQLMultiStatementsHandlerTest {
             when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)).thenReturn(false);
             when(ProxyContext.getInstance()
                     .getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY)).thenReturn(1);
-            ResponseHeader actual = new MySQLMultiStatementsHandler(connectionSession, expectedStatement, sql).execute();
-            assertThat(actual, instanceOf(UpdateResponseHeader.class));
-            UpdateResponseHeader actualHeader = (UpdateResponseHeader) actual;
-            assertThat(actualHeader.getUpdateCount(), is(3L));
-            assertThat(actualHeader.getLastInsertId(), is(0L));
-            assertThat(actualHeader.getSqlStatement(), is(expectedStatement));
+            return new MySQLMultiStatementsHandler(connectionSession, sqlStatement, sql).execute();
         }
     }
 }
@@ -97,7 +97,7 @@ public final class JDBCPortal implements Portal<Void> {
             ((ParameterAware) sqlStatementContext).setUpParameters(parameters);
         }
         DatabaseType databaseType = getDatabaseType(databaseName);
-        LogicSQL logicSQL = new LogicSQL(sqlStatementContext, preparedStatement.getSql(), parameters);
+        LogicSQL logicSQL = new LogicSQL(sqlStatementContext, preparedStatement.getSql(), parameters, backendConnection.getConnectionSession().getConnectionWriteContext());
         proxyBackendHandler = ProxyBackendHandlerFactory.newInstance(databaseType, logicSQL, backendConnection.getConnectionSession(), true);
     }
     
@@ -120,7 +120,7 @@ public final class PostgreSQLBatchedStatementsExecutor {
     }
     
     private LogicSQL createLogicSQL(final SQLStatementContext<?> sqlStatementContext, final List<Object> parameters) {
-        return new LogicSQL(sqlStatementContext, preparedStatement.getSql(), parameters);
+        return new LogicSQL(sqlStatementContext, preparedStatement.getSql(), parameters, connectionSession.getConnectionWriteContext());
     }
     
     private ExecutionContext createExecutionContext(final LogicSQL logicSQL) {
@@ -178,7 +178,7 @@ public final class PostgreSQLBatchedStatementsExecutor {
         DatabaseType databaseType = database.getResource().getDatabaseType();
         DatabaseType protocolType = database.getProtocolType();
         JDBCExecutorCallback<int[]> callback = new BatchedStatementsJDBCExecutorCallback(protocolType, databaseType, preparedStatement.getSqlStatement(), isExceptionThrown);
-        List<int[]> executeResults = jdbcExecutor.execute(executionGroupContext, callback);
+        List<int[]> executeResults = doExecute(callback);
         int result = 0;
         for (int[] eachResult : executeResults) {
             for (int each : eachResult) {
@@ -188,6 +188,21 @@ public final class PostgreSQLBatchedStatementsExecutor {
         return result;
     }
     
+    private List<int[]> doExecute(final JDBCExecutorCallback<int[]> callback) throws SQLException {
+        boolean autoCommit = !connectionSession.getTransactionStatus().isInTransaction();
+        try {
+            List<int[]> result = jdbcExecutor.execute(executionGroupContext, callback);
+            if (autoCommit) {
+                connectionSession.getConnectionWriteContext().commitPendingWrites();
+            }
+            return result;
+        } finally {
+            if (autoCommit) {
+                connectionSession.getConnectionWriteContext().clearPendingWrites();
+            }
+        }
+    }
+    
     private static class BatchedStatementsJDBCExecutorCallback extends JDBCExecutorCallback<int[]> {
         
         BatchedStatementsJDBCExecutorCallback(final DatabaseType protocolType, final DatabaseType databaseType, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
@@ -108,7 +108,7 @@ public final class ReactiveMySQLComStmtExecuteExecutor implements ReactiveComman
             proxyBackendHandler = ProxyBackendHandlerFactory.newInstance(DatabaseTypeFactory.getInstance("MySQL"), preparedStatement.getSql(), sqlStatement, connectionSession);
         } else {
             databaseCommunicationEngine = DatabaseCommunicationEngineFactory.getInstance()
-                    .newDatabaseCommunicationEngine(new LogicSQL(sqlStatementContext, preparedStatement.getSql(), parameters), connectionSession.getBackendConnection(), true);
+                    .newDatabaseCommunicationEngine(new LogicSQL(sqlStatementContext, preparedStatement.getSql(), parameters, connectionSession.getConnectionWriteContext()), connectionSession.getBackendConnection(), true);
         }
         return (null != databaseCommunicationEngine ? databaseCommunicationEngine.executeFuture() : proxyBackendHandler.executeFuture()).compose(responseHeader -> {
             Collection<DatabasePacket<?>> headerPackets = responseHeader instanceof QueryResponseHeader ? processQuery((QueryResponseHeader) responseHeader, characterSet)
@@ -179,6 +179,9 @@ public final class ReactiveMySQLComStmtExecuteExecutor implements ReactiveComman
             if (null != proxyBackendHandler) {
                 proxyBackendHandler.close();
             }
+            if (null != databaseCommunicationEngine) {
+                databaseCommunicationEngine.close();
+            }
             return Future.succeededFuture();
         } catch (final SQLException ex) {
             return Future.failedFuture(ex);
@@ -98,4 +98,14 @@ public final class ReactiveMySQLComFieldListPacketExecutor implements ReactiveCo
         result.add(new MySQLEofPacket(++currentSequenceId, ServerStatusFlagCalculator.calculateFor(connectionSession)));
         return result;
     }
+    
+    @Override
+    public Future<Void> closeFuture() {
+        try {
+            databaseCommunicationEngine.close();
+            return Future.succeededFuture();
+        } catch (final SQLException ex) {
+            return Future.failedFuture(ex);
+        }
+    }
 }
@@ -42,6 +42,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -49,9 +50,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -129,6 +134,20 @@ public final class AbstractImporterTest {
         verify(preparedStatement).executeUpdate();
     }
     
+    @Test
+    public void assertBatchUpdateDataRecords() throws SQLException {
+        DataRecord updateRecord1 = getDataRecord("UPDATE");
+        DataRecord updateRecord2 = getDataRecord("UPDATE", 2);
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1, 1});
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(mockRecords(updateRecord1, updateRecord2));
+        jdbcImporter.run();
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement).executeBatch();
+        verify(preparedStatement, never()).executeUpdate();
+        assertThat(jdbcImporter.getMetrics().getRowCount("UPDATE"), is(2L));
+    }
+    
     @Test
     public void assertUpdatePrimaryKeyDataRecord() throws SQLException {
         DataRecord updateRecord = getUpdatePrimaryKeyDataRecord();
@@ -158,18 +177,21 @@ public final class AbstractImporterTest {
         return RecordUtil.extractConditionColumns(dataRecord, Collections.singleton("user"));
     }
     
-    private List<Record> mockRecords(final DataRecord dataRecord) {
-        List<Record> result = new LinkedList<>();
-        result.add(dataRecord);
+    private List<Record> mockRecords(final DataRecord... dataRecords) {
+        List<Record> result = new LinkedList<>(Arrays.asList(dataRecords));
         result.add(new FinishedRecord(new PlaceholderPosition()));
         return result;
     }
     
     private DataRecord getDataRecord(final String recordType) {
+        return getDataRecord(recordType, 1);
+    }
+    
+    private DataRecord getDataRecord(final String recordType, final int id) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 3);
         result.setTableName(TABLE_NAME);
         result.setType(recordType);
-        result.addColumn(new Column("id", 1, false, true));
+        result.addColumn(new Column("id", id, false, true));
         result.addColumn(new Column("user", 10, true, false));
         result.addColumn(new Column("status", recordType, true, false));
         return result;
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ImporterMetricsTest {
+    
+    @Test
+    public void assertRecord() {
+        ImporterMetrics metrics = new ImporterMetrics();
+        metrics.record("INSERT", 100, TimeUnit.MILLISECONDS.toNanos(500L));
+        metrics.record("INSERT", 100, TimeUnit.MILLISECONDS.toNanos(500L));
+        assertThat(metrics.getRowCount("INSERT"), is(200L));
+        assertThat(metrics.getRowsPerSecond("INSERT"), is(200D));
+    }
+    
+    @Test
+    public void assertGetRowsPerSecondWithoutRecord() {
+        ImporterMetrics metrics = new ImporterMetrics();
+        assertThat(metrics.getRowCount("UPDATE"), is(0L));
+        assertThat(metrics.getRowsPerSecond("UPDATE"), is(0D));
+    }
+}
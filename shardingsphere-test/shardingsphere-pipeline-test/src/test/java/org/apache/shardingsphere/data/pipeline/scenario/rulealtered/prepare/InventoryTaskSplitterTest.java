@@ -96,6 +96,27 @@ public final class InventoryTaskSplitterTest {
         assertThat(((IntegerPrimaryKeyPosition) actual.get(9).getProgress().getPosition()).getEndValue(), is(100L));
     }
     
+    @Test
+    public void assertSplitInventoryDataWithNegativeIntPrimary() throws SQLException {
+        initIntPrimaryEnvironment(taskConfig.getDumperConfig(), -49, 50, 1);
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext);
+        assertThat(actual.size(), is(10));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(0).getProgress().getPosition()).getBeginValue(), is(-49L));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(0).getProgress().getPosition()).getEndValue(), is(-40L));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(9).getProgress().getPosition()).getEndValue(), is(50L));
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithSparseIntPrimary() throws SQLException {
+        initIntPrimaryEnvironment(taskConfig.getDumperConfig(), 10, 1000, 10);
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext);
+        assertThat(actual.size(), is(10));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(0).getProgress().getPosition()).getBeginValue(), is(10L));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(0).getProgress().getPosition()).getEndValue(), is(100L));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(9).getProgress().getPosition()).getBeginValue(), is(910L));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(9).getProgress().getPosition()).getEndValue(), is(1000L));
+    }
+    
     @Test
     public void assertSplitInventoryDataWithCharPrimary() throws SQLException {
         initCharPrimaryEnvironment(taskConfig.getDumperConfig());
@@ -132,13 +153,17 @@ public final class InventoryTaskSplitterTest {
     }
     
     private void initIntPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
+        initIntPrimaryEnvironment(dumperConfig, 1, 100, 1);
+    }
+    
+    private void initIntPrimaryEnvironment(final DumperConfiguration dumperConfig, final int minId, final int maxId, final int step) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
         try (
                 Connection connection = dataSource.getConnection();
                 Statement statement = connection.createStatement()) {
             statement.execute("DROP TABLE IF EXISTS t_order");
             statement.execute("CREATE TABLE t_order (order_id INT PRIMARY KEY, user_id VARCHAR(12))");
-            for (int i = 1; i <= 100; i++) {
+            for (int i = minId; i <= maxId; i += step) {
                 statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (%d, 'x')", i));
             }
         }
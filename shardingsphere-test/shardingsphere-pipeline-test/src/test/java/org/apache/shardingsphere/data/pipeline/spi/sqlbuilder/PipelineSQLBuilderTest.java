@@ -59,6 +59,12 @@ public final class PipelineSQLBuilderTest {
         assertThat(actual, is("UPDATE `t2` SET `c1` = ?,`c2` = ?,`c3` = ? WHERE `id` = ? and `sc` = ?"));
     }
     
+    @Test
+    public void assertBuildUniqueKeyMinMaxSQL() {
+        String actual = pipelineSQLBuilder.buildUniqueKeyMinMaxSQL(null, "t_order", "order_id");
+        assertThat(actual, is("SELECT MIN(`order_id`), MAX(`order_id`) FROM `t_order`"));
+    }
+    
     @Test
     public void assertBuildDeleteSQLWithPrimaryKey() {
         String actual = pipelineSQLBuilder.buildDeleteSQL(null, mockDataRecord("t3"), RecordUtil.extractPrimaryColumns(mockDataRecord("t3")));